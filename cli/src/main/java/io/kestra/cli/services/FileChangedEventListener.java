@@ -8,6 +8,7 @@ import io.kestra.core.repositories.FlowRepositoryInterface;
 import io.kestra.core.serializers.YamlParser;
 import io.kestra.core.services.FlowListenersInterface;
 import io.kestra.core.services.PluginDefaultService;
+import io.kestra.core.utils.Hashing;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.annotation.Value;
 import io.micronaut.scheduling.io.watch.FileWatchConfiguration;
@@ -21,9 +22,16 @@ import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.file.*;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 @Singleton
 @Slf4j
@@ -55,8 +63,17 @@ public class FileChangedEventListener {
 
     FlowFilesManager flowFilesManager;
 
+    @Value("${kestra.flow-watch.debounce:500ms}")
+    private Duration debounce;
+
+    @Value("${kestra.flow-watch.max-batch-delay:5s}")
+    private Duration maxBatchDelay;
+
     private List<FlowWithPath> flows = new ArrayList<>();
 
+    // hash of the content of each file when it was last synced with the repository
+    private final Map<Path, String> syncedHashes = new ConcurrentHashMap<>();
+
     private boolean isStarted = false;
 
 
@@ -120,71 +137,133 @@ public class FileChangedEventListener {
 
         WatchKey key;
         while ((key = watchService.take()) != null) {
-            for (WatchEvent<?> watchEvent : key.pollEvents()) {
-                try {
-                    WatchEvent.Kind<?> kind = watchEvent.kind();
-                    Path entry = (Path) watchEvent.context();
-
-                    if (entry.toString().endsWith(".yml") || entry.toString().endsWith(".yaml")) {
-
-                        if (kind == StandardWatchEventKinds.ENTRY_CREATE || kind == StandardWatchEventKinds.ENTRY_MODIFY) {
-
-                            Path filePath = ((Path) key.watchable()).resolve(entry);
-                            if (Files.isDirectory(filePath)) {
-                                loadFlowsFromFolder(filePath);
-                            } else {
-
-                                try {
-                                    String content = Files.readString(filePath, Charset.defaultCharset());
-
-                                    Optional<Flow> flow = parseFlow(content, entry);
-                                    if (flow.isPresent()) {
-                                        if (kind == StandardWatchEventKinds.ENTRY_MODIFY) {
-                                            // Check if we already have a file with the given path
-                                            if (flows.stream().anyMatch(flowWithPath -> flowWithPath.getPath().equals(filePath.toString()))) {
-                                                Optional<FlowWithPath> previous = flows.stream().filter(flowWithPath -> flowWithPath.getPath().equals(filePath.toString())).findFirst();
-                                                // Check if Flow from file has id/namespace updated
-                                                if (previous.isPresent() && !previous.get().uidWithoutRevision().equals(flow.get().uidWithoutRevision())) {
-                                                    flows.removeIf(flowWithPath -> flowWithPath.getPath().equals(filePath.toString()));
-                                                    flowFilesManager.deleteFlow(previous.get().getTenantId(), previous.get().getNamespace(), previous.get().getId());
-                                                    flows.add(FlowWithPath.of(flow.get(), filePath.toString()));
-                                                }
-                                            } else {
-                                                flows.add(FlowWithPath.of(flow.get(), filePath.toString()));
-                                            }
-                                        } else {
-                                            flows.add(FlowWithPath.of(flow.get(), filePath.toString()));
-                                        }
-
-                                        flowFilesManager.createOrUpdateFlow(flow.get(), content);
-                                        log.info("Flow {} from file {} has been created or modified", flow.get().getId(), entry);
-                                    }
-
-                                } catch (NoSuchFileException e) {
-                                    log.error("File not found: {}", entry, e);
-                                } catch (IOException e) {
-                                    log.error("Error reading file: {}", entry, e);
-                                }
-                            }
-                        } else {
-                            Path filePath = ((Path) key.watchable()).resolve(entry);
-                            flows.stream()
-                                .filter(flow -> flow.getPath().equals(filePath.toString()))
-                                .findFirst()
-                                .ifPresent(flowWithPath -> {
-                                    flowFilesManager.deleteFlow(flowWithPath.getTenantId(), flowWithPath.getNamespace(), flowWithPath.getId());
-                                    this.flows.removeIf(fwp -> fwp.uidWithoutRevision().equals(flowWithPath.uidWithoutRevision()));
-                                });
-                        }
-                    }
-                } catch (Exception e) {
-                    log.error("Unexpected error while watching flows", e);
+            // debounce: collect the events until none is received during the debounce window, so a bulk change is applied at once,
+            // but no longer than the max batch delay so files that keep changing are still synced
+            Map<Path, WatchEvent.Kind<?>> changes = new LinkedHashMap<>();
+            Instant batchEnd = Instant.now().plus(maxBatchDelay);
+            do {
+                this.collectChanges(key, changes);
+                key.reset();
+
+                long wait = Math.min(debounce.toMillis(), Duration.between(Instant.now(), batchEnd).toMillis());
+                if (wait <= 0) {
+                    break;
+                }
+                key = watchService.poll(wait, TimeUnit.MILLISECONDS);
+            } while (key != null);
+
+            try {
+                this.applyChanges(changes);
+            } catch (Exception e) {
+                log.error("Unexpected error while watching flows", e);
+            }
+        }
+    }
+
+    private void collectChanges(WatchKey key, Map<Path, WatchEvent.Kind<?>> changes) {
+        for (WatchEvent<?> watchEvent : key.pollEvents()) {
+            if (!(watchEvent.context() instanceof Path entry) || !(entry.toString().endsWith(".yml") || entry.toString().endsWith(".yaml"))) {
+                continue;
+            }
+
+            WatchEvent.Kind<?> kind = watchEvent.kind();
+            Path filePath = ((Path) key.watchable()).resolve(entry);
+
+            if (kind != StandardWatchEventKinds.ENTRY_DELETE && Files.isDirectory(filePath)) {
+                loadFlowsFromFolder(filePath);
+                continue;
+            }
+
+            // the last event wins, but a file created then modified during the window is still a creation
+            WatchEvent.Kind<?> previous = changes.remove(filePath);
+            changes.put(filePath, previous == StandardWatchEventKinds.ENTRY_CREATE && kind == StandardWatchEventKinds.ENTRY_MODIFY ? previous : kind);
+        }
+    }
+
+    private void applyChanges(Map<Path, WatchEvent.Kind<?>> changes) {
+        // read and parse the created or modified files in parallel, the files with an already synced content are skipped
+        List<ChangedFile> changedFiles = changes.entrySet()
+            .parallelStream()
+            .filter(change -> change.getValue() != StandardWatchEventKinds.ENTRY_DELETE)
+            .map(change -> this.readChangedFile(change.getKey(), change.getValue()))
+            .filter(Objects::nonNull)
+            .toList();
+
+        changes.forEach((filePath, kind) -> {
+            if (kind == StandardWatchEventKinds.ENTRY_DELETE) {
+                syncedHashes.remove(filePath);
+                flows.stream()
+                    .filter(flow -> flow.getPath().equals(filePath.toString()))
+                    .findFirst()
+                    .ifPresent(flowWithPath -> {
+                        flowFilesManager.deleteFlow(flowWithPath.getTenantId(), flowWithPath.getNamespace(), flowWithPath.getId());
+                        this.flows.removeIf(fwp -> fwp.uidWithoutRevision().equals(flowWithPath.uidWithoutRevision()));
+                    });
+            }
+        });
+
+        for (ChangedFile changedFile : changedFiles) {
+            try {
+                this.applyChangedFile(changedFile);
+            } catch (Exception e) {
+                log.error("Unexpected error while syncing the flow file {}", changedFile.path(), e);
+            }
+        }
+    }
+
+    private ChangedFile readChangedFile(Path filePath, WatchEvent.Kind<?> kind) {
+        try {
+            String content = Files.readString(filePath, Charset.defaultCharset());
+            String hash = Hashing.hashToString(content);
+            if (hash.equals(syncedHashes.get(filePath))) {
+                return null;
+            }
+
+            return new ChangedFile(filePath, kind, content, hash, parseFlow(content, filePath));
+        } catch (NoSuchFileException e) {
+            log.error("File not found: {}", filePath, e);
+        } catch (IOException e) {
+            log.error("Error reading file: {}", filePath, e);
+        } catch (Exception e) {
+            log.error("Unexpected error while parsing the flow file {}", filePath, e);
+        }
+
+        return null;
+    }
+
+    private void applyChangedFile(ChangedFile changedFile) {
+        Path filePath = changedFile.path();
+        Optional<Flow> flow = changedFile.flow();
+
+        // an invalid content will stay invalid, no need to parse it again
+        syncedHashes.put(filePath, changedFile.hash());
+        if (flow.isEmpty()) {
+            return;
+        }
+
+        if (changedFile.kind() == StandardWatchEventKinds.ENTRY_MODIFY) {
+            // Check if we already have a file with the given path
+            if (flows.stream().anyMatch(flowWithPath -> flowWithPath.getPath().equals(filePath.toString()))) {
+                Optional<FlowWithPath> previous = flows.stream().filter(flowWithPath -> flowWithPath.getPath().equals(filePath.toString())).findFirst();
+                // Check if Flow from file has id/namespace updated
+                if (previous.isPresent() && !previous.get().uidWithoutRevision().equals(flow.get().uidWithoutRevision())) {
+                    flows.removeIf(flowWithPath -> flowWithPath.getPath().equals(filePath.toString()));
+                    flowFilesManager.deleteFlow(previous.get().getTenantId(), previous.get().getNamespace(), previous.get().getId());
+                    flows.add(FlowWithPath.of(flow.get(), filePath.toString()));
                 }
+            } else {
+                flows.add(FlowWithPath.of(flow.get(), filePath.toString()));
             }
-            key.reset();
+        } else {
+            flows.add(FlowWithPath.of(flow.get(), filePath.toString()));
         }
+
+        flowFilesManager.createOrUpdateFlow(flow.get(), changedFile.content());
+        log.info("Flow {} from file {} has been created or modified", flow.get().getId(), filePath.getFileName());
     }
 
+    private record ChangedFile(Path path, WatchEvent.Kind<?> kind, String content, String hash, Optional<Flow> flow) {}
+
     private void setup(List<Path> folders) {
         for (Path folder : folders) {
             this.loadFlowsFromFolder(folder);
@@ -209,6 +288,7 @@ public class FileChangedEventListener {
                         String content = Files.readString(file, Charset.defaultCharset());
                         Optional<Flow> flow = parseFlow(content, file);
 
+                        syncedHashes.put(file, Hashing.hashToString(content));
                         if (flow.isPresent() && flows.stream().noneMatch(flowWithPath -> flowWithPath.uidWithoutRevision().equals(flow.get().uidWithoutRevision()))) {
                             flows.add(FlowWithPath.of(flow.get(), file.toString()));
                             flowFilesManager.createOrUpdateFlow(flow.get(), content);
@@ -227,6 +307,8 @@ public class FileChangedEventListener {
         Path defaultPath = path != null ? path : this.buildPath(flow);
 
         try {
+            // the resulting file event will be skipped as the content is already synced
+            syncedHashes.put(defaultPath, Hashing.hashToString(flow.getSource()));
             Files.writeString(defaultPath, flow.getSource());
             log.info("Flow {} has been written to file {}", flow.getId(), defaultPath);
         } catch (IOException e) {
@@ -249,6 +331,7 @@ public class FileChangedEventListener {
 
     private void deleteFile(Path file) {
         try {
+            syncedHashes.remove(file);
             if (Files.deleteIfExists(file)) {
                 log.info("File {} has been deleted successfully.", file);
             } else {
@@ -128,4 +128,81 @@ class FileChangedEventListenerTest {
             Duration.ofSeconds(10)
         );
     }
-}
\ No newline at end of file
+
+    @RetryingTest(5) // Flaky on CI but always pass locally
+    void testCoalesceChanges() throws IOException, TimeoutException {
+        // remove the flow if it already exists
+        flowRepository.findByIdWithSource(null, "io.kestra.tests.watch", "coalesced").ifPresent(flow -> flowRepository.delete(flow));
+        int revisions = flowRepository.findRevisions(null, "io.kestra.tests.watch", "coalesced").size();
+
+        // write the file several times in a row, the changes are applied at once with the last content
+        for (int i = 1; i <= 3; i++) {
+            Files.write(Path.of(FILE_WATCH + "/coalesced.yaml"), logFlow("coalesced", "Hello " + i).getBytes());
+        }
+        Await.until(
+            () -> flowRepository.findById(null, "io.kestra.tests.watch", "coalesced")
+                .filter(flow -> flow.getDescription() != null && flow.getDescription().equals("Hello 3"))
+                .isPresent(),
+            Duration.ofMillis(100),
+            Duration.ofSeconds(10)
+        );
+        assertThat(flowRepository.findRevisions(null, "io.kestra.tests.watch", "coalesced"), hasSize(revisions + 1));
+
+        // delete the flow
+        Files.delete(Path.of(FILE_WATCH + "/coalesced.yaml"));
+        Await.until(
+            () -> flowRepository.findById(null, "io.kestra.tests.watch", "coalesced").isEmpty(),
+            Duration.ofMillis(100),
+            Duration.ofSeconds(10)
+        );
+    }
+
+    @RetryingTest(5) // Flaky on CI but always pass locally
+    void testSkipUnchangedContent() throws IOException, TimeoutException {
+        // remove the flows if they already exist
+        flowRepository.findByIdWithSource(null, "io.kestra.tests.watch", "unchanged").ifPresent(flow -> flowRepository.delete(flow));
+        flowRepository.findByIdWithSource(null, "io.kestra.tests.watch", "marker").ifPresent(flow -> flowRepository.delete(flow));
+
+        String unchanged = logFlow("unchanged", "Hello");
+        Files.write(Path.of(FILE_WATCH + "/unchanged.yaml"), unchanged.getBytes());
+        Await.until(
+            () -> flowRepository.findById(null, "io.kestra.tests.watch", "unchanged").isPresent(),
+            Duration.ofMillis(100),
+            Duration.ofSeconds(10)
+        );
+        int revisions = flowRepository.findRevisions(null, "io.kestra.tests.watch", "unchanged").size();
+
+        // write the same content again, then another file: once the later is synced, the former was handled too
+        Files.write(Path.of(FILE_WATCH + "/unchanged.yaml"), unchanged.getBytes());
+        Files.write(Path.of(FILE_WATCH + "/marker.yaml"), logFlow("marker", "Hello").getBytes());
+        Await.until(
+            () -> flowRepository.findById(null, "io.kestra.tests.watch", "marker").isPresent(),
+            Duration.ofMillis(100),
+            Duration.ofSeconds(10)
+        );
+        assertThat(flowRepository.findRevisions(null, "io.kestra.tests.watch", "unchanged"), hasSize(revisions));
+
+        // delete the flows
+        Files.delete(Path.of(FILE_WATCH + "/unchanged.yaml"));
+        Files.delete(Path.of(FILE_WATCH + "/marker.yaml"));
+        Await.until(
+            () -> flowRepository.findById(null, "io.kestra.tests.watch", "unchanged").isEmpty() &&
+                flowRepository.findById(null, "io.kestra.tests.watch", "marker").isEmpty(),
+            Duration.ofMillis(100),
+            Duration.ofSeconds(10)
+        );
+    }
+
+    private static String logFlow(String id, String description) {
+        return """
+            id: %s
+            namespace: io.kestra.tests.watch
+            description: %s
+
+            tasks:
+              - id: hello
+                type: io.kestra.plugin.core.log.Log
+                message: Hello World!
+            """.formatted(id, description);
+    }
+}
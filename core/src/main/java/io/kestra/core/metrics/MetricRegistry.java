@@ -42,6 +42,7 @@ public class MetricRegistry {
     public static final String EXECUTOR_EXECUTION_STARTED_COUNT = "executor.execution.started.count";
     public static final String EXECUTOR_EXECUTION_END_COUNT = "executor.execution.end.count";
     public static final String EXECUTOR_EXECUTION_DURATION = "executor.execution.duration";
+    public static final String EXECUTOR_EXECUTION_DELAY_LAG = "executor.execution.delay.lag";
 
     public static final String METRIC_INDEXER_REQUEST_COUNT = "indexer.request.count";
     public static final String METRIC_INDEXER_REQUEST_DURATION = "indexer.request.duration";
@@ -61,9 +62,18 @@ public class MetricRegistry {
     public static final String STREAMS_STATE_COUNT = "stream.state.count";
 
     public static final String JDBC_QUERY_DURATION = "jdbc.query.duration";
+    public static final String JDBC_DELETE_ROW_COUNT = "jdbc.delete.row.count";
+    public static final String JDBC_DELETE_CHUNK_DURATION = "jdbc.delete.chunk.duration";
+
+    public static final String METRIC_TEMPLATE_CACHE_HIT_COUNT = "template.cache.hit.count";
+    public static final String METRIC_TEMPLATE_CACHE_MISS_COUNT = "template.cache.miss.count";
+    public static final String METRIC_TEMPLATE_COMPILE_DURATION = "template.compile.duration";
 
     public static final String QUEUE_BIG_MESSAGE_COUNT = "queue.big_message.count";
 
+    public static final String STREAMING_SUBSCRIBER_COUNT = "streaming.subscriber.count";
+    public static final String STREAMING_EVENT_DROPPED_COUNT = "streaming.event.dropped.count";
+
     public static final String TAG_TASK_TYPE = "task_type";
     public static final String TAG_TRIGGER_TYPE = "trigger_type";
     public static final String TAG_FLOW_ID = "flow_id";
@@ -73,6 +83,7 @@ public class MetricRegistry {
     public static final String TAG_WORKER_GROUP = "worker_group";
     public static final String TAG_TENANT_ID = "tenant_id";
     public static final String TAG_CLASS_NAME = "class_name";
+    public static final String TAG_TABLE_NAME = "table_name";
 
     @Inject
     private MeterRegistry meterRegistry;
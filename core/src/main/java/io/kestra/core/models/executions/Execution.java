@@ -429,10 +429,15 @@ public class Execution implements DeletedInterface, TenantInterface {
             return Collections.emptyList();
         }
 
+        // index the resolved tasks by task id to avoid matching each taskrun against all the tasks
+        Map<String, List<ResolvedTask>> resolvedTasksById = new HashMap<>();
+        resolvedTasks.forEach(resolvedTask -> resolvedTasksById.computeIfAbsent(resolvedTask.getTask().getId(), k -> new ArrayList<>()).add(resolvedTask));
+
         return this
             .getTaskRunList()
             .stream()
-            .filter(t -> resolvedTasks
+            .filter(t -> resolvedTasksById
+                .getOrDefault(t.getTaskId(), Collections.emptyList())
                 .stream()
                 .anyMatch(
                     resolvedTask -> FlowableUtils.isTaskRunFor(resolvedTask, t, parentTaskRun))
@@ -2,6 +2,7 @@ package io.kestra.core.models.tasks.runners;
 
 import lombok.Getter;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -26,4 +27,16 @@ public abstract class AbstractLogConsumer implements BiConsumer<String, Boolean>
     public int getStdErrCount() {
         return this.stdErrCount.get();
     }
+
+    /**
+     * Called once the task runner has consumed all the logs, consumers buffering lines must emit them here.
+     */
+    public void flush() throws IOException {
+    }
+
+    /**
+     * Called once the task runner returns, whether it succeeded or not, consumers must release their resources here.
+     */
+    public void close() throws IOException {
+    }
 }
@@ -1,20 +1,60 @@
 package io.kestra.core.models.tasks.runners;
 
 import io.kestra.core.runners.RunContext;
+import lombok.Getter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 /**
  * Default implementation of an @{link {@link AbstractLogConsumer}}
+ * <p>
+ * When created with a sample rate greater than 1, the consumer runs in high-volume mode:
+ * every line is written to a raw output file uploaded to the internal storage on {@link #flush()},
+ * and only one plain line out of <code>sampleRate</code> is sent to the logger, batched in a single log event.
  */
 public class DefaultLogConsumer extends AbstractLogConsumer {
+    private static final int BATCH_SIZE = 100;
+
     private final RunContext runContext;
 
+    private final int sampleRate;
+
+    private Path rawOutputPath;
+
+    private BufferedWriter rawOutputWriter;
+
+    private long lineCount;
+
+    private final StringBuilder stdOutBatch = new StringBuilder();
+    private int stdOutBatchSize;
+
+    private final StringBuilder stdErrBatch = new StringBuilder();
+    private int stdErrBatchSize;
+
+    @Getter
+    private URI rawOutput;
+
     public DefaultLogConsumer(RunContext runContext) {
+        this(runContext, 1);
+    }
+
+    public DefaultLogConsumer(RunContext runContext, int sampleRate) {
         this.runContext = runContext;
+        this.sampleRate = Math.max(sampleRate, 1);
     }
 
     @Override
     public void accept(String line, Boolean isStdErr) {
-        outputs.putAll(PluginUtilsService.parseOut(line, runContext.logger(), runContext, isStdErr));
+        if (this.sampleRate > 1) {
+            this.acceptSampled(line, isStdErr);
+        } else {
+            outputs.putAll(PluginUtilsService.parseOut(line, runContext.logger(), runContext, isStdErr));
+        }
 
         if (isStdErr) {
             this.stdErrCount.incrementAndGet();
@@ -22,4 +62,79 @@ public class DefaultLogConsumer extends AbstractLogConsumer {
             this.stdOutCount.incrementAndGet();
         }
     }
+
+    private synchronized void acceptSampled(String line, boolean isStdErr) {
+        if (PluginUtilsService.command(line) != null) {
+            outputs.putAll(PluginUtilsService.parseOut(line, runContext.logger(), runContext, isStdErr));
+            return;
+        }
+
+        try {
+            if (this.rawOutputWriter == null) {
+                this.rawOutputPath = runContext.workingDir().createTempFile(".log");
+                this.rawOutputWriter = Files.newBufferedWriter(this.rawOutputPath, StandardCharsets.UTF_8);
+            }
+
+            this.rawOutputWriter.write(line);
+            this.rawOutputWriter.newLine();
+        } catch (IOException e) {
+            runContext.logger().warn("Unable to write the raw output file", e);
+        }
+
+        if (this.lineCount++ % this.sampleRate != 0) {
+            return;
+        }
+
+        StringBuilder batch = isStdErr ? this.stdErrBatch : this.stdOutBatch;
+        if (!batch.isEmpty()) {
+            batch.append('\n');
+        }
+        batch.append(line);
+
+        int batchSize = isStdErr ? ++this.stdErrBatchSize : ++this.stdOutBatchSize;
+        if (batchSize >= BATCH_SIZE) {
+            this.flushBatch(isStdErr);
+        }
+    }
+
+    private void flushBatch(boolean isStdErr) {
+        StringBuilder batch = isStdErr ? this.stdErrBatch : this.stdOutBatch;
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        if (isStdErr) {
+            runContext.logger().error(batch.toString());
+            this.stdErrBatchSize = 0;
+        } else {
+            runContext.logger().info(batch.toString());
+            this.stdOutBatchSize = 0;
+        }
+
+        batch.setLength(0);
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        this.flushBatch(false);
+        this.flushBatch(true);
+
+        if (this.rawOutputWriter != null) {
+            this.close();
+
+            this.rawOutput = runContext.storage().putFile(this.rawOutputPath.toFile());
+            runContext.logger().info("{} lines were sampled 1 out of {}, full output stored in '{}'", this.lineCount, this.sampleRate, this.rawOutput);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (this.rawOutputWriter != null) {
+            try {
+                this.rawOutputWriter.close();
+            } finally {
+                this.rawOutputWriter = null;
+            }
+        }
+    }
 }
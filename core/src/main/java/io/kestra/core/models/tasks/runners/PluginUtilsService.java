@@ -26,14 +26,11 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static io.kestra.core.utils.Rethrow.throwConsumer;
 
 abstract public class PluginUtilsService {
     private static final ObjectMapper MAPPER = JacksonMapper.ofJson(false);
-    private static final Pattern PATTERN = Pattern.compile("^::(\\{.*})::$");
     private static final TypeReference<Map<String, String>> MAP_TYPE_REFERENCE = new TypeReference<>() {};
 
     public static Map<String, String> createOutputFiles(
@@ -168,49 +165,68 @@ abstract public class PluginUtilsService {
     }
 
     public static Map<String, Object> parseOut(String line, Logger logger, RunContext runContext, boolean isStdErr)  {
-        Matcher m = PATTERN.matcher(line);
-        Map<String, Object> outputs = new HashMap<>();
+        String command = command(line);
 
-        if (m.find()) {
-            try {
-                BashCommand<?> bashCommand = MAPPER.readValue(m.group(1), BashCommand.class);
+        if (command == null) {
+            if (isStdErr) {
+                runContext.logger().error(line);
+            } else {
+                runContext.logger().info(line);
+            }
 
-                if (bashCommand.getOutputs() != null) {
-                    outputs.putAll(bashCommand.getOutputs());
-                }
+            return Collections.emptyMap();
+        }
 
-                if (bashCommand.getMetrics() != null) {
-                    bashCommand.getMetrics().forEach(runContext::metric);
-                }
+        Map<String, Object> outputs = new HashMap<>();
 
-                if (bashCommand.getLogs() != null) {
-                    bashCommand.getLogs().forEach(logLine -> {
-                        try {
-                            LoggingEventBuilder builder = runContext
-                                .logger()
-                                .atLevel(logLine.getLevel());
+        try {
+            BashCommand<?> bashCommand = MAPPER.readValue(command, BashCommand.class);
 
-                            builder.log(logLine.getMessage());
-                        } catch (Exception e) {
-                            logger.warn("Invalid log '{}'", m.group(1), e);
-                        }
-                    });
-                }
+            if (bashCommand.getOutputs() != null) {
+                outputs.putAll(bashCommand.getOutputs());
             }
-            catch (JsonProcessingException e) {
-                logger.warn("Invalid outputs '{}'", e.getMessage(), e);
+
+            if (bashCommand.getMetrics() != null) {
+                bashCommand.getMetrics().forEach(runContext::metric);
             }
-        } else {
-            if (isStdErr) {
-                runContext.logger().error(line);
-            } else {
-                runContext.logger().info(line);
+
+            if (bashCommand.getLogs() != null) {
+                bashCommand.getLogs().forEach(logLine -> {
+                    try {
+                        LoggingEventBuilder builder = runContext
+                            .logger()
+                            .atLevel(logLine.getLevel());
+
+                        builder.log(logLine.getMessage());
+                    } catch (Exception e) {
+                        logger.warn("Invalid log '{}'", command, e);
+                    }
+                });
             }
         }
+        catch (JsonProcessingException e) {
+            logger.warn("Invalid outputs '{}'", e.getMessage(), e);
+        }
 
         return outputs;
     }
 
+    /**
+     * Extract the JSON payload of a <code>::{...}::</code> command line, or return null for a plain log line.
+     * This is called for every line printed by a script, so it only checks the markers and doesn't use any regex.
+     */
+    public static String command(String line) {
+        int length = line.length();
+        if (length < 6 ||
+            line.charAt(0) != ':' || line.charAt(1) != ':' || line.charAt(2) != '{' ||
+            line.charAt(length - 3) != '}' || line.charAt(length - 2) != ':' || line.charAt(length - 1) != ':'
+        ) {
+            return null;
+        }
+
+        return line.substring(2, length - 2);
+    }
+
     @NoArgsConstructor
     @Data
     public static class BashCommand <T> {
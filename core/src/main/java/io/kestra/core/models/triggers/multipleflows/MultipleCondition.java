@@ -8,6 +8,7 @@ import io.kestra.core.models.triggers.TimeWindow;
 import io.kestra.core.utils.Rethrow;
 import org.slf4j.Logger;
 
+import java.time.ZonedDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -32,7 +33,9 @@ public interface MultipleCondition extends Rethrow.PredicateChecked<ConditionCon
         MultipleConditionStorageInterface multipleConditionStorage = conditionContext.getMultipleConditionStorage();
         Objects.requireNonNull(multipleConditionStorage);
 
-        Optional<MultipleConditionWindow> triggerExecutionWindow = multipleConditionStorage.get(conditionContext.getFlow(), this.getId());
+        // expired windows are purged periodically, they must not validate the condition meanwhile
+        Optional<MultipleConditionWindow> triggerExecutionWindow = multipleConditionStorage.get(conditionContext.getFlow(), this.getId())
+            .filter(window -> window.isValid(ZonedDateTime.now()));
 
         Map<String, Boolean> results = getConditions()
             .keySet()
@@ -74,4 +74,11 @@ public interface MultipleConditionStorageInterface {
     void save(List<MultipleConditionWindow> multipleConditionWindows);
 
     void delete(MultipleConditionWindow multipleConditionWindow);
+
+    /**
+     * Purge the expired windows, called periodically by the executor rather than on each execution state change.
+     */
+    default void deleteExpired() {
+        this.expired(null).forEach(this::delete);
+    }
 }
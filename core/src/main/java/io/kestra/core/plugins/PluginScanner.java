@@ -17,6 +17,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.IOUtils;
 
 import java.io.IOException;
+import java.lang.reflect.Modifier;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
@@ -95,7 +96,6 @@ public class PluginScanner {
 
     }
 
-    @SuppressWarnings("unchecked")
     private RegisteredPlugin scanClassLoader(final ClassLoader classLoader,
                                              final ExternalPlugin externalPlugin,
                                              Manifest manifest) {
@@ -117,66 +117,60 @@ public class PluginScanner {
             manifest = getManifest(classLoader);
         }
 
+        // providers are only loaded, not instantiated nor initialized: we only need their class
         final ServiceLoader<Plugin> sl = ServiceLoader.load(Plugin.class, classLoader);
         try {
-            for (Plugin plugin : sl) {
-                if (plugin.getClass().isAnnotationPresent(Hidden.class)) {
+            for (ServiceLoader.Provider<Plugin> provider : (Iterable<ServiceLoader.Provider<Plugin>>) sl.stream()::iterator) {
+                Class<? extends Plugin> pluginClass = provider.type();
+                if (pluginClass.isAnnotationPresent(Hidden.class) || Modifier.isAbstract(pluginClass.getModifiers())) {
                     continue;
                 }
 
-                switch (plugin) {
-                    case Task task -> {
-                        log.debug("Loading Task plugin: '{}'", plugin.getClass());
-                        tasks.add(task.getClass());
-                    }
-                    case AbstractTrigger trigger -> {
-                        log.debug("Loading Trigger plugin: '{}'", plugin.getClass());
-                        triggers.add(trigger.getClass());
-                    }
-                    case Condition condition -> {
-                        log.debug("Loading Condition plugin: '{}'", plugin.getClass());
-                        conditions.add(condition.getClass());
-                    }
-                    case StorageInterface storage -> {
-                        log.debug("Loading Storage plugin: '{}'", plugin.getClass());
-                        storages.add(storage.getClass());
-                    }
-                    case SecretPluginInterface storage -> {
-                        log.debug("Loading SecretPlugin plugin: '{}'", plugin.getClass());
-                        secrets.add(storage.getClass());
-                    }
-                    case TaskRunner<?> runner -> {
-                        log.debug("Loading TaskRunner plugin: '{}'", plugin.getClass());
-                        //noinspection unchecked
-                        taskRunners.add((Class<? extends TaskRunner<?>>) runner.getClass());
-                    }
-                    case AppPluginInterface app -> {
-                        log.debug("Loading AppPlugin plugin: '{}'", plugin.getClass());
-                        apps.add(app.getClass());
-                    }
-                    case AppBlockInterface appBlock -> {
-                        log.debug("Loading AppBlocking plugin: '{}'", plugin.getClass());
-                        appBlocks.add(appBlock.getClass());
-                    }
-                    case Chart<?> chart -> {
-                        log.debug("Loading Chart plugin: '{}'", plugin.getClass());
-                        //noinspection unchecked
-                        charts.add((Class<? extends Chart<?>>) chart.getClass());
-                    }
-                    case DataFilter<?, ?> dataFilter -> {
-                        log.debug("Loading DataFilter plugin: '{}'", plugin.getClass());
-                        //noinspection unchecked
-                        dataFilters.add((Class<? extends DataFilter<?, ?>>)  dataFilter.getClass());
-                    }
-                    case LogExporter<?> shipper -> {
-                        log.debug("Loading LogExporter plugin: '{}'", plugin.getClass());
-                        logExporter.add((Class<? extends LogExporter<?>>)  shipper.getClass());
-                    }
-                    default -> {
-                    }
+                if (Task.class.isAssignableFrom(pluginClass)) {
+                    log.debug("Loading Task plugin: '{}'", pluginClass);
+                    tasks.add(pluginClass.asSubclass(Task.class));
+                } else if (AbstractTrigger.class.isAssignableFrom(pluginClass)) {
+                    log.debug("Loading Trigger plugin: '{}'", pluginClass);
+                    triggers.add(pluginClass.asSubclass(AbstractTrigger.class));
+                } else if (Condition.class.isAssignableFrom(pluginClass)) {
+                    log.debug("Loading Condition plugin: '{}'", pluginClass);
+                    conditions.add(pluginClass.asSubclass(Condition.class));
+                } else if (StorageInterface.class.isAssignableFrom(pluginClass)) {
+                    log.debug("Loading Storage plugin: '{}'", pluginClass);
+                    storages.add(pluginClass.asSubclass(StorageInterface.class));
+                } else if (SecretPluginInterface.class.isAssignableFrom(pluginClass)) {
+                    log.debug("Loading SecretPlugin plugin: '{}'", pluginClass);
+                    secrets.add(pluginClass.asSubclass(SecretPluginInterface.class));
+                } else if (TaskRunner.class.isAssignableFrom(pluginClass)) {
+                    log.debug("Loading TaskRunner plugin: '{}'", pluginClass);
+                    // the type arguments are erased, the cast can't be checked
+                    @SuppressWarnings("unchecked")
+                    Class<? extends TaskRunner<?>> taskRunner = (Class<? extends TaskRunner<?>>) pluginClass.asSubclass(TaskRunner.class);
+                    taskRunners.add(taskRunner);
+                } else if (AppPluginInterface.class.isAssignableFrom(pluginClass)) {
+                    log.debug("Loading AppPlugin plugin: '{}'", pluginClass);
+                    apps.add(pluginClass.asSubclass(AppPluginInterface.class));
+                } else if (AppBlockInterface.class.isAssignableFrom(pluginClass)) {
+                    log.debug("Loading AppBlocking plugin: '{}'", pluginClass);
+                    appBlocks.add(pluginClass.asSubclass(AppBlockInterface.class));
+                } else if (Chart.class.isAssignableFrom(pluginClass)) {
+                    log.debug("Loading Chart plugin: '{}'", pluginClass);
+                    @SuppressWarnings("unchecked")
+                    Class<? extends Chart<?>> chart = (Class<? extends Chart<?>>) pluginClass.asSubclass(Chart.class);
+                    charts.add(chart);
+                } else if (DataFilter.class.isAssignableFrom(pluginClass)) {
+                    log.debug("Loading DataFilter plugin: '{}'", pluginClass);
+                    @SuppressWarnings("unchecked")
+                    Class<? extends DataFilter<?, ?>> dataFilter = (Class<? extends DataFilter<?, ?>>) pluginClass.asSubclass(DataFilter.class);
+                    dataFilters.add(dataFilter);
+                } else if (LogExporter.class.isAssignableFrom(pluginClass)) {
+                    log.debug("Loading LogExporter plugin: '{}'", pluginClass);
+                    @SuppressWarnings("unchecked")
+                    Class<? extends LogExporter<?>> exporter = (Class<? extends LogExporter<?>>) pluginClass.asSubclass(LogExporter.class);
+                    logExporter.add(exporter);
                 }
 
-                Plugin.getAliases(plugin.getClass()).forEach(alias -> aliases.put(alias, plugin.getClass()));
+                Plugin.getAliases(pluginClass).forEach(alias -> aliases.put(alias, pluginClass));
             }
         } catch (ServiceConfigurationError | NoClassDefFoundError e) {
             Object location = externalPlugin != null ? externalPlugin.getLocation() : "core";
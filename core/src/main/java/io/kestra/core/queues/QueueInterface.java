@@ -6,6 +6,7 @@ import io.kestra.core.utils.Either;
 
 import java.io.Closeable;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 public interface QueueInterface<T> extends Closeable, Pauseable {
     default void emit(T message) throws QueueException {
@@ -36,6 +37,15 @@ public interface QueueInterface<T> extends Closeable, Pauseable {
 
     Runnable receive(String consumerGroup, Consumer<Either<T, DeserializationException>> consumer, boolean forUpdate);
 
+    /**
+     * Receive the messages of the executions accepted by the filter, without consumer group and without locking.
+     * This is an optimization hint: implementations may skip the other messages before deserializing them,
+     * but consumers must still check the messages they receive.
+     */
+    default Runnable receiveForExecutions(Predicate<String> executionIdFilter, Consumer<Either<T, DeserializationException>> consumer) {
+        return receive(null, consumer, false);
+    }
+
     default Runnable receive(Class<?> queueType, Consumer<Either<T, DeserializationException>> consumer) {
         return receive(null, queueType, consumer);
     }
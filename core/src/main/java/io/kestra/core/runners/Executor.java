@@ -10,6 +10,7 @@ import lombok.Getter;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 @Getter
 @AllArgsConstructor
@@ -47,6 +48,13 @@ public class Executor {
      */
     private List<ExecutionKilledExecution> executionKilled;
 
+    /**
+     * Ids of the taskruns that changed since the previous executor pass, with their parents.
+     * A null value means that everything must be evaluated.
+     */
+    @JsonIgnore
+    private Set<String> changedTaskRunIds;
+
     public Executor(Execution execution, Long offset) {
         this.execution = execution;
         this.offset = offset;
@@ -172,6 +180,18 @@ public class Executor {
         return this;
     }
 
+    public Executor withChangedTaskRunIds(Set<String> changedTaskRunIds) {
+        this.changedTaskRunIds = changedTaskRunIds;
+        return this;
+    }
+
+    /**
+     * Whether the taskrun, or one of its direct children, changed since the previous executor pass.
+     */
+    public boolean isChanged(TaskRun taskRun) {
+        return this.changedTaskRunIds == null || this.changedTaskRunIds.contains(taskRun.getId());
+    }
+
     public Executor serialize() {
         return new Executor(
             this.execution,
@@ -456,7 +456,7 @@ public class ExecutorService {
         List<TaskRun> running = executor.getExecution()
             .getTaskRunList()
             .stream()
-            .filter(taskRun -> taskRun.getState().isRunning())
+            .filter(taskRun -> taskRun.getState().isRunning() && executor.isChanged(taskRun))
             .toList();
 
         // Remove functional style to avoid (class io.kestra.core.exceptions.IllegalVariableEvaluationException cannot be cast to class java.lang.RuntimeException'
@@ -482,7 +482,8 @@ public class ExecutorService {
         List<ExecutionDelay> executionDelays = new ArrayList<>();
 
         for (TaskRun taskRun : executor.getExecution().getTaskRunList()) {
-            if (taskRun.getState().isRunning()) {
+            // a flowable state can only move if one of its children changed since the previous pass
+            if (taskRun.getState().isRunning() && executor.isChanged(taskRun)) {
                 Optional<WorkerTaskResult> workerTaskResult = this.childWorkerTaskResult(
                     executor.getFlow(),
                     executor.getExecution(),
@@ -1,10 +1,18 @@
 package io.kestra.core.runners;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.TaskRun;
 import io.kestra.core.models.flows.State;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Data
@@ -15,7 +23,115 @@ public class ExecutorState {
     private Map<String, String> childDeduplication = new ConcurrentHashMap<>();
     private Map<String, State.Type> subflowExecutionDeduplication = new ConcurrentHashMap<>();
 
+    /**
+     * Fingerprint of each taskrun as seen by the previous executor pass.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<String, Integer> taskRunFingerprints;
+
+    /**
+     * Execution state seen by the previous executor pass.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private State.Type processedState;
+
+    /**
+     * Whether the execution holds a slot of its flow concurrency limit, null if this is not known.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean concurrencySlot;
+
     public ExecutorState(String executionId) {
         this.executionId = executionId;
     }
+
+    /**
+     * Compute the ids of the taskruns that changed since the previous call, along with their parent taskrun ids,
+     * and remember the current taskruns for the next call.
+     *
+     * @return the changed taskrun ids or null if the whole execution must be evaluated: first pass, execution state
+     * changed or taskruns were removed (restart, loop iteration).
+     */
+    public Set<String> changedTaskRunIds(Execution execution) {
+        Map<String, Integer> previous = this.taskRunFingerprints;
+        State.Type previousState = this.processedState;
+
+        Map<String, Integer> current = new HashMap<>();
+        if (execution.getTaskRunList() != null) {
+            for (TaskRun taskRun : execution.getTaskRunList()) {
+                current.put(taskRun.getId(), fingerprint(taskRun));
+            }
+        }
+
+        this.taskRunFingerprints = current;
+        this.processedState = execution.getState().getCurrent();
+
+        if (previous == null || previousState != execution.getState().getCurrent() || !current.keySet().containsAll(previous.keySet())) {
+            return null;
+        }
+
+        Set<String> changed = new HashSet<>();
+        if (execution.getTaskRunList() != null) {
+            for (TaskRun taskRun : execution.getTaskRunList()) {
+                if (!Objects.equals(previous.get(taskRun.getId()), current.get(taskRun.getId()))) {
+                    changed.add(taskRun.getId());
+
+                    if (taskRun.getParentTaskRunId() != null) {
+                        changed.add(taskRun.getParentTaskRunId());
+                    }
+                }
+            }
+        }
+
+        return changed;
+    }
+
+    /**
+     * The fingerprints are persisted with the executor state, so they must only rely on hash codes that are stable
+     * across JVMs: enum identity hash codes are not, so the state name is used.
+     */
+    private static int fingerprint(TaskRun taskRun) {
+        return Objects.hash(
+            taskRun.getState().getCurrent().name(),
+            taskRun.getState().getHistories() == null ? 0 : taskRun.getState().getHistories().size(),
+            taskRun.getAttempts() == null ? 0 : taskRun.getAttempts().size(),
+            taskRun.getIteration(),
+            contentHash(taskRun.getOutputs())
+        );
+    }
+
+    /**
+     * A hash of the content of deserialized outputs, made of maps, collections and scalar values.
+     */
+    private static int contentHash(Object value) {
+        if (value == null) {
+            return 0;
+        }
+
+        if (value instanceof Map<?, ?> map) {
+            int hash = 0;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                hash += contentHash(entry.getKey()) ^ contentHash(entry.getValue());
+            }
+            return hash;
+        }
+
+        if (value instanceof Collection<?> collection) {
+            int hash = 1;
+            for (Object item : collection) {
+                hash = 31 * hash + contentHash(item);
+            }
+            return hash;
+        }
+
+        if (value instanceof Enum<?> enumValue) {
+            return enumValue.name().hashCode();
+        }
+
+        if (value instanceof String || value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            return value.hashCode();
+        }
+
+        return value.toString().hashCode();
+    }
 }
@@ -4,17 +4,16 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.kestra.core.models.flows.FlowWithException;
 import io.kestra.core.models.flows.FlowWithSource;
 import io.kestra.core.serializers.JacksonMapper;
-import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import io.kestra.core.queues.QueueFactoryInterface;
 import io.kestra.core.queues.QueueInterface;
 import io.kestra.core.repositories.FlowRepositoryInterface;
+import io.kestra.core.services.FlowCatalog;
 import io.kestra.core.services.FlowListenersInterface;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -30,18 +29,21 @@ public class FlowListeners implements FlowListenersInterface {
 
     private Boolean isStarted = false;
     private final QueueInterface<FlowWithSource> flowQueue;
-    private final List<FlowWithSource> flows;
+    private volatile FlowCatalog catalog;
     private final List<Consumer<List<FlowWithSource>>> consumers = new ArrayList<>();
 
     private final List<BiConsumer<FlowWithSource, FlowWithSource>> consumersEach = new ArrayList<>();
 
+    @Inject
+    private FlowTemplatePrecompiler flowTemplatePrecompiler;
+
     @Inject
     public FlowListeners(
         FlowRepositoryInterface flowRepository,
         @Named(QueueFactoryInterface.FLOW_NAMED) QueueInterface<FlowWithSource> flowQueue
     ) {
         this.flowQueue = flowQueue;
-        this.flows = flowRepository.findAllWithSourceForAllTenants();
+        this.catalog = FlowCatalog.of(flowRepository.findAllWithSourceForAllTenants());
     }
 
     @Override
@@ -50,6 +52,10 @@ public class FlowListeners implements FlowListenersInterface {
             if (!this.isStarted) {
                 this.isStarted = true;
 
+                if (this.flowTemplatePrecompiler != null) {
+                    this.flowTemplatePrecompiler.precompile(this.catalog.flows());
+                }
+
                 this.flowQueue.receive(either -> {
                     FlowWithSource flow;
                     if (either.isRight()) {
@@ -74,6 +80,14 @@ public class FlowListeners implements FlowListenersInterface {
                         this.upsert(flow);
                     }
 
+                    if (this.flowTemplatePrecompiler != null) {
+                        if (flow.isDeleted()) {
+                            this.flowTemplatePrecompiler.release(flow);
+                        } else {
+                            this.flowTemplatePrecompiler.precompile(flow);
+                        }
+                    }
+
                     if (log.isTraceEnabled()) {
                         log.trace(
                             "Received {} flow '{}.{}'",
@@ -88,7 +102,7 @@ public class FlowListeners implements FlowListenersInterface {
                 });
 
                 if (log.isTraceEnabled()) {
-                    log.trace("FlowListenersService started with {} flows", flows.size());
+                    log.trace("FlowListenersService started with {} flows", this.catalog.size());
                 }
             }
 
@@ -97,15 +111,15 @@ public class FlowListeners implements FlowListenersInterface {
     }
 
     private Optional<FlowWithSource> previous(FlowWithSource flow) {
-        return flows
-            .stream()
-            .filter(r -> Objects.equals(r.getTenantId(), flow.getTenantId()) && r.getNamespace().equals(flow.getNamespace()) && r.getId().equals(flow.getId()))
-            .findFirst();
+        return this.catalog.find(flow);
     }
 
     private boolean remove(FlowWithSource flow) {
         synchronized (this) {
-            boolean remove = flows.removeIf(r -> Objects.equals(r.getTenantId(), flow.getTenantId()) && r.getNamespace().equals(flow.getNamespace()) && r.getId().equals(flow.getId()));
+            FlowCatalog current = this.catalog;
+            this.catalog = current.remove(flow);
+
+            boolean remove = this.catalog != current;
             if (!remove && flow.isDeleted()) {
                 log.warn("Can't remove flow {}.{}", flow.getNamespace(), flow.getId());
             }
@@ -116,16 +130,16 @@ public class FlowListeners implements FlowListenersInterface {
 
     private void upsert(FlowWithSource flow) {
         synchronized (this) {
-            this.remove(flow);
-
-            this.flows.add(flow);
+            this.catalog = this.catalog.upsert(flow);
         }
     }
 
     private void notifyConsumers() {
         synchronized (this) {
+            // all the consumers share the same immutable snapshot
+            List<FlowWithSource> flows = this.catalog.flows();
             this.consumers
-                .forEach(consumer -> consumer.accept(new ArrayList<>(this.flows)));
+                .forEach(consumer -> consumer.accept(flows));
         }
     }
 
@@ -140,7 +154,7 @@ public class FlowListeners implements FlowListenersInterface {
     public void listen(Consumer<List<FlowWithSource>> consumer) {
         synchronized (this) {
             consumers.add(consumer);
-            consumer.accept(new ArrayList<>(this.flows()));
+            consumer.accept(this.flows());
         }
     }
 
@@ -151,10 +165,14 @@ public class FlowListeners implements FlowListenersInterface {
         }
     }
 
-    @SneakyThrows
     @Override
     public List<FlowWithSource> flows() {
-        // we forced a deep clone to avoid concurrency where instance are changed during iteration (especially scheduler).
-        return new ArrayList<>(this.flows);
+        // the catalog is immutable, so it can be iterated while flows are changed (especially scheduler).
+        return this.catalog.flows();
+    }
+
+    @Override
+    public FlowCatalog catalog() {
+        return this.catalog;
     }
 }
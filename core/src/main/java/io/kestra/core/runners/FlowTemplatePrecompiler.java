@@ -0,0 +1,83 @@
+package io.kestra.core.runners;
+
+import io.kestra.core.models.flows.FlowWithException;
+import io.kestra.core.models.flows.FlowWithSource;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.core.utils.ExecutorsUtils;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Compile the expressions of a flow when it's deployed, so its executions don't pay for the compilation.
+ * <p>
+ * The compiled templates of the last revision of each flow are pinned in the template cache of the {@link VariableRenderer}
+ * and released when the flow is updated or deleted.
+ * It runs where the flows are loaded by the {@link FlowListeners}: the executor, the scheduler and the standalone server.
+ * Workers don't load the flows, they compile the expressions of the tasks they run on first use.
+ * Compilations run in the background, one at a time and in the order they are requested, so they don't delay the loading
+ * of the flows and a release can't be overtaken by a previous compilation.
+ */
+@Singleton
+@Slf4j
+public class FlowTemplatePrecompiler {
+    private final VariableRenderer variableRenderer;
+    private final ExecutorService executorService;
+
+    @Inject
+    public FlowTemplatePrecompiler(VariableRenderer variableRenderer, ExecutorsUtils executorsUtils) {
+        this.variableRenderer = variableRenderer;
+        this.executorService = executorsUtils.singleThreadExecutor("flow-template-precompiler");
+    }
+
+    public void precompile(FlowWithSource flow) {
+        if (flow instanceof FlowWithException) {
+            return;
+        }
+
+        this.executorService.execute(() -> this.compile(flow));
+    }
+
+    public void precompile(Collection<FlowWithSource> flows) {
+        flows.forEach(this::precompile);
+    }
+
+    public void release(FlowWithSource flow) {
+        this.executorService.execute(() -> variableRenderer.release(flow.uidWithoutRevision()));
+    }
+
+    @PreDestroy
+    public void close() {
+        this.executorService.shutdownNow();
+    }
+
+    private void compile(FlowWithSource flow) {
+        try {
+            Set<String> templates = new LinkedHashSet<>();
+            collect(JacksonMapper.toMap(flow.toFlow()), templates);
+
+            variableRenderer.precompile(flow.uidWithoutRevision(), templates);
+        } catch (Exception e) {
+            log.warn("Unable to precompile the expressions of flow '{}'", flow.uidWithoutRevision(), e);
+        }
+    }
+
+    private static void collect(Object value, Set<String> templates) {
+        if (value instanceof String string) {
+            if (string.contains("{{") || string.contains("{%")) {
+                templates.add(string);
+            }
+        } else if (value instanceof Map<?, ?> map) {
+            map.values().forEach(v -> collect(v, templates));
+        } else if (value instanceof Collection<?> collection) {
+            collection.forEach(v -> collect(v, templates));
+        }
+    }
+}
@@ -309,7 +309,7 @@ public class FlowableUtils {
         List<ResolvedTask> _finally,
         TaskRun parentTaskRun,
         Integer concurrency,
-        List<Dag.DagTask> taskDependencies
+        Dag.DependencyGraph dependencyGraph
     ) {
         return resolveParallelNexts(
             execution,
@@ -318,29 +318,17 @@ public class FlowableUtils {
             _finally,
             parentTaskRun,
             concurrency,
-            (nextTaskRunStream, taskRuns) -> nextTaskRunStream
-                .filter(nextTaskRun -> {
-                    Task task = nextTaskRun.getTask();
-                    List<String> taskDependIds = taskDependencies
-                        .stream()
-                        .filter(taskDepend -> taskDepend
-                            .getTask()
-                            .getId()
-                            .equals(task.getId())
-                        )
-                        .findFirst()
-                        .map(Dag.DagTask::getDependsOn)
-                        .orElse(null);
-
-                    // Check if have no dependencies OR all dependencies are terminated
-                    return taskDependIds == null ||
-                        new HashSet<>(taskRuns
-                            .stream()
-                            .filter(taskRun -> taskRun.getState().isTerminated())
-                            .map(TaskRun::getTaskId).toList()
-                        )
-                            .containsAll(taskDependIds);
-                })
+            (nextTaskRunStream, taskRuns) -> {
+                // Keep only the tasks that have no dependencies OR whose dependencies are all terminated
+                Set<String> ready = dependencyGraph.ready(taskRuns
+                    .stream()
+                    .filter(taskRun -> taskRun.getState().isTerminated())
+                    .map(TaskRun::getTaskId)
+                    .collect(Collectors.toSet())
+                );
+
+                return nextTaskRunStream.filter(nextTaskRun -> ready.contains(nextTaskRun.getTask().getId()));
+            }
         );
     }
 
@@ -390,13 +378,16 @@ public class FlowableUtils {
             return Collections.emptyList();
         }
 
-        // find all not created tasks
+        // find all not created tasks, taskRuns are already filtered on the parent so only the task id and value need to match
+        Map<String, Set<String>> createdValues = new HashMap<>();
+        taskRuns.forEach(taskRun -> createdValues.computeIfAbsent(taskRun.getTaskId(), k -> new HashSet<>()).add(taskRun.getValue()));
+
         List<ResolvedTask> notFinds = currentTasks
             .stream()
-            .filter(resolvedTask -> taskRuns
-                .stream()
-                .noneMatch(taskRun -> FlowableUtils.isTaskRunFor(resolvedTask, taskRun, parentTaskRun))
-            )
+            .filter(resolvedTask -> {
+                Set<String> values = createdValues.get(resolvedTask.getTask().getId());
+                return values == null || (resolvedTask.getValue() != null && !values.contains(resolvedTask.getValue()));
+            })
             .toList();
 
         // first created, leave
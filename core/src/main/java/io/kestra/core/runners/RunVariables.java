@@ -1,5 +1,6 @@
 package io.kestra.core.runners;
 
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
 import io.kestra.core.models.Label;
 import io.kestra.core.models.executions.Execution;
@@ -15,11 +16,15 @@ import lombok.AllArgsConstructor;
 import lombok.With;
 
 import java.security.GeneralSecurityException;
+import java.util.AbstractMap;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Class for building {@link RunContext} variables.
@@ -218,33 +223,20 @@ public final class RunVariables {
                 builder.put("execution", executionMap.build());
 
                 if (execution.getTaskRunList() != null) {
-                    Map<String, Object> outputs = new HashMap<>(execution.outputs());
-                    if (decryptVariables) {
-                        final Secret secret = new Secret(secretKey, logger);
-                        outputs = secret.decrypt(outputs);
-                    }
-                    builder.put("outputs", outputs);
-
-                    Map<String, Object> tasksMap = new HashMap<>();
-
-                    execution.getTaskRunList().forEach(taskRun -> {
-                        if (taskRun.getState() != null) {
-                            if (taskRun.getValue() == null) {
-                                tasksMap.put(taskRun.getTaskId(), Map.of("state", taskRun.getState().getCurrent()));
-                            } else {
-                                if (tasksMap.containsKey(taskRun.getTaskId())) {
-                                    @SuppressWarnings("unchecked")
-                                    Map<String, Object> taskRunMap = new HashMap<>((Map<String, Object>) tasksMap.get(taskRun.getTaskId()));
-                                    taskRunMap.put(taskRun.getValue(), Map.of("state", taskRun.getState().getCurrent()));
-                                    tasksMap.put(taskRun.getTaskId(), taskRunMap);
-                                } else {
-                                    tasksMap.put(taskRun.getTaskId(), Map.of(taskRun.getValue(), Map.of("state", taskRun.getState().getCurrent())));
-                                }
-                            }
+                    // outputs and tasks are costly for large executions and only needed if the task renders them,
+                    // so they are lazy maps computed once on first access
+                    final Execution currentExecution = execution;
+                    final boolean decrypt = decryptVariables;
+                    builder.put("outputs", new LazyMap(() -> {
+                        Map<String, Object> outputs = new HashMap<>(currentExecution.outputs());
+                        if (decrypt) {
+                            final Secret secret = new Secret(secretKey, logger);
+                            outputs = secret.decrypt(outputs);
                         }
-                    });
+                        return outputs;
+                    }));
 
-                    builder.put("tasks", tasksMap);
+                    builder.put("tasks", new LazyMap(() -> tasks(currentExecution)));
                 }
 
                 // Inputs
@@ -324,5 +316,62 @@ public final class RunVariables {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> tasks(Execution execution) {
+        Map<String, Object> tasksMap = new HashMap<>();
+
+        execution.getTaskRunList().forEach(taskRun -> {
+            if (taskRun.getState() != null) {
+                if (taskRun.getValue() == null) {
+                    tasksMap.put(taskRun.getTaskId(), Map.of("state", taskRun.getState().getCurrent()));
+                } else {
+                    // the per-value maps are owned by this method, update them in place instead of copying them for each value
+                    Object current = tasksMap.get(taskRun.getTaskId());
+                    Map<String, Object> taskRunMap;
+                    if (current instanceof HashMap<?, ?> hashMap) {
+                        taskRunMap = (Map<String, Object>) hashMap;
+                    } else {
+                        taskRunMap = current == null ? new HashMap<>() : new HashMap<>((Map<String, Object>) current);
+                        tasksMap.put(taskRun.getTaskId(), taskRunMap);
+                    }
+                    taskRunMap.put(taskRun.getValue(), Map.of("state", taskRun.getState().getCurrent()));
+                }
+            }
+        });
+
+        return tasksMap;
+    }
+
+    /**
+     * A read-only map computed on first access and then memoized.
+     */
+    private static class LazyMap extends AbstractMap<String, Object> {
+        private final Supplier<Map<String, Object>> delegate;
+
+        private LazyMap(Supplier<Map<String, Object>> supplier) {
+            this.delegate = Suppliers.memoize(supplier::get);
+        }
+
+        @Override
+        public Object get(Object key) {
+            return this.delegate.get().get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return this.delegate.get().containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return this.delegate.get().size();
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return Collections.unmodifiableMap(this.delegate.get()).entrySet();
+        }
+    }
+
     private RunVariables(){}
 }
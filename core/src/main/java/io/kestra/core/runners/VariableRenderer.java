@@ -1,6 +1,7 @@
 package io.kestra.core.runners;
 
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.metrics.MetricRegistry;
 import io.kestra.core.runners.pebble.*;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.annotation.ConfigurationProperties;
@@ -13,6 +14,7 @@ import io.pebbletemplates.pebble.template.PebbleTemplate;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.util.*;
@@ -20,12 +22,17 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 @Singleton
+@Slf4j
 public class VariableRenderer {
     private static final Pattern RAW_PATTERN = Pattern.compile("(\\{%-*\\s*raw\\s*-*%}(.*?)\\{%-*\\s*endraw\\s*-*%})");
     public static final int MAX_RENDERING_AMOUNT = 100;
 
+    // raw blocks are replaced by stable placeholders so the resulting template can be cached
+    private static final String RAW_PLACEHOLDER_PREFIX = "__raw_" + UUID.randomUUID() + "_";
+
     private final PebbleEngine pebbleEngine;
     private final VariableConfiguration variableConfiguration;
+    private final PebbleLruCache templateCache;
 
     @Inject
     public VariableRenderer(ApplicationContext applicationContext, @Nullable VariableConfiguration variableConfiguration) {
@@ -43,7 +50,14 @@ public class VariableRenderer {
             .forEach(pebbleBuilder::extension);
 
         if (this.variableConfiguration.getCacheEnabled()) {
-            pebbleBuilder.templateCache(new PebbleLruCache(this.variableConfiguration.getCacheSize()));
+            this.templateCache = new PebbleLruCache(
+                this.variableConfiguration.getCacheSize(),
+                this.variableConfiguration.getPinnedCacheSize(),
+                applicationContext.findBean(MetricRegistry.class).orElse(null)
+            );
+            pebbleBuilder.templateCache(this.templateCache);
+        } else {
+            this.templateCache = null;
         }
 
         this.pebbleEngine = pebbleBuilder.build();
@@ -130,6 +144,40 @@ public class VariableRenderer {
         return result;
     }
 
+    /**
+     * Compile the given templates and pin them in the template cache for the owner, replacing the ones it previously pinned.
+     * Templates that fail to compile are ignored, the error will be raised when rendering them.
+     *
+     * @param owner     The owner of the templates, for example a flow.
+     * @param templates The templates to compile.
+     */
+    public void precompile(String owner, Collection<String> templates) {
+        if (this.templateCache == null) {
+            return;
+        }
+
+        Map<Object, PebbleTemplate> compiled = new HashMap<>();
+        for (String template : templates) {
+            String withoutRaw = replaceRawTags(RAW_PATTERN.matcher(template), new HashMap<>());
+            try {
+                compiled.put(withoutRaw, this.pebbleEngine.getLiteralTemplate(withoutRaw));
+            } catch (PebbleException e) {
+                log.trace("Unable to precompile template '{}'", template, e);
+            }
+        }
+
+        this.templateCache.pin(owner, compiled);
+    }
+
+    /**
+     * Release the templates pinned for the owner by {@link #precompile(String, Collection)}.
+     */
+    public void release(String owner) {
+        if (this.templateCache != null) {
+            this.templateCache.release(owner);
+        }
+    }
+
     /**
      * This method can be used in fallback for rendering an input string.
      *
@@ -151,9 +199,9 @@ public class VariableRenderer {
 
     private static String replaceRawTags(Matcher rawMatcher, Map<String, String> replacers) {
         return rawMatcher.replaceAll(matchResult -> {
-            var uuid = UUID.randomUUID().toString();
-            replacers.put(uuid, matchResult.group(1));
-            return uuid;
+            var placeholder = RAW_PLACEHOLDER_PREFIX + replacers.size() + "__";
+            replacers.put(placeholder, matchResult.group(1));
+            return placeholder;
         });
     }
 
@@ -260,11 +308,13 @@ public class VariableRenderer {
         public VariableConfiguration() {
             this.cacheEnabled = true;
             this.cacheSize = 1000;
+            this.pinnedCacheSize = 1000;
             this.recursiveRendering = false;
         }
 
         Boolean cacheEnabled;
         Integer cacheSize;
+        Integer pinnedCacheSize;
         Boolean recursiveRendering;
     }
 }
@@ -2,36 +2,156 @@ package io.kestra.core.runners.pebble;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import io.kestra.core.metrics.MetricRegistry;
+import io.micronaut.core.annotation.Nullable;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 import io.pebbletemplates.pebble.cache.PebbleCache;
 import io.pebbletemplates.pebble.template.PebbleTemplate;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.concurrent.ExecutionException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
+/**
+ * Compiled templates cache.
+ * <p>
+ * Templates are evicted on a least-recently-used basis weighted by their size: a template weighs one per started KiB
+ * of source, so <code>maximumSize</code> is the number of templates for usual expressions.
+ * Templates can also be pinned by an owner (the templates of a flow revision), they are then never evicted until
+ * the owner releases them. Pinned templates are weighted the same way and bounded by <code>maximumPinnedSize</code>:
+ * the templates that don't fit are dropped, as are the released ones, so pinning never evicts the templates in use
+ * from the LRU cache: they are compiled and cached on first use instead.
+ */
 @Slf4j
 public class PebbleLruCache implements PebbleCache<Object, PebbleTemplate> {
     Cache<Object, PebbleTemplate> cache;
 
+    private final Map<Object, PinnedTemplate> pinned = new ConcurrentHashMap<>();
+    private final Map<String, Map<Object, PebbleTemplate>> pinnedByOwner = new HashMap<>();
+    private final long maximumPinnedWeight;
+    private long pinnedWeight = 0;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Timer compileTimer;
+
     public PebbleLruCache(int maximumSize) {
+        this(maximumSize, maximumSize, null);
+    }
+
+    public PebbleLruCache(int maximumSize, int maximumPinnedSize, @Nullable MetricRegistry metricRegistry) {
         cache = CacheBuilder.newBuilder()
             .initialCapacity(250)
-            .maximumSize(maximumSize)
+            .maximumWeight(maximumSize)
+            .weigher((Object key, PebbleTemplate value) -> weight(key))
             .build();
+        this.maximumPinnedWeight = maximumPinnedSize;
+
+        this.hitCounter = metricRegistry == null ? null : metricRegistry.counter(MetricRegistry.METRIC_TEMPLATE_CACHE_HIT_COUNT);
+        this.missCounter = metricRegistry == null ? null : metricRegistry.counter(MetricRegistry.METRIC_TEMPLATE_CACHE_MISS_COUNT);
+        this.compileTimer = metricRegistry == null ? null : metricRegistry.timer(MetricRegistry.METRIC_TEMPLATE_COMPILE_DURATION);
     }
 
     @Override
     public PebbleTemplate computeIfAbsent(Object key, Function<? super Object, ? extends PebbleTemplate> mappingFunction) {
+        PinnedTemplate pinnedTemplate = pinned.get(key);
+        if (pinnedTemplate != null) {
+            this.increment(hitCounter);
+            return pinnedTemplate.template();
+        }
+
+        PebbleTemplate cached = cache.getIfPresent(key);
+        if (cached != null) {
+            this.increment(hitCounter);
+            return cached;
+        }
+
+        this.increment(missCounter);
         try {
-            return cache.get(key, () -> mappingFunction.apply(key));
+            return cache.get(key, () -> this.compile(key, mappingFunction));
         } catch (Exception e) {
             // we retry the mapping function in order to let the exception be thrown instead of being capture by cache
             return mappingFunction.apply(key);
         }
     }
 
+    /**
+     * Pin the given templates for the owner, replacing the ones it previously pinned.
+     * The templates exceeding the maximum pinned size are dropped.
+     */
+    public synchronized void pin(String owner, Map<Object, PebbleTemplate> templates) {
+        this.release(owner);
+
+        Map<Object, PebbleTemplate> owned = new HashMap<>();
+        templates.forEach((key, template) -> {
+            PinnedTemplate current = pinned.get(key);
+            if (current != null) {
+                pinned.put(key, new PinnedTemplate(current.template(), current.owners() + 1));
+                owned.put(key, template);
+            } else if (pinnedWeight + weight(key) <= maximumPinnedWeight) {
+                pinned.put(key, new PinnedTemplate(template, 1));
+                pinnedWeight += weight(key);
+                cache.invalidate(key);
+                owned.put(key, template);
+            }
+        });
+
+        pinnedByOwner.put(owner, owned);
+    }
+
+    /**
+     * Release the templates pinned by the owner, the ones no longer pinned are dropped.
+     */
+    public synchronized void release(String owner) {
+        Map<Object, PebbleTemplate> previous = pinnedByOwner.remove(owner);
+        if (previous == null) {
+            return;
+        }
+
+        previous.keySet().forEach(key -> {
+            PinnedTemplate released = pinned.computeIfPresent(key, (k, current) -> current.owners() <= 1 ?
+                null :
+                new PinnedTemplate(current.template(), current.owners() - 1)
+            );
+
+            if (released == null) {
+                pinnedWeight -= weight(key);
+            }
+        });
+    }
+
     @Override
     public void invalidateAll() {
         cache.invalidateAll();
     }
+
+    /**
+     * The total weight of the pinned templates.
+     */
+    synchronized long pinnedWeight() {
+        return pinnedWeight;
+    }
+
+    private static int weight(Object key) {
+        return 1 + key.toString().length() / 1024;
+    }
+
+    private PebbleTemplate compile(Object key, Function<? super Object, ? extends PebbleTemplate> mappingFunction) {
+        if (compileTimer == null) {
+            return mappingFunction.apply(key);
+        }
+
+        return compileTimer.record(() -> mappingFunction.apply(key));
+    }
+
+    private void increment(@Nullable Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    private record PinnedTemplate(PebbleTemplate template, int owners) {}
 }
@@ -0,0 +1,106 @@
+package io.kestra.core.services;
+
+import io.micronaut.http.sse.Event;
+import reactor.core.publisher.FluxSink;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A per-subscriber bounded buffer in front of a {@link FluxSink}, used by the streaming services so a slow
+ * subscriber can't grow an unbounded buffer in the webserver.
+ * <p>
+ * Events are sent directly while the subscriber has some demand, otherwise they are kept in a buffer of the given capacity,
+ * dropping the oldest ones when full, and flushed when the subscriber requests more.
+ * A capacity of 1 means only the latest event is kept, which is what we want for events that are full snapshots.
+ * <p>
+ * A sink can be held, keeping all the events in the buffer until {@link #release(Event)} sends a first event,
+ * so a subscriber can be registered before its initial state is read without receiving an update before it.
+ */
+public class BoundedEventSink<T> {
+    private final FluxSink<Event<T>> sink;
+    private final int capacity;
+    private final Runnable onDrop;
+    private final Deque<Event<T>> pending = new ArrayDeque<>();
+    private boolean completed = false;
+    private boolean held = false;
+
+    public BoundedEventSink(FluxSink<Event<T>> sink, int capacity, Runnable onDrop) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1, got " + capacity);
+        }
+
+        this.sink = sink;
+        this.capacity = capacity;
+        this.onDrop = onDrop;
+
+        sink.onRequest(ignored -> this.drain());
+    }
+
+    public synchronized void next(Event<T> event) {
+        if (completed) {
+            return;
+        }
+
+        if (!held && pending.isEmpty() && sink.requestedFromDownstream() > 0) {
+            sink.next(event);
+            return;
+        }
+
+        if (pending.size() >= capacity) {
+            pending.pollFirst();
+            onDrop.run();
+        }
+
+        pending.addLast(event);
+        this.drain();
+    }
+
+    /**
+     * Complete the sink once all the buffered events are sent.
+     */
+    public synchronized void complete() {
+        completed = true;
+        this.drain();
+    }
+
+    public synchronized void error(Throwable e) {
+        if (completed) {
+            return;
+        }
+
+        completed = true;
+        pending.clear();
+        sink.error(e);
+    }
+
+    /**
+     * Keep the events in the buffer until {@link #release(Event)} is called.
+     */
+    public synchronized void hold() {
+        held = true;
+    }
+
+    /**
+     * Send the given event, then the ones buffered while the sink was held.
+     */
+    public synchronized void release(Event<T> first) {
+        held = false;
+        pending.addFirst(first);
+        this.drain();
+    }
+
+    private synchronized void drain() {
+        if (held) {
+            return;
+        }
+
+        while (!pending.isEmpty() && sink.requestedFromDownstream() > 0) {
+            sink.next(pending.pollFirst());
+        }
+
+        if (completed && pending.isEmpty()) {
+            sink.complete();
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package io.kestra.core.services;
+
+import io.kestra.core.models.flows.FlowWithSource;
+import io.kestra.core.models.triggers.AbstractTrigger;
+import io.kestra.core.utils.ListUtils;
+import jakarta.annotation.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable and versioned snapshot of the last revision of all the flows, indexed by tenant, namespace and id.
+ * <p>
+ * Updating a flow returns a new catalog sharing the indexes of the other tenants and namespaces, so an update only copies
+ * the namespaces of its tenant and the flows of its namespace.
+ * The list of all the flows, and the lists by tenant or by trigger type, are computed on first use and shared by all the
+ * readers of a version.
+ */
+public final class FlowCatalog {
+    public static final FlowCatalog EMPTY = new FlowCatalog(0, Map.of(), 0);
+
+    // tenant -> namespace -> id -> flow, the null tenant is stored with an empty key
+    private final Map<String, Map<String, Map<String, FlowWithSource>>> index;
+    private final long version;
+    private final int size;
+
+    private volatile List<FlowWithSource> flows;
+    private final Map<String, List<FlowWithSource>> byTenant = new ConcurrentHashMap<>();
+    private final Map<Class<?>, List<FlowWithSource>> byTriggerType = new ConcurrentHashMap<>();
+
+    private FlowCatalog(long version, Map<String, Map<String, Map<String, FlowWithSource>>> index, int size) {
+        this.version = version;
+        this.index = index;
+        this.size = size;
+    }
+
+    public static FlowCatalog of(Collection<FlowWithSource> flows) {
+        Map<String, Map<String, Map<String, FlowWithSource>>> index = new LinkedHashMap<>();
+        flows.stream().filter(Objects::nonNull).forEach(flow -> index
+            .computeIfAbsent(tenantKey(flow.getTenantId()), k -> new LinkedHashMap<>())
+            .computeIfAbsent(flow.getNamespace(), k -> new LinkedHashMap<>())
+            .put(flow.getId(), flow)
+        );
+
+        int size = 0;
+        for (Map.Entry<String, Map<String, Map<String, FlowWithSource>>> tenant : index.entrySet()) {
+            for (Map.Entry<String, Map<String, FlowWithSource>> namespace : tenant.getValue().entrySet()) {
+                size += namespace.getValue().size();
+                namespace.setValue(Collections.unmodifiableMap(namespace.getValue()));
+            }
+            tenant.setValue(Collections.unmodifiableMap(tenant.getValue()));
+        }
+
+        return new FlowCatalog(1, Collections.unmodifiableMap(index), size);
+    }
+
+    /**
+     * The version is incremented on each change, two catalogs with the same version contain the same flows.
+     */
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Optional<FlowWithSource> find(@Nullable String tenantId, String namespace, String id) {
+        return Optional.ofNullable(this.index.getOrDefault(tenantKey(tenantId), Map.of()).getOrDefault(namespace, Map.of()).get(id));
+    }
+
+    public Optional<FlowWithSource> find(FlowWithSource flow) {
+        return this.find(flow.getTenantId(), flow.getNamespace(), flow.getId());
+    }
+
+    public List<FlowWithSource> flows() {
+        List<FlowWithSource> current = this.flows;
+        if (current == null) {
+            current = this.index.values().stream()
+                .flatMap(namespaces -> namespaces.values().stream())
+                .flatMap(ids -> ids.values().stream())
+                .toList();
+            this.flows = current;
+        }
+
+        return current;
+    }
+
+    public List<FlowWithSource> flows(@Nullable String tenantId) {
+        return this.byTenant.computeIfAbsent(tenantKey(tenantId), key -> this.index.getOrDefault(key, Map.of()).values().stream()
+            .flatMap(ids -> ids.values().stream())
+            .toList()
+        );
+    }
+
+    /**
+     * @return the flows having at least one trigger of the given type.
+     */
+    public List<FlowWithSource> withTrigger(Class<? extends AbstractTrigger> type) {
+        return this.byTriggerType.computeIfAbsent(type, key -> this.flows().stream()
+            .filter(flow -> ListUtils.emptyOnNull(flow.getTriggers()).stream().anyMatch(key::isInstance))
+            .toList()
+        );
+    }
+
+    /**
+     * @return a new catalog with the flow added, or replacing the flow with the same tenant, namespace and id.
+     */
+    public FlowCatalog upsert(FlowWithSource flow) {
+        Map<String, FlowWithSource> ids = this.ids(flow);
+        boolean exists = ids.containsKey(flow.getId());
+
+        Map<String, FlowWithSource> newIds = new LinkedHashMap<>(ids);
+        newIds.put(flow.getId(), flow);
+
+        return this.with(flow, newIds, exists ? this.size : this.size + 1);
+    }
+
+    /**
+     * @return a new catalog without the flow, or this one if it doesn't contain the flow.
+     */
+    public FlowCatalog remove(FlowWithSource flow) {
+        Map<String, FlowWithSource> ids = this.ids(flow);
+        if (!ids.containsKey(flow.getId())) {
+            return this;
+        }
+
+        Map<String, FlowWithSource> newIds = new LinkedHashMap<>(ids);
+        newIds.remove(flow.getId());
+
+        return this.with(flow, newIds, this.size - 1);
+    }
+
+    private Map<String, FlowWithSource> ids(FlowWithSource flow) {
+        return this.index.getOrDefault(tenantKey(flow.getTenantId()), Map.of()).getOrDefault(flow.getNamespace(), Map.of());
+    }
+
+    private FlowCatalog with(FlowWithSource flow, Map<String, FlowWithSource> newIds, int newSize) {
+        String tenantKey = tenantKey(flow.getTenantId());
+
+        Map<String, Map<String, FlowWithSource>> newNamespaces = new LinkedHashMap<>(this.index.getOrDefault(tenantKey, Map.of()));
+        if (newIds.isEmpty()) {
+            newNamespaces.remove(flow.getNamespace());
+        } else {
+            newNamespaces.put(flow.getNamespace(), Collections.unmodifiableMap(newIds));
+        }
+
+        Map<String, Map<String, Map<String, FlowWithSource>>> newIndex = new LinkedHashMap<>(this.index);
+        if (newNamespaces.isEmpty()) {
+            newIndex.remove(tenantKey);
+        } else {
+            newIndex.put(tenantKey, Collections.unmodifiableMap(newNamespaces));
+        }
+
+        return new FlowCatalog(this.version + 1, Collections.unmodifiableMap(newIndex), newSize);
+    }
+
+    private static String tenantKey(@Nullable String tenantId) {
+        return Objects.requireNonNullElse(tenantId, "");
+    }
+}
@@ -14,4 +14,11 @@ public interface FlowListenersInterface {
     void listen(BiConsumer<FlowWithSource, FlowWithSource> consumer);
 
     List<FlowWithSource> flows();
+
+    /**
+     * @return an immutable snapshot of the flows, indexed for lookups.
+     */
+    default FlowCatalog catalog() {
+        return FlowCatalog.of(this.flows());
+    }
 }
@@ -4,6 +4,8 @@ import io.kestra.core.storages.StorageInterface;
 import io.kestra.core.storages.kv.InternalKVStore;
 import io.kestra.core.storages.kv.KVStore;
 import io.kestra.core.storages.kv.KVStoreException;
+import io.kestra.core.storages.kv.KVValueCache;
+import io.kestra.core.storages.kv.KVVersionStorage;
 import jakarta.annotation.Nullable;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
@@ -22,6 +24,13 @@ public class KVStoreService {
     @Inject
     private NamespaceService namespaceService;
 
+    @Inject
+    private KVValueCache kvValueCache;
+
+    @Inject
+    @Nullable
+    private KVVersionStorage kvVersionStorage;
+
     /**
      * Gets access to the Key-Value store for the given namespace.
      *
@@ -46,7 +55,7 @@ public class KVStoreService {
         boolean checkIfNamespaceExists = fromNamespace == null || isNotParentNamespace(namespace, fromNamespace);
         if (checkIfNamespaceExists && !namespaceService.isNamespaceExists(tenant, namespace)) {
             // if it didn't exist, we still check if there are KV as you can add KV without creating a namespace in DB or having flows in it
-            KVStore kvStore = new InternalKVStore(tenant, namespace, storageInterface);
+            KVStore kvStore = new InternalKVStore(tenant, namespace, storageInterface, kvValueCache, kvVersionStorage);
             try {
                 if (kvStore.list().isEmpty()) {
                     throw new KVStoreException(String.format(
@@ -60,7 +69,7 @@ public class KVStoreService {
             return kvStore;
         }
 
-        return new InternalKVStore(tenant, namespace, storageInterface);
+        return new InternalKVStore(tenant, namespace, storageInterface, kvValueCache, kvVersionStorage);
     }
 
     private static boolean isNotParentNamespace(final String parentNamespace, final String childNamespace) {
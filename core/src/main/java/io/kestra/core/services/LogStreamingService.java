@@ -1,8 +1,10 @@
 package io.kestra.core.services;
 
+import io.kestra.core.metrics.MetricRegistry;
 import io.kestra.core.models.executions.LogEntry;
 import io.kestra.core.queues.QueueFactoryInterface;
 import io.kestra.core.queues.QueueInterface;
+import io.micronaut.context.annotation.Value;
 import io.micronaut.http.sse.Event;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
@@ -16,6 +18,7 @@ import reactor.core.publisher.FluxSink;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * This service offers a fanout mechanism so a single consumer of the log queue can dispatch log messages to multiple consumers.
@@ -23,22 +26,36 @@ import java.util.concurrent.ConcurrentHashMap;
  * <p>
  * Consumers need first to register themselves via {@link #registerSubscriber(String, String, FluxSink, List)},
  * then unregister (ideally in a finally block to avoid any memory leak) via {@link #unregisterSubscriber(String, String)}.
+ * <p>
+ * The queue consumer only runs while there are subscribers, and skips the logs of the other executions before deserializing them.
+ * A subscriber that doesn't keep up has its oldest logs dropped once its buffer is full.
  */
 @Slf4j
 @Singleton
 public class LogStreamingService {
-    private final Map<String, Map<String, Pair<FluxSink<Event<LogEntry>>, List<String>>>> subscribers = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Pair<BoundedEventSink<LogEntry>, List<String>>>> subscribers = new ConcurrentHashMap<>();
     private final Object subscriberLock = new Object();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
 
     @Inject
     @Named(QueueFactoryInterface.WORKERTASKLOG_NAMED)
     protected QueueInterface<LogEntry> logQueue;
 
+    @Inject
+    protected MetricRegistry metricRegistry;
+
+    @Value("${kestra.server.streaming.log-buffer-size:10000}")
+    protected int bufferSize;
+
     private Runnable queueConsumer;
 
     @PostConstruct
-    void startQueueConsumer() {
-        this.queueConsumer = logQueue.receive(either -> {
+    void registerMetrics() {
+        metricRegistry.gauge(MetricRegistry.STREAMING_SUBSCRIBER_COUNT, subscriberCount, MetricRegistry.TAG_CLASS_NAME, LogEntry.class.getName());
+    }
+
+    private void startQueueConsumer() {
+        this.queueConsumer = logQueue.receiveForExecutions(id -> id != null && subscribers.containsKey(id), either -> {
             if (either.isRight()) {
                 log.error("Unable to deserialize log: {}", either.getRight().getMessage());
                 return;
@@ -46,7 +63,7 @@ public class LogStreamingService {
 
             LogEntry current = either.getLeft();
             // Get all subscribers for this execution
-            Map<String, Pair<FluxSink<Event<LogEntry>>, List<String>>> executionSubscribers = subscribers.get(current.getExecutionId());
+            Map<String, Pair<BoundedEventSink<LogEntry>, List<String>>> executionSubscribers = current.getExecutionId() == null ? null : subscribers.get(current.getExecutionId());
 
             if (executionSubscribers != null && !executionSubscribers.isEmpty()) {
                 executionSubscribers.values().forEach(pair -> {
@@ -66,10 +83,21 @@ public class LogStreamingService {
      * All subscribers must ensure to call {@link #unregisterSubscriber(String, String)} to avoid any memory leak.
      */
     public void registerSubscriber(String executionId, String subscriberId, FluxSink<Event<LogEntry>> sink, List<String> levels) {
+        BoundedEventSink<LogEntry> boundedSink = new BoundedEventSink<>(
+            sink,
+            bufferSize,
+            () -> metricRegistry.counter(MetricRegistry.STREAMING_EVENT_DROPPED_COUNT, MetricRegistry.TAG_CLASS_NAME, LogEntry.class.getName()).increment()
+        );
+
         // it needs to be synchronized as we get and remove if empty, so we must be sure that nobody else is adding a new one in-between
         synchronized (subscriberLock) {
             subscribers.computeIfAbsent(executionId, k -> new ConcurrentHashMap<>())
-                .put(subscriberId, Pair.of(sink, levels));
+                .put(subscriberId, Pair.of(boundedSink, levels));
+            subscriberCount.incrementAndGet();
+
+            if (queueConsumer == null) {
+                this.startQueueConsumer();
+            }
         }
     }
 
@@ -80,20 +108,32 @@ public class LogStreamingService {
     public void unregisterSubscriber(String executionId, String subscriberId) {
         // it needs to be synchronized as we get and remove if empty, so we must be sure that nobody else is adding a new one in-between
         synchronized (subscriberLock) {
-            Map<String, Pair<FluxSink<Event<LogEntry>>, List<String>>> executionSubscribers = subscribers.get(executionId);
+            Map<String, Pair<BoundedEventSink<LogEntry>, List<String>>> executionSubscribers = subscribers.get(executionId);
             if (executionSubscribers != null) {
-                executionSubscribers.remove(subscriberId);
+                if (executionSubscribers.remove(subscriberId) != null) {
+                    subscriberCount.decrementAndGet();
+                }
+
                 if (executionSubscribers.isEmpty()) {
                     subscribers.remove(executionId);
                 }
             }
+
+            // stop consuming the queue when nobody follows logs anymore
+            if (subscribers.isEmpty() && queueConsumer != null) {
+                queueConsumer.run();
+                queueConsumer = null;
+            }
         }
     }
 
     @PreDestroy
     void shutdown() {
-        if (queueConsumer != null) {
-            queueConsumer.run();
+        synchronized (subscriberLock) {
+            if (queueConsumer != null) {
+                queueConsumer.run();
+                queueConsumer = null;
+            }
         }
     }
 }
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Lists;
 import io.kestra.core.models.Plugin;
 import io.kestra.core.models.executions.Execution;
@@ -18,6 +20,7 @@ import io.kestra.core.queues.QueueInterface;
 import io.kestra.core.runners.RunContextLogger;
 import io.kestra.core.serializers.JacksonMapper;
 import io.kestra.core.serializers.YamlParser;
+import io.kestra.core.utils.ListUtils;
 import io.kestra.core.utils.MapUtils;
 import io.micronaut.core.annotation.Nullable;
 import jakarta.annotation.PostConstruct;
@@ -45,6 +48,8 @@ public class PluginDefaultService {
     private static final ObjectMapper OBJECT_MAPPER = JacksonMapper.ofYaml().copy()
         .setSerializationInclusion(JsonInclude.Include.NON_NULL);
 
+    private static final int INJECTED_CACHE_SIZE = 1000;
+
     @Nullable
     @Inject
     protected TaskGlobalDefaultConfiguration taskGlobalDefault;
@@ -66,6 +71,11 @@ public class PluginDefaultService {
 
     private final AtomicBoolean warnOnce = new AtomicBoolean(false);
 
+    // flows with defaults injected, the same revision is injected many times by the executor, the scheduler and the webserver
+    private final Cache<InjectedKey, FlowWithSource> injected = CacheBuilder.newBuilder()
+        .maximumSize(INJECTED_CACHE_SIZE)
+        .build();
+
     @PostConstruct
     void validateGlobalPluginDefault() {
         List<PluginDefault> mergedDefaults = new ArrayList<>();
@@ -174,24 +184,57 @@ public class PluginDefaultService {
 
     /**
      * Inject plugin defaults into a Flow.
+     * <p>
+     * The result is cached by source, tenant, revision and {@link #defaultsVersion(Flow)}, so the returned flow can be
+     * shared and must not be modified.
      */
     public FlowWithSource injectDefaults(FlowWithSource flow) throws ConstraintViolationException {
+        InjectedKey key = new InjectedKey(
+            flow.getTenantId(),
+            flow.getRevision(),
+            flow.getSource(),
+            // the flow defaults are usually the ones of the source, but they can be set on the flow object
+            ListUtils.emptyOnNull(flow.getPluginDefaults()).stream()
+                .map(pluginDefault -> Arrays.asList(pluginDefault.getType(), pluginDefault.isForced(), pluginDefault.getValues()))
+                .toList(),
+            this.defaultsVersion(flow)
+        );
+        FlowWithSource cached = injected.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
         try {
             Map<String, Object> flowAsMap = OBJECT_MAPPER.readValue(flow.getSource(), JacksonMapper.MAP_TYPE_REFERENCE);
 
             Flow withDefault =  innerInjectDefault(flow, flowAsMap);
 
             // revision and tenants are not in the source, so we copy them manually
-            return withDefault.toBuilder()
+            FlowWithSource result = withDefault.toBuilder()
                 .tenantId(flow.getTenantId())
                 .revision(flow.getRevision())
                 .build()
                 .withSource(flow.getSource());
+
+            injected.put(key, result);
+            return result;
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
     }
 
+    /**
+     * Identifies the defaults applied in addition to the ones of the flow source: two calls returning equal values must
+     * inject the same defaults. Global defaults are compared by identity, so it changes when the configuration is reloaded.
+     * Subclasses adding defaults in {@link #mergeAllDefaults(Flow)} must override it.
+     */
+    protected Object defaultsVersion(Flow flow) {
+        return Arrays.asList(
+            taskGlobalDefault == null ? null : taskGlobalDefault.getDefaults(),
+            pluginGlobalDefault == null ? null : pluginGlobalDefault.getDefaults()
+        );
+    }
+
     @SuppressWarnings("unchecked")
     private Flow innerInjectDefault(Flow flow, Map<String, Object> flowAsMap) {
         List<PluginDefault> allDefaults = mergeAllDefaults(flow);
@@ -275,6 +318,8 @@ public class PluginDefaultService {
         allDefaults.addAll(aliasedPluginDefault);
     }
 
+    private record InjectedKey(String tenantId, Integer revision, String source, List<List<Object>> flowDefaults, Object defaultsVersion) {}
+
     @VisibleForTesting
     Object recursiveDefaults(Object object, Map<String, List<PluginDefault>> defaults) {
         if (object instanceof Map<?, ?> value) {
@@ -1,10 +1,12 @@
 package io.kestra.core.storages.kv;
 
+import com.google.common.util.concurrent.Striped;
 import io.kestra.core.exceptions.ResourceExpiredException;
 import io.kestra.core.serializers.JacksonMapper;
 import io.kestra.core.storages.FileAttributes;
 import io.kestra.core.storages.StorageInterface;
 import io.kestra.core.storages.StorageObject;
+import io.kestra.core.utils.Rethrow;
 import jakarta.annotation.Nullable;
 
 import java.io.ByteArrayInputStream;
@@ -12,10 +14,15 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
 import java.util.regex.Pattern;
 
 import static io.kestra.core.utils.Rethrow.throwFunction;
@@ -28,9 +35,18 @@ public class InternalKVStore implements KVStore {
 
     private static final Pattern DURATION_PATTERN = Pattern.compile("^P(?=[^T]|T.)(?:\\d*D)?(?:T(?=.)(?:\\d*H)?(?:\\d*M)?(?:\\d*S)?)?$");
 
+    // without a version storage, writes, increments and compare-and-set of a key are only serialized inside this instance
+    private static final Striped<Lock> KEY_LOCKS = Striped.lazyWeakLock(1024);
+
+    private static final AtomicLong LAST_VERSION = new AtomicLong();
+
     private final String namespace;
     private final String tenant;
     private final StorageInterface storage;
+    @Nullable
+    private final KVValueCache cache;
+    @Nullable
+    private final KVVersionStorage versionStorage;
 
     /**
      * Creates a new {@link InternalKVStore} instance.
@@ -40,9 +56,37 @@ public class InternalKVStore implements KVStore {
      * @param storage   The storage.
      */
     public InternalKVStore(@Nullable final String tenant, final String namespace, final StorageInterface storage) {
+        this(tenant, namespace, storage, null);
+    }
+
+    /**
+     * Creates a new {@link InternalKVStore} instance reading values through the given cache.
+     *
+     * @param namespace The namespace
+     * @param tenant    The tenant.
+     * @param storage   The storage.
+     * @param cache     The value cache, or {@code null} to always read from the storage.
+     */
+    public InternalKVStore(@Nullable final String tenant, final String namespace, final StorageInterface storage, @Nullable final KVValueCache cache) {
+        this(tenant, namespace, storage, cache, null);
+    }
+
+    /**
+     * Creates a new {@link InternalKVStore} instance reading values through the given cache
+     * and serializing the writes of a key between all the instances with the given version storage.
+     *
+     * @param namespace      The namespace
+     * @param tenant         The tenant.
+     * @param storage        The storage.
+     * @param cache          The value cache, or {@code null} to always read from the storage.
+     * @param versionStorage The version storage, or {@code null} to only serialize the writes inside this instance.
+     */
+    public InternalKVStore(@Nullable final String tenant, final String namespace, final StorageInterface storage, @Nullable final KVValueCache cache, @Nullable final KVVersionStorage versionStorage) {
         this.namespace = Objects.requireNonNull(namespace, "namespace cannot be null");
         this.storage = Objects.requireNonNull(storage, "storage cannot be null");
         this.tenant = tenant;
+        this.cache = cache;
+        this.versionStorage = versionStorage;
     }
 
     /**
@@ -60,17 +104,128 @@ public class InternalKVStore implements KVStore {
     public void put(String key, KVValueAndMetadata value, boolean overwrite) throws IOException {
         KVStore.validateKey(key);
 
-        if (!overwrite && exists(key)) {
-            throw new KVStoreException(String.format(
-                "Cannot set value for key '%s'. Key already exists and `overwrite` is set to `false`.", key));
+        this.locked(key, version -> {
+            if (!overwrite && exists(key)) {
+                throw new KVStoreException(String.format(
+                    "Cannot set value for key '%s'. Key already exists and `overwrite` is set to `false`.", key));
+            }
+
+            this.write(key, value.metadataAsMap(), value.value(), version);
+
+            return null;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Number increment(String key, Number delta) throws IOException {
+        KVStore.validateKey(key);
+        Objects.requireNonNull(delta, "delta cannot be null");
+
+        return this.locked(key, version -> {
+            Optional<KVValueAndMetadata> current = this.readEntry(key);
+            Object value = current.map(KVValueAndMetadata::value).orElse(0);
+            if (!(value instanceof Number number)) {
+                throw new KVStoreException(String.format("Cannot increment key '%s', its value is not a number.", key));
+            }
+
+            // not a conditional expression, it would promote the long to a double
+            Number incremented;
+            if (isIntegral(number) && isIntegral(delta)) {
+                incremented = Math.addExact(number.longValue(), delta.longValue());
+            } else {
+                incremented = number.doubleValue() + delta.doubleValue();
+            }
+
+            this.write(key, current.map(KVValueAndMetadata::metadataAsMap).orElse(null), incremented, version);
+
+            return incremented;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean compareAndSet(String key, @Nullable Long expectedVersion, KVValueAndMetadata value) throws IOException {
+        KVStore.validateKey(key);
+
+        return this.locked(key, version -> {
+            // entries written before versions were introduced are at version 0
+            Long currentVersion = this.readEntry(key)
+                .map(entry -> Optional.ofNullable(entry.metadata()).map(KVMetadata::getVersion).orElse(0L))
+                .orElse(null);
+            if (!Objects.equals(currentVersion, expectedVersion)) {
+                return false;
+            }
+
+            this.write(key, value.metadataAsMap(), value.value(), version);
+
+            return true;
+        });
+    }
+
+    /**
+     * Runs a write of the key with its next version, serialized with the other writes of the key.
+     */
+    private <T> T locked(String key, Rethrow.FunctionChecked<Long, T, IOException> writer) throws IOException {
+        if (this.versionStorage != null) {
+            return this.versionStorage.write(this.tenant, this.namespace, key, writer);
         }
 
-        byte[] serialized = JacksonMapper.ofIon().writeValueAsBytes(value.value());
+        Lock lock = KEY_LOCKS.get(this.storageUri(key).toString() + "|" + this.tenant);
+        lock.lock();
+        try {
+            // strictly increasing inside this instance, and in microseconds so that writes from other instances differ
+            long now = ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now());
+
+            return writer.apply(LAST_VERSION.updateAndGet(last -> Math.max(last + 1, now)));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void write(String key, @Nullable Map<String, String> metadata, @Nullable Object value, long version) throws IOException {
+        Map<String, String> versioned = metadata == null ? new HashMap<>() : new HashMap<>(metadata);
+        versioned.put("version", String.valueOf(version));
+
+        byte[] serialized = JacksonMapper.ofIon().writeValueAsBytes(value);
 
         this.storage.put(this.tenant, this.namespace, this.storageUri(key), new StorageObject(
-            value.metadataAsMap(),
+            versioned,
             new ByteArrayInputStream(serialized)
         ));
+
+        if (this.cache != null) {
+            this.cache.invalidate(this.tenant, this.namespace, key);
+        }
+    }
+
+    /**
+     * Reads the deserialized value and metadata of an entry, an expired entry is deleted and considered missing.
+     */
+    private Optional<KVValueAndMetadata> readEntry(String key) throws IOException {
+        StorageObject withMetadata;
+        try {
+            withMetadata = this.storage.getWithMetadata(this.tenant, this.namespace, this.storageUri(key));
+        } catch (FileNotFoundException e) {
+            return Optional.empty();
+        }
+
+        KVValueAndMetadata raw = KVValueAndMetadata.from(withMetadata);
+        Instant expirationDate = raw.metadata().getExpirationDate();
+        if (expirationDate != null && Instant.now().isAfter(expirationDate)) {
+            this.delete(key);
+            return Optional.empty();
+        }
+
+        return Optional.of(new KVValueAndMetadata(raw.metadata(), JacksonMapper.ofIon().readValue((String) raw.value(), Object.class)));
+    }
+
+    private static boolean isIntegral(Number number) {
+        return number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte;
     }
 
     /**
@@ -78,18 +233,85 @@ public class InternalKVStore implements KVStore {
      */
     @Override
     public Optional<KVValue> getValue(String key) throws IOException, ResourceExpiredException {
-        return this.getRawValue(key).map(throwFunction(raw -> {
-            Object value = JacksonMapper.ofIon().readValue(raw, Object.class);
-            if (value instanceof String valueStr && DURATION_PATTERN.matcher(valueStr).matches()) {
-                return new KVValue(Duration.parse(valueStr));
+        if (this.cache == null) {
+            return this.getRawValue(key).map(throwFunction(InternalKVStore::deserialize));
+        }
+
+        KVStore.validateKey(key);
+
+        Instant now = Instant.now();
+        Optional<KVValueCache.Entry> cached = this.cache.get(this.tenant, this.namespace, key)
+            .filter(entry -> !entry.isExpired(now));
+        if (cached.isPresent() && now.isBefore(cached.get().checkedUntil())) {
+            return Optional.of(deserialize(cached.get().rawValue()));
+        }
+
+        // only the attributes are fetched to check if the cached value is still the stored one
+        if (cached.isPresent() && cached.get().version() != null) {
+            FileAttributes attributes;
+            try {
+                attributes = this.storage.getAttributes(this.tenant, this.namespace, this.storageUri(key));
+            } catch (FileNotFoundException e) {
+                this.cache.invalidate(this.tenant, this.namespace, key);
+                return Optional.empty();
+            }
+
+            if (cached.get().version().equals(new KVMetadata(attributes.getMetadata()).getVersion())) {
+                this.cache.revalidated(this.tenant, this.namespace, key, cached.get());
+                return Optional.of(deserialize(cached.get().rawValue()));
             }
-            return new KVValue(value);
-        }));
+        }
+
+        // the value and its version come from the same read, so a concurrent write can't be cached with a stale version
+        Optional<KVValueAndMetadata> stored = this.readStored(key);
+        if (stored.isEmpty()) {
+            this.cache.invalidate(this.tenant, this.namespace, key);
+            return Optional.empty();
+        }
+
+        String rawValue = (String) stored.get().value();
+        KVMetadata metadata = stored.get().metadata();
+        this.cache.put(this.tenant, this.namespace, key, rawValue, metadata.getVersion(), metadata.getExpirationDate());
+
+        return Optional.of(deserialize(rawValue));
+    }
+
+    /**
+     * Deserializes a stored value, each call returning its own instance as values can be mutable maps or lists.
+     */
+    private static KVValue deserialize(String raw) throws IOException {
+        Object value = JacksonMapper.ofIon().readValue(raw, Object.class);
+        if (value instanceof String valueStr && DURATION_PATTERN.matcher(valueStr).matches()) {
+            return new KVValue(Duration.parse(valueStr));
+        }
+        return new KVValue(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<KVValueAndMetadata> getValueAndMetadata(String key) throws IOException, ResourceExpiredException {
+        KVStore.validateKey(key);
+
+        Optional<KVValueAndMetadata> stored = this.readStored(key);
+        if (stored.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new KVValueAndMetadata(stored.get().metadata(), deserialize((String) stored.get().value()).value()));
     }
 
     public Optional<String> getRawValue(String key) throws IOException, ResourceExpiredException {
         KVStore.validateKey(key);
 
+        return this.readStored(key).map(stored -> (String) stored.value());
+    }
+
+    /**
+     * Reads the serialized value and the metadata of an entry, an expired entry is deleted.
+     */
+    private Optional<KVValueAndMetadata> readStored(String key) throws IOException, ResourceExpiredException {
         StorageObject withMetadata;
         try {
             withMetadata = this.storage.getWithMetadata(this.tenant, this.namespace, this.storageUri(key));
@@ -103,7 +325,7 @@ public class InternalKVStore implements KVStore {
             this.delete(key);
             throw new ResourceExpiredException("The requested value has expired");
         }
-        return Optional.of((String)(kvStoreValueWrapper.value()));
+        return Optional.of(kvStoreValueWrapper);
     }
 
     /**
@@ -112,6 +334,11 @@ public class InternalKVStore implements KVStore {
     @Override
     public boolean delete(String key) throws IOException {
         KVStore.validateKey(key);
+
+        if (this.cache != null) {
+            this.cache.invalidate(this.tenant, this.namespace, key);
+        }
+
         return this.storage.delete(this.tenant, this.namespace, this.storageUri(key));
     }
 
@@ -132,6 +359,14 @@ public class InternalKVStore implements KVStore {
             .toList();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean exists(String key) throws IOException {
+        return this.get(key).isPresent();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -7,15 +7,22 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Optional;
 
-public record KVEntry(String key, Instant creationDate, Instant updateDate, Instant expirationDate) {
+public record KVEntry(String key, Instant creationDate, Instant updateDate, Instant expirationDate, Long version) {
+    public KVEntry(String key, Instant creationDate, Instant updateDate, Instant expirationDate) {
+        this(key, creationDate, updateDate, expirationDate, null);
+    }
+
     public static KVEntry from(FileAttributes fileAttributes) throws IOException {
+        KVMetadata metadata = new KVMetadata(fileAttributes.getMetadata());
+
         return new KVEntry(
             fileAttributes.getFileName().replace(".ion", ""),
             Instant.ofEpochMilli(fileAttributes.getCreationTime()),
             Instant.ofEpochMilli(fileAttributes.getLastModifiedTime()),
-            Optional.ofNullable(new KVMetadata(fileAttributes.getMetadata()).getExpirationDate())
+            Optional.ofNullable(metadata.getExpirationDate())
                 .map(expirationDate -> expirationDate.truncatedTo(ChronoUnit.MILLIS))
-                .orElse(null)
+                .orElse(null),
+            metadata.getVersion()
         );
     }
 }
@@ -9,6 +9,8 @@ import java.util.Optional;
 public class KVMetadata {
     private Instant expirationDate;
 
+    private Long version;
+
     public KVMetadata(Duration ttl) {
         if (ttl != null && ttl.isNegative()) {
             throw new IllegalArgumentException("ttl cannot be negative");
@@ -24,17 +26,31 @@ public class KVMetadata {
             .map(map -> map.get("expirationDate"))
             .map(Instant::parse)
             .orElse(null);
+        this.version = Optional.ofNullable(metadata)
+            .map(map -> map.get("version"))
+            .map(Long::parseLong)
+            .orElse(null);
     }
 
     public Instant getExpirationDate() {
         return expirationDate;
     }
 
+    /**
+     * The version of the entry, changed on each write, {@code null} for entries written before versions were introduced.
+     */
+    public Long getVersion() {
+        return version;
+    }
+
     public Map<String, String> toMap() {
         Map<String, String> map = new HashMap<>();
         if (expirationDate != null) {
             map.put("expirationDate", expirationDate.toString());
         }
+        if (version != null) {
+            map.put("version", version.toString());
+        }
         return map;
     }
 }
@@ -54,6 +54,35 @@ public interface KVStore {
      */
     void put(String key, KVValueAndMetadata value, boolean overwrite) throws IOException;
 
+    /**
+     * Adds the given delta to the number stored for the given key, a missing entry counting as zero.
+     * The expiration date of an existing entry is kept.
+     * <p>
+     * The increment is atomic with the other writes of the key: with a JDBC repository, they are serialized between all
+     * the Kestra instances by locking the version of the entry in the database, otherwise inside this instance only.
+     *
+     * @param key   The entry key - cannot be {@code null}.
+     * @param delta The number to add - cannot be {@code null}.
+     * @return The new value.
+     * @throws IOException      if an error occurred while executing the operation on the K/V store.
+     * @throws KVStoreException if the stored value is not a number.
+     */
+    Number increment(String key, Number delta) throws IOException;
+
+    /**
+     * Puts the given K/V entry if the current version of the entry is the expected one.
+     * <p>
+     * Like {@link #increment(String, Number)}, the check and the write are atomic with the other writes of the key.
+     *
+     * @param key             The entry key - cannot be {@code null}.
+     * @param expectedVersion The expected version as returned by {@link #get(String)},
+     *                        {@code null} to only put the entry if it doesn't exist.
+     * @param value           The entry value - cannot be {@code null}.
+     * @return {@code true} if the entry was put, {@code false} if its version changed meanwhile.
+     * @throws IOException if an error occurred while executing the operation on the K/V store.
+     */
+    boolean compareAndSet(String key, @Nullable Long expectedVersion, KVValueAndMetadata value) throws IOException;
+
     /**
      * Finds the entry value for the given key.
      *
@@ -64,6 +93,16 @@ public interface KVStore {
      */
     Optional<KVValue> getValue(String key) throws IOException, ResourceExpiredException;
 
+    /**
+     * Finds the entry value for the given key along with its metadata, both read at once from the K/V store.
+     *
+     * @param key The entry key - cannot be {@code null}.
+     * @return The {@link KVValueAndMetadata}, otherwise {@link Optional#empty()} if no entry exist for the given key.
+     * @throws IOException              if an error occurred while executing the operation on the K/V store.
+     * @throws ResourceExpiredException if the entry expired.
+     */
+    Optional<KVValueAndMetadata> getValueAndMetadata(String key) throws IOException, ResourceExpiredException;
+
     /**
      * Deletes the K/V store entry for the given key.
      *
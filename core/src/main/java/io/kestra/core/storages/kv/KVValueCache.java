@@ -0,0 +1,69 @@
+package io.kestra.core.storages.kv;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micronaut.context.annotation.Value;
+import jakarta.annotation.Nullable;
+import jakarta.inject.Singleton;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Short-lived cache of the K/V values read by this instance.
+ * <p>
+ * A cached value is served without reading the storage during the <code>kestra.kv.cache.ttl</code>. After that, the
+ * version stored in the metadata of the entry, changed on each write, is compared with the one of the cached value:
+ * if it didn't change, the value is served again without being downloaded. Values written or deleted from this instance
+ * are invalidated immediately, and entries written before versions existed are always downloaded again.
+ * <p>
+ * The serialized value is cached, so each read gets its own deserialized instance.
+ */
+@Singleton
+public class KVValueCache {
+    private final Duration ttl;
+
+    private final Cache<String, Entry> cache;
+
+    public KVValueCache(
+        @Value("${kestra.kv.cache.ttl:PT1S}") Duration ttl,
+        @Value("${kestra.kv.cache.maximum-size:10000}") long maximumSize
+    ) {
+        this.ttl = ttl;
+        this.cache = CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .build();
+    }
+
+    Optional<Entry> get(@Nullable String tenant, String namespace, String key) {
+        return Optional.ofNullable(this.cache.getIfPresent(cacheKey(tenant, namespace, key)));
+    }
+
+    void put(@Nullable String tenant, String namespace, String key, String rawValue, @Nullable Long version, @Nullable Instant expirationDate) {
+        this.cache.put(cacheKey(tenant, namespace, key), new Entry(rawValue, version, expirationDate, Instant.now().plus(this.ttl)));
+    }
+
+    void revalidated(@Nullable String tenant, String namespace, String key, Entry entry) {
+        this.cache.put(cacheKey(tenant, namespace, key), new Entry(entry.rawValue(), entry.version(), entry.expirationDate(), Instant.now().plus(this.ttl)));
+    }
+
+    void invalidate(@Nullable String tenant, String namespace, String key) {
+        this.cache.invalidate(cacheKey(tenant, namespace, key));
+    }
+
+    private static String cacheKey(@Nullable String tenant, String namespace, String key) {
+        return String.join("|", tenant == null ? "" : tenant, namespace, key);
+    }
+
+    /**
+     * @param rawValue     the serialized value.
+     * @param version      the version of the stored entry the value was read from, {@code null} if it has none.
+     * @param checkedUntil the value can be served without checking the stored file until this date.
+     */
+    record Entry(String rawValue, @Nullable Long version, @Nullable Instant expirationDate, Instant checkedUntil) {
+        boolean isExpired(Instant now) {
+            return expirationDate != null && now.isAfter(expirationDate);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package io.kestra.core.storages.kv;
+
+import io.kestra.core.utils.Rethrow;
+import jakarta.annotation.Nullable;
+
+import java.io.IOException;
+
+/**
+ * Versions of the K/V entries kept in the repository, serializing the writes of an entry between all the Kestra instances.
+ * <p>
+ * The internal storage has no conditional write, so {@link InternalKVStore} runs each write while the version of the
+ * entry is locked here: a concurrent increment or compare-and-set of the same key, from any instance, waits for it
+ * and then reads the value it wrote.
+ */
+public interface KVVersionStorage {
+    /**
+     * Locks the version of the entry, then runs the write with its next version. The lock is released once the write is done.
+     *
+     * @param writer The write of the entry, called with its next version.
+     * @return The result of the write.
+     * @throws IOException if the write failed.
+     */
+    <T> T write(@Nullable String tenant, String namespace, String key, Rethrow.FunctionChecked<Long, T, IOException> writer) throws IOException;
+}
@@ -1,5 +1,7 @@
 package io.kestra.core.topologies;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.kestra.core.models.Label;
 import io.kestra.core.models.conditions.Condition;
 import io.kestra.core.models.executions.Execution;
@@ -22,6 +24,7 @@ import jakarta.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -40,6 +43,11 @@ public class FlowTopologyService {
     @Inject
     private FlowTopologyRepositoryInterface flowTopologyRepository;
 
+    // weak keys are compared by identity, so an updated flow is inspected again
+    private final Cache<FlowWithSource, Dependencies> dependencies = CacheBuilder.newBuilder()
+        .weakKeys()
+        .build();
+
     public FlowTopologyGraph graph(Stream<FlowTopology> flows, Function<FlowNode, FlowNode> anonymize) {
         Graph<FlowNode, FlowRelation> graph = new Graph<>();
 
@@ -109,15 +117,65 @@ public class FlowTopologyService {
             .build();
     }
 
+    /**
+     * Compute the relations of a flow with all the others.
+     * <p>
+     * Only the pairs that can be related are evaluated: a flow can only be the parent of a flow it calls as a subflow,
+     * or of a flow having a flow trigger. The subflows called by a flow and the presence of a flow trigger are
+     * memoized per flow instance, so the flows that are not changed are not inspected again.
+     */
     public Stream<FlowTopology> topology(FlowWithSource child, List<FlowWithSource> allFlows) {
+        Dependencies childDependencies = this.dependencies(child);
+
         return allFlows.stream()
-            .flatMap(parent -> Stream.concat(
-                Stream.ofNullable(this.map(parent, child)),
-                Stream.ofNullable(this.map(child, parent))
-            ))
+            .flatMap(other -> {
+                Dependencies otherDependencies = this.dependencies(other);
+
+                return Stream.concat(
+                    otherDependencies.canBeParentOf(child, childDependencies) ? Stream.ofNullable(this.map(other, child)) : Stream.empty(),
+                    childDependencies.canBeParentOf(other, otherDependencies) ? Stream.ofNullable(this.map(child, other)) : Stream.empty()
+                );
+            })
             .filter(Objects::nonNull);
     }
 
+    private Dependencies dependencies(FlowWithSource flow) {
+        try {
+            return dependencies.get(flow, () -> new Dependencies(
+                this.subflows(flow),
+                ListUtils.emptyOnNull(flow.getTriggers()).stream().anyMatch(t -> t instanceof io.kestra.plugin.core.trigger.Flow)
+            ));
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Set<String> subflows(FlowWithSource flow) {
+        try {
+            return flow
+                .allTasksWithChilds()
+                .stream()
+                .filter(t -> t instanceof ExecutableTask)
+                .map(t -> ((ExecutableTask<?>) t).subflowId())
+                .filter(Objects::nonNull)
+                .map(subflowId -> subflowId.namespace() + "/" + subflowId.flowId())
+                .collect(Collectors.toSet());
+        } catch (Exception e) {
+            log.warn("Failed to detect flow task on namespace:'{}', flowId:'{}'", flow.getNamespace(), flow.getId(), e);
+            return Set.of();
+        }
+    }
+
+    /**
+     * @param subflows       the <code>namespace/id</code> of the flows called as subflows.
+     * @param hasFlowTrigger whether the flow has a flow trigger, so any flow can be its parent.
+     */
+    private record Dependencies(Set<String> subflows, boolean hasFlowTrigger) {
+        boolean canBeParentOf(FlowWithSource child, Dependencies childDependencies) {
+            return childDependencies.hasFlowTrigger() || subflows.contains(child.getNamespace() + "/" + child.getId());
+        }
+    }
+
     private FlowTopology map(FlowWithSource parent, FlowWithSource child) {
         // we don't allow self link
         if (child.uidWithoutRevision().equals(parent.uidWithoutRevision())) {
@@ -71,6 +71,23 @@ public class ExecutorsUtils {
         );
     }
 
+    /**
+     * A pool bounded to the available processors for a batch of CPU-bound work, for ex. deserializing flows,
+     * its threads get the context class loader of the caller so the tasks and triggers of the plugins are resolved
+     * the same way as on the calling thread.
+     * It lives for a single batch and the caller must shut it down, so it's not monitored.
+     */
+    public ExecutorService batchThreadPool(String name) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        ThreadFactory threadFactory = threadFactoryBuilder.build(name + "_%d");
+
+        return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = threadFactory.newThread(runnable);
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        });
+    }
+
     public ExecutorService singleThreadExecutor(String name) {
         return this.wrap(
             name,
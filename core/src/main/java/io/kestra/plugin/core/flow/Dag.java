@@ -1,6 +1,8 @@
 package io.kestra.plugin.core.flow;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Plugin;
@@ -24,6 +26,7 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Stream;
 
 
@@ -87,6 +90,11 @@ import java.util.stream.Stream;
     aliases = "io.kestra.core.tasks.flows.Dag"
 )
 public class Dag extends Task implements FlowableTask<VoidOutput> {
+    // compiled once per task instance, so once per flow revision, weak keys compare by identity and don't retain the flows
+    private static final Cache<Dag, DependencyGraph> DEPENDENCY_GRAPHS = CacheBuilder.newBuilder()
+        .weakKeys()
+        .build();
+
     @NotNull
     @Builder.Default
     @Schema(
@@ -131,16 +139,27 @@ public class Dag extends Task implements FlowableTask<VoidOutput> {
         return subGraph;
     }
 
-    private void controlTask() throws IllegalVariableEvaluationException {
-        List<String> dagCheckNotExistTasks = this.dagCheckNotExistTask(this.tasks);
-        if (!dagCheckNotExistTasks.isEmpty()) {
-            throw new IllegalVariableEvaluationException("Some task doesn't exists on task '" + this.id + "': " +  String.join(", ", dagCheckNotExistTasks));
+    private DependencyGraph controlTask() throws IllegalVariableEvaluationException {
+        DependencyGraph dependencyGraph = this.dependencyGraph();
+
+        if (!dependencyGraph.getNotExistTasks().isEmpty()) {
+            throw new IllegalVariableEvaluationException("Some task doesn't exists on task '" + this.id + "': " +  String.join(", ", dependencyGraph.getNotExistTasks()));
         }
 
-        ArrayList<String> cyclicDependenciesTasks = this.dagCheckCyclicDependencies(this.tasks);
-        if (!cyclicDependenciesTasks.isEmpty()) {
+        if (dependencyGraph.isCyclic()) {
+            ArrayList<String> cyclicDependenciesTasks = this.dagCheckCyclicDependencies(this.tasks);
             throw new IllegalVariableEvaluationException("Infinite loop detected on task '" + this.id + "': " + String.join(", ", cyclicDependenciesTasks));
         }
+
+        return dependencyGraph;
+    }
+
+    private DependencyGraph dependencyGraph() {
+        try {
+            return DEPENDENCY_GRAPHS.get(this, () -> DependencyGraph.of(this.tasks));
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
     }
 
     @Override
@@ -163,7 +182,7 @@ public class Dag extends Task implements FlowableTask<VoidOutput> {
 
     @Override
     public List<NextTaskRun> resolveNexts(RunContext runContext, Execution execution, TaskRun parentTaskRun) throws IllegalVariableEvaluationException {
-        this.controlTask();
+        DependencyGraph dependencyGraph = this.controlTask();
 
         return FlowableUtils.resolveDagNexts(
             execution,
@@ -172,7 +191,7 @@ public class Dag extends Task implements FlowableTask<VoidOutput> {
             FlowableUtils.resolveTasks(this._finally, parentTaskRun),
             parentTaskRun,
             this.concurrent,
-            this.tasks
+            dependencyGraph
         );
     }
 
@@ -229,6 +248,75 @@ public class Dag extends Task implements FlowableTask<VoidOutput> {
         return localVisited;
     }
 
+    /**
+     * The {@link DagTask#getDependsOn()} compiled as an adjacency list with in-degrees.
+     */
+    public static class DependencyGraph {
+        private final Map<String, Integer> dependencyCounts = new HashMap<>();
+        private final Map<String, List<String>> dependents = new HashMap<>();
+        private final Set<String> roots = new HashSet<>();
+        @Getter
+        private final List<String> notExistTasks = new ArrayList<>();
+        @Getter
+        private final boolean cyclic;
+
+        private DependencyGraph(List<DagTask> tasks) {
+            for (DagTask task : tasks) {
+                this.dependencyCounts.put(task.getTask().getId(), 0);
+            }
+
+            for (DagTask task : tasks) {
+                String taskId = task.getTask().getId();
+                Set<String> dependsOn = task.getDependsOn() == null ? Collections.emptySet() : new LinkedHashSet<>(task.getDependsOn());
+
+                for (String dependency : dependsOn) {
+                    if (!this.dependencyCounts.containsKey(dependency)) {
+                        this.notExistTasks.add(dependency);
+                    }
+
+                    this.dependents.computeIfAbsent(dependency, k -> new ArrayList<>()).add(taskId);
+                }
+
+                this.dependencyCounts.put(taskId, dependsOn.size());
+                if (dependsOn.isEmpty()) {
+                    this.roots.add(taskId);
+                }
+            }
+
+            this.cyclic = this.notExistTasks.isEmpty() && this.ready(this.dependencyCounts.keySet(), true).size() != this.dependencyCounts.size();
+        }
+
+        public static DependencyGraph of(List<DagTask> tasks) {
+            return new DependencyGraph(tasks);
+        }
+
+        /**
+         * Return the ids of the tasks whose dependencies are all in the given terminated task ids.
+         */
+        public Set<String> ready(Set<String> terminatedTaskIds) {
+            return this.ready(terminatedTaskIds, false);
+        }
+
+        // with topological, only the tasks reached from the roots are counted as terminated (Kahn's algorithm)
+        private Set<String> ready(Set<String> terminatedTaskIds, boolean topological) {
+            Map<String, Integer> satisfied = new HashMap<>();
+            Set<String> ready = new HashSet<>(this.roots);
+            Deque<String> queue = new ArrayDeque<>(topological ? this.roots : terminatedTaskIds);
+
+            while (!queue.isEmpty()) {
+                String taskId = queue.poll();
+
+                for (String dependent : this.dependents.getOrDefault(taskId, Collections.emptyList())) {
+                    if (satisfied.merge(dependent, 1, Integer::sum).equals(this.dependencyCounts.get(dependent)) && ready.add(dependent) && topological) {
+                        queue.add(dependent);
+                    }
+                }
+            }
+
+            return ready;
+        }
+    }
+
     @SuperBuilder
     @ToString
     @EqualsAndHashCode
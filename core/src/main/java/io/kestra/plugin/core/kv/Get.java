@@ -8,7 +8,8 @@ import io.kestra.core.models.tasks.Task;
 import io.kestra.core.runners.DefaultRunContext;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.services.FlowService;
-import io.kestra.core.storages.kv.KVValue;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.Builder;
@@ -77,13 +78,16 @@ public class Get extends Task implements RunnableTask<Get.Output> {
 
         String renderedKey = runContext.render(this.key).as(String.class).orElse(null);
 
-        Optional<KVValue> maybeValue = runContext.namespaceKv(renderedNamespace).getValue(renderedKey);
+        KVStore kvStore = runContext.namespaceKv(renderedNamespace);
+        Optional<KVValueAndMetadata> maybeValue = kvStore.getValueAndMetadata(renderedKey);
         if (Boolean.TRUE.equals(runContext.render(this.errorOnMissing).as(Boolean.class).orElseThrow()) && maybeValue.isEmpty()) {
             throw new NoSuchElementException("No value found for key '" + renderedKey + "' in namespace '" + renderedNamespace + "' and `errorOnMissing` is set to true");
         }
 
         return Output.builder()
-            .value(maybeValue.map(KVValue::value).orElse(null))
+            .value(maybeValue.map(KVValueAndMetadata::value).orElse(null))
+            // entries written before versions were introduced are at version 0
+            .version(maybeValue.map(entry -> Optional.ofNullable(entry.metadata().getVersion()).orElse(0L)).orElse(null))
             .build();
     }
 
@@ -95,5 +99,11 @@ public class Get extends Task implements RunnableTask<Get.Output> {
             description = "This can be of any type and will keep the same as when it was set."
         )
         private final Object value;
+
+        @Schema(
+            title = "Version of the value.",
+            description = "Can be used as the `expectedVersion` of the `Set` task to only update the value if it didn't change meanwhile."
+        )
+        private final Long version;
     }
 }
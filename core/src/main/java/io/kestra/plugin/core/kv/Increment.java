@@ -0,0 +1,91 @@
+package io.kestra.plugin.core.kv;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.models.tasks.Task;
+import io.kestra.core.runners.DefaultRunContext;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.services.FlowService;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder(toBuilder = true)
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Increment the number linked to a key.",
+    description = "A missing key counts as zero. Unlike a `Get` followed by a `Set`, concurrent increments don't lose updates: " +
+        "they are serialized by locking the key in the database, so increments from all the workers sharing it wait for each other."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Count the executions of the flow.",
+            full = true,
+            code = """
+                id: kv_store_increment
+                namespace: company.team
+
+                tasks:
+                  - id: kv_increment
+                    type: io.kestra.plugin.core.kv.Increment
+                    key: execution_count
+
+                  - id: log
+                    type: io.kestra.plugin.core.log.Log
+                    message: "This is the execution number {{ outputs.kv_increment.value }}"
+                """
+        )
+    }
+)
+public class Increment extends Task implements RunnableTask<Increment.Output> {
+    @NotNull
+    @Schema(
+        title = "The key for which to increment the value."
+    )
+    private Property<String> key;
+
+    @NotNull
+    @Schema(
+        title = "The number to add to the value, can be negative."
+    )
+    @Builder.Default
+    private Property<Number> delta = Property.of(1);
+
+    @NotNull
+    @Schema(
+        title = "The namespace in which the KV pair is stored. By default, Kestra will use the namespace of the flow."
+    )
+    @Builder.Default
+    private Property<String> namespace = new Property<>("{{ flow.namespace }}");
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        String renderedNamespace = runContext.render(this.namespace).as(String.class).orElseThrow();
+
+        FlowService flowService = ((DefaultRunContext) runContext).getApplicationContext().getBean(FlowService.class);
+        flowService.checkAllowedNamespace(runContext.flowInfo().tenantId(), renderedNamespace, runContext.flowInfo().tenantId(), runContext.flowInfo().namespace());
+
+        String renderedKey = runContext.render(this.key).as(String.class).orElseThrow();
+        Number renderedDelta = runContext.render(this.delta).as(Number.class).orElseThrow();
+
+        Number value = runContext.namespaceKv(renderedNamespace).increment(renderedKey, renderedDelta);
+
+        return Output.builder().value(value).build();
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "The value after the increment."
+        )
+        private final Number value;
+    }
+}
@@ -11,6 +11,7 @@ import io.kestra.core.runners.RunContext;
 import io.kestra.core.serializers.JacksonMapper;
 import io.kestra.core.storages.kv.KVMetadata;
 import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVStoreException;
 import io.kestra.core.storages.kv.KVValueAndMetadata;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
@@ -21,6 +22,7 @@ import lombok.experimental.SuperBuilder;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Optional;
 
 @SuperBuilder(toBuilder = true)
 @Getter
@@ -78,6 +80,12 @@ public class Set extends Task implements RunnableTask<VoidOutput> {
     @Builder.Default
     private Property<Boolean> overwrite = Property.of(true);
 
+    @Schema(
+        title = "Only set the value if the current version of the KV pair is this one.",
+        description = "The version is the `version` output of the `Get` task. If the KV pair changed meanwhile, the task fails and nothing is written, which allows safe read-modify-write cycles from concurrent executions. The version check and the write are atomic between all the Kestra instances sharing the same database."
+    )
+    private Property<Long> expectedVersion;
+
     @Schema(
         title = "Optional Time-To-Live (TTL) duration for the key-value pair. If not set, the KV pair will never be deleted from internal storage."
     )
@@ -109,10 +117,16 @@ public class Set extends Task implements RunnableTask<VoidOutput> {
                 };
             }
 
-        kvStore.put(renderedKey, new KVValueAndMetadata(
-            new KVMetadata(runContext.render(ttl).as(Duration.class).orElse(null)), renderedValue),
-            runContext.render(this.overwrite).as(Boolean.class).orElseThrow()
-        );
+        KVValueAndMetadata kvValue = new KVValueAndMetadata(new KVMetadata(runContext.render(ttl).as(Duration.class).orElse(null)), renderedValue);
+        Optional<Long> renderedExpectedVersion = runContext.render(this.expectedVersion).as(Long.class);
+        if (renderedExpectedVersion.isPresent()) {
+            if (!kvStore.compareAndSet(renderedKey, renderedExpectedVersion.get(), kvValue)) {
+                throw new KVStoreException(String.format(
+                    "Cannot set value for key '%s'. The key is not at version %s anymore.", renderedKey, renderedExpectedVersion.get()));
+            }
+        } else {
+            kvStore.put(renderedKey, kvValue, runContext.render(this.overwrite).as(Boolean.class).orElseThrow());
+        }
 
         return null;
     }
@@ -234,7 +234,56 @@ public abstract class AbstractMultipleConditionStorageTest {
         assertThat(expired.size(), is(0));
     }
 
+    @Test
+    void mergeResults() {
+        MultipleConditionStorageInterface multipleConditionStorage = multipleConditionStorage();
+
+        Pair<Flow, MultipleCondition> pair = mockFlow(TimeWindow.builder().build());
+
+        // two executors evaluating the same window from the same read
+        MultipleConditionWindow window = multipleConditionStorage.getOrCreate(pair.getKey(), pair.getRight());
+        this.save(multipleConditionStorage, pair.getLeft(), Collections.singletonList(window.with(ImmutableMap.of("a", true))));
+        this.save(multipleConditionStorage, pair.getLeft(), Collections.singletonList(window.with(ImmutableMap.of("b", true))));
+
+        window = multipleConditionStorage.getOrCreate(pair.getKey(), pair.getRight());
+        assertThat(window.getResults().get("a"), is(true));
+        assertThat(window.getResults().get("b"), is(true));
+    }
+
+    @Test
+    void deleteExpired() throws Exception {
+        MultipleConditionStorageInterface multipleConditionStorage = multipleConditionStorage();
+
+        Pair<Flow, MultipleCondition> current = mockFlow(TimeWindow.builder().window(Duration.ofHours(1)).windowAdvance(Duration.ofMinutes(0).negated()).build());
+        MultipleConditionWindow window = multipleConditionStorage.getOrCreate(current.getKey(), current.getRight());
+        this.save(multipleConditionStorage, current.getLeft(), Collections.singletonList(window.with(ImmutableMap.of("a", true))));
+
+        // a window that already ended
+        Pair<Flow, MultipleCondition> ended = mockFlow("multiple-flow-ended", TimeWindow.builder().window(Duration.ofHours(1)).windowAdvance(Duration.ofMinutes(0).negated()).build());
+        MultipleConditionWindow created = multipleConditionStorage.getOrCreate(ended.getKey(), ended.getRight());
+        MultipleConditionWindow expired = MultipleConditionWindow.builder()
+            .tenantId(created.getTenantId())
+            .namespace(created.getNamespace())
+            .flowId(created.getFlowId())
+            .conditionId(created.getConditionId())
+            .start(ZonedDateTime.now().minusHours(2))
+            .end(ZonedDateTime.now().minusHours(1))
+            .results(ImmutableMap.of("a", true))
+            .build();
+        this.save(multipleConditionStorage, ended.getLeft(), Collections.singletonList(expired));
+        assertThat(multipleConditionStorage.get(ended.getKey(), ended.getRight().getId()).isPresent(), is(true));
+
+        multipleConditionStorage.deleteExpired();
+
+        assertThat(multipleConditionStorage.get(current.getKey(), current.getRight().getId()).isPresent(), is(true));
+        assertThat(multipleConditionStorage.get(ended.getKey(), ended.getRight().getId()).isPresent(), is(false));
+    }
+
     private static Pair<Flow, MultipleCondition> mockFlow(TimeWindow sla) {
+        return mockFlow("multiple-flow", sla);
+    }
+
+    private static Pair<Flow, MultipleCondition> mockFlow(String flowId, TimeWindow sla) {
         var multipleCondition = MultipleCondition.builder()
             .id("condition-multiple")
             .conditions(ImmutableMap.of(
@@ -252,7 +301,7 @@ public abstract class AbstractMultipleConditionStorageTest {
 
         Flow flow = Flow.builder()
             .namespace(NAMESPACE)
-            .id("multiple-flow")
+            .id(flowId)
             .revision(1)
             .triggers(Collections.singletonList(io.kestra.plugin.core.trigger.Flow.builder()
                 .id("trigger-flow")
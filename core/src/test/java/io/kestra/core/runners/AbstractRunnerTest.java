@@ -390,6 +390,12 @@ public abstract class AbstractRunnerTest {
         flowConcurrencyCaseTest.flowConcurrencyQueue();
     }
 
+    @Test
+    @LoadFlows({"flows/valids/flow-concurrency-queue.yml"})
+    void concurrencyQueueHandOver() throws Exception {
+        flowConcurrencyCaseTest.flowConcurrencyQueueHandOver();
+    }
+
     @RetryingTest(5) // Flaky on CI but never locally even with 100 repetitions
     @LoadFlows({"flows/valids/flow-concurrency-queue-pause.yml"})
     void concurrencyQueuePause() throws Exception {
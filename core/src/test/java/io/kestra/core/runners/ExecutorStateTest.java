@@ -0,0 +1,148 @@
+package io.kestra.core.runners;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.TaskRun;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.models.tasks.ResolvedTask;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.core.serializers.YamlParser;
+import io.kestra.core.utils.TestsUtils;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.File;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+class ExecutorStateTest {
+    @Inject
+    private ExecutorService executorService;
+
+    @Inject
+    private YamlParser yamlParser;
+
+    @Test
+    void changedTaskRunIds() {
+        Flow flow = parse("flows/valids/parallel.yaml");
+        Execution execution = Execution.newExecution(flow, null);
+        TaskRun parent = TaskRun.of(execution, ResolvedTask.of(flow.getTasks().getFirst())).withState(State.Type.RUNNING);
+        TaskRun child = TaskRun.of(execution, ResolvedTask.builder().task(flow.getTasks().getFirst()).parentId(parent.getId()).build());
+        TaskRun other = TaskRun.of(execution, ResolvedTask.of(flow.getTasks().getLast()));
+        execution = execution.withState(State.Type.RUNNING).withTaskRunList(List.of(parent, child, other));
+
+        ExecutorState executorState = new ExecutorState(execution.getId());
+
+        // first pass evaluates everything
+        assertThat(executorState.changedTaskRunIds(execution), nullValue());
+
+        // nothing changed
+        assertThat(executorState.changedTaskRunIds(execution), empty());
+
+        // a child changed, its parent must be evaluated
+        execution = execution.withTaskRun(child.withState(State.Type.SUCCESS));
+        assertThat(executorState.changedTaskRunIds(execution), containsInAnyOrder(child.getId(), parent.getId()));
+
+        // a taskrun was removed
+        execution = execution.withTaskRunList(List.of(parent, other));
+        assertThat(executorState.changedTaskRunIds(execution), nullValue());
+        assertThat(executorState.changedTaskRunIds(execution), empty());
+
+        // the execution state changed
+        execution = execution.withState(State.Type.KILLING);
+        assertThat(executorState.changedTaskRunIds(execution), nullValue());
+    }
+
+    @Test
+    void fingerprintsSurviveSerialization() throws JsonProcessingException {
+        Flow flow = parse("flows/valids/parallel.yaml");
+        Execution execution = Execution.newExecution(flow, null);
+        TaskRun taskRun = TaskRun.of(execution, ResolvedTask.of(flow.getTasks().getFirst()))
+            .withState(State.Type.SUCCESS)
+            .withOutputs(Map.of("value", "output", "values", List.of(1, 2, 3), "nested", Map.of("key", true)));
+        execution = execution.withState(State.Type.RUNNING).withTaskRunList(List.of(taskRun));
+
+        ExecutorState executorState = new ExecutorState(execution.getId());
+        assertThat(executorState.changedTaskRunIds(execution), nullValue());
+
+        // the executor state and the execution are read back from their JSON by the next executor pass
+        ExecutorState restored = JacksonMapper.ofJson().readValue(JacksonMapper.ofJson().writeValueAsString(executorState), ExecutorState.class);
+        Execution deserialized = JacksonMapper.ofJson().readValue(JacksonMapper.ofJson().writeValueAsString(execution), Execution.class);
+
+        assertThat(restored.getTaskRunFingerprints(), is(executorState.getTaskRunFingerprints()));
+        assertThat(restored.changedTaskRunIds(deserialized), empty());
+
+        // outputs with the same size but a different content are a change
+        Execution changed = deserialized.withTaskRun(deserialized.getTaskRunList().getFirst().withOutputs(Map.of("value", "other", "values", List.of(1, 2, 3), "nested", Map.of("key", true))));
+        assertThat(restored.changedTaskRunIds(changed), contains(taskRun.getId()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "flows/valids/sequential.yaml",
+        "flows/valids/parallel.yaml",
+        "flows/valids/parallel-nested.yaml",
+        "flows/valids/each-parallel-nested.yaml",
+    })
+    void incrementalPassMatchesFullPass(String path) {
+        Flow flow = parse(path);
+        Execution execution = Execution.newExecution(flow, null);
+        ExecutorState executorState = new ExecutorState(execution.getId());
+
+        int pass = 0;
+        while (!execution.getState().isTerminated()) {
+            assertThat("Execution didn't end after " + pass + " passes", pass++, lessThan(100));
+
+            Set<String> changedTaskRunIds = executorState.changedTaskRunIds(execution);
+            Executor full = executorService.process(new Executor(execution, null).withFlow(flow));
+            Executor incremental = executorService.process(new Executor(execution, null).withFlow(flow).withChangedTaskRunIds(changedTaskRunIds));
+
+            assertThat(full.getException(), nullValue());
+            assertThat(incremental.getException(), nullValue());
+            assertThat(nexts(incremental), is(nexts(full)));
+            assertThat(incremental.getWorkerTasks().stream().map(w -> w.getTaskRun().getId()).toList(), is(full.getWorkerTasks().stream().map(w -> w.getTaskRun().getId()).toList()));
+            assertThat(states(incremental.getExecution()), is(states(full.getExecution())));
+            assertThat(incremental.getExecution().getState().getCurrent(), is(full.getExecution().getState().getCurrent()));
+
+            // simulate the worker: flowable tasks are running, the others are successful
+            execution = full.getExecution();
+            if (!full.getNexts().isEmpty()) {
+                execution = executorService.onNexts(flow, execution, full.getNexts());
+            }
+            for (WorkerTask workerTask : full.getWorkerTasks()) {
+                execution = execution.withTaskRun(workerTask.getTaskRun().withState(workerTask.getTask().isFlowable() ? State.Type.RUNNING : State.Type.SUCCESS));
+            }
+        }
+
+        assertThat(execution.getState().getCurrent(), is(State.Type.SUCCESS));
+    }
+
+    private static List<String> nexts(Executor executor) {
+        return executor.getNexts().stream()
+            .map(taskRun -> taskRun.getTaskId() + ":" + taskRun.getValue() + ":" + taskRun.getParentTaskRunId())
+            .toList();
+    }
+
+    private static Map<String, State.Type> states(Execution execution) {
+        return execution.getTaskRunList() == null ? Map.of() : execution.getTaskRunList().stream()
+            .collect(Collectors.toMap(TaskRun::getId, taskRun -> taskRun.getState().getCurrent()));
+    }
+
+    private Flow parse(String path) {
+        URL resource = TestsUtils.class.getClassLoader().getResource(path);
+        assert resource != null;
+
+        return yamlParser.parse(new File(resource.getFile()), Flow.class);
+    }
+}
@@ -14,7 +14,11 @@ import jakarta.inject.Singleton;
 import reactor.core.publisher.Flux;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -131,6 +135,51 @@ public class FlowConcurrencyCaseTest {
         assertThat(executionResult2.get().getState().getHistories().get(2).getState(), is(State.Type.RUNNING));
     }
 
+    public void flowConcurrencyQueueHandOver() throws TimeoutException, QueueException, InterruptedException {
+        Execution execution1 = runnerUtils.runOneUntilRunning(null, "io.kestra.tests", "flow-concurrency-queue", null, null, Duration.ofSeconds(30));
+        Flow flow = flowRepository
+            .findById(null, "io.kestra.tests", "flow-concurrency-queue", Optional.empty())
+            .orElseThrow();
+        Execution execution2 = Execution.newExecution(flow, null, null, Optional.empty());
+        Execution execution3 = Execution.newExecution(flow, null, null, Optional.empty());
+
+        List<String> started = new CopyOnWriteArrayList<>();
+        Map<String, Execution> terminated = new ConcurrentHashMap<>();
+        CountDownLatch latch = new CountDownLatch(3);
+
+        Flux<Execution> receive = TestsUtils.receive(executionQueue, e -> {
+            Execution execution = e.getLeft();
+            if (!List.of(execution1.getId(), execution2.getId(), execution3.getId()).contains(execution.getId())) {
+                return;
+            }
+
+            if (execution.getState().getCurrent() == State.Type.RUNNING && !started.contains(execution.getId())) {
+                started.add(execution.getId());
+            }
+            if (execution.getState().isTerminated() && terminated.putIfAbsent(execution.getId(), execution) == null) {
+                latch.countDown();
+            }
+        });
+
+        executionQueue.emit(execution2);
+        executionQueue.emit(execution3);
+
+        // the slot is handed over twice, each queued execution running once the previous one ended
+        assertTrue(latch.await(1, TimeUnit.MINUTES));
+        receive.blockLast();
+
+        assertThat(terminated.get(execution1.getId()).getState().getCurrent(), is(State.Type.SUCCESS));
+        assertThat(terminated.get(execution2.getId()).getState().getCurrent(), is(State.Type.SUCCESS));
+        assertThat(terminated.get(execution3.getId()).getState().getCurrent(), is(State.Type.SUCCESS));
+        assertThat(terminated.get(execution3.getId()).getState().getHistories().get(1).getState(), is(State.Type.QUEUED));
+        assertThat(started.indexOf(execution2.getId()) < started.indexOf(execution3.getId()), is(true));
+
+        // the slot is free again
+        Execution execution4 = runnerUtils.runOne(null, "io.kestra.tests", "flow-concurrency-queue");
+        assertThat(execution4.getState().getCurrent(), is(State.Type.SUCCESS));
+        assertThat(execution4.getState().getHistories().stream().noneMatch(history -> history.getState() == State.Type.QUEUED), is(true));
+    }
+
     public void flowConcurrencyQueuePause() throws TimeoutException, QueueException, InterruptedException {
         Execution execution1 = runnerUtils.runOneUntilRunning(null, "io.kestra.tests", "flow-concurrency-queue-pause", null, null, Duration.ofSeconds(30));
         Flow flow = flowRepository
@@ -1,11 +1,15 @@
 package io.kestra.core.runners;
 
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.TaskRun;
 import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.flows.State;
 import io.kestra.core.models.tasks.Task;
 import io.kestra.core.models.triggers.AbstractTrigger;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -97,4 +101,32 @@ class RunVariablesTest {
             .build(new RunContextLogger());
         Assertions.assertEquals(Map.of("id", "id-value", "type", "type-value"), variables.get("trigger"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldGetLazyOutputsAndTasksGivenExecution() {
+        Execution execution = Execution.builder()
+            .id("execution")
+            .namespace("namespace-value")
+            .flowId("id-value")
+            .state(new State())
+            .taskRunList(List.of(
+                TaskRun.builder().id("1").taskId("first").state(new State().withState(State.Type.SUCCESS)).outputs(Map.of("value", "one")).build(),
+                TaskRun.builder().id("2").taskId("each").value("a").state(new State().withState(State.Type.SUCCESS)).build(),
+                TaskRun.builder().id("3").taskId("each").value("b").state(new State()).build()
+            ))
+            .build();
+
+        Map<String, Object> variables = new RunVariables.DefaultBuilder()
+            .withExecution(execution)
+            .build(new RunContextLogger());
+
+        assertThat(variables.get("outputs"), is(Map.of("first", Map.of("value", "one"))));
+        assertThat(variables.get("tasks"), is(Map.of(
+            "first", Map.of("state", State.Type.SUCCESS),
+            "each", Map.of(
+                "a", Map.of("state", State.Type.SUCCESS),
+                "b", Map.of("state", State.Type.CREATED)
+            )
+        )));
+    }
+}
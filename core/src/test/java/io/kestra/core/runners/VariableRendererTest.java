@@ -2,12 +2,14 @@ package io.kestra.core.runners;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
 
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.micronaut.context.ApplicationContext;
 import io.kestra.core.junit.annotations.KestraTest;
 import jakarta.inject.Inject;
 import java.util.LinkedHashMap;
+import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -52,6 +54,17 @@ class VariableRendererTest {
         assertThat(result_value3.keySet(), contains("bar-1", "bar-2", "bar-3"));
     }
 
+    @Test
+    void shouldRenderPrecompiledTemplatesWithRawTags() throws IllegalVariableEvaluationException {
+        String template = "{% raw %}{{ a }}{% endraw %} {{ b }} {% raw %}{{ c }}{% endraw %}";
+        variableRenderer.precompile("precompiled", List.of(template, "{{ invalid"));
+
+        assertThat(variableRenderer.render(template, Map.of("b", "B")), is("{{ a }} B {{ c }}"));
+
+        variableRenderer.release("precompiled");
+        assertThat(variableRenderer.render(template, Map.of("b", "C")), is("{{ a }} C {{ c }}"));
+    }
+
     public static class TestVariableRenderer extends VariableRenderer {
 
         public TestVariableRenderer(ApplicationContext applicationContext,
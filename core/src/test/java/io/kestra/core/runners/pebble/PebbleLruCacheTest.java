@@ -0,0 +1,61 @@
+package io.kestra.core.runners.pebble;
+
+import io.pebbletemplates.pebble.PebbleEngine;
+import io.pebbletemplates.pebble.template.PebbleTemplate;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class PebbleLruCacheTest {
+    private static final PebbleEngine ENGINE = new PebbleEngine.Builder().cacheActive(false).build();
+
+    @Test
+    void shouldBoundPinnedTemplates() {
+        PebbleLruCache cache = new PebbleLruCache(10, 2, null);
+
+        cache.pin("first", Map.of("{{ a }}", template("{{ a }}"), "{{ b }}", template("{{ b }}")));
+        cache.pin("second", Map.of("{{ a }}", template("{{ a }}"), "{{ c }}", template("{{ c }}")));
+
+        // the shared template is counted once, the one over the bound is dropped and compiled on first use
+        assertThat(cache.pinnedWeight(), is(2L));
+        assertThat(compilations(cache, "{{ a }}", "{{ b }}", "{{ c }}"), is(1));
+
+        cache.release("first");
+        assertThat(cache.pinnedWeight(), is(1L));
+
+        // released templates are dropped, only the one compiled on use is in the LRU cache
+        cache.release("second");
+        assertThat(cache.pinnedWeight(), is(0L));
+        assertThat(compilations(cache, "{{ a }}", "{{ b }}", "{{ c }}"), is(2));
+    }
+
+    @Test
+    void shouldReplacePinnedTemplates() {
+        PebbleLruCache cache = new PebbleLruCache(10, 10, null);
+
+        cache.pin("owner", Map.of("{{ a }}", template("{{ a }}")));
+        cache.pin("owner", Map.of("{{ b }}", template("{{ b }}")));
+
+        assertThat(cache.pinnedWeight(), is(1L));
+    }
+
+    private static int compilations(PebbleLruCache cache, String... keys) {
+        AtomicInteger compilations = new AtomicInteger();
+        for (String key : keys) {
+            cache.computeIfAbsent(key, k -> {
+                compilations.incrementAndGet();
+                return template(key);
+            });
+        }
+
+        return compilations.get();
+    }
+
+    private static PebbleTemplate template(String template) {
+        return ENGINE.getLiteralTemplate(template);
+    }
+}
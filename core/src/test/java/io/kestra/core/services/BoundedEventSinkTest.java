@@ -0,0 +1,134 @@
+package io.kestra.core.services;
+
+import io.micronaut.http.sse.Event;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class BoundedEventSinkTest {
+    @Test
+    void shouldSendDirectlyWhenRequested() {
+        ManualSubscriber subscriber = new ManualSubscriber();
+        AtomicInteger dropped = new AtomicInteger();
+        BoundedEventSink<String> sink = sink(subscriber, 2, dropped);
+
+        subscriber.request(10);
+        sink.next(Event.of("a"));
+        sink.next(Event.of("b"));
+        sink.next(Event.of("c"));
+
+        assertThat(subscriber.received, contains("a", "b", "c"));
+        assertThat(dropped.get(), is(0));
+    }
+
+    @Test
+    void shouldDropOldestWhenFull() {
+        ManualSubscriber subscriber = new ManualSubscriber();
+        AtomicInteger dropped = new AtomicInteger();
+        BoundedEventSink<String> sink = sink(subscriber, 2, dropped);
+
+        sink.next(Event.of("a"));
+        sink.next(Event.of("b"));
+        sink.next(Event.of("c"));
+        assertThat(subscriber.received, empty());
+        assertThat(dropped.get(), is(1));
+
+        subscriber.request(10);
+        assertThat(subscriber.received, contains("b", "c"));
+    }
+
+    @Test
+    void shouldKeepLatestAndCompleteAfterFlush() {
+        ManualSubscriber subscriber = new ManualSubscriber();
+        AtomicInteger dropped = new AtomicInteger();
+        BoundedEventSink<String> sink = sink(subscriber, 1, dropped);
+
+        sink.next(Event.of("progress"));
+        sink.next(Event.of("end"));
+        sink.complete();
+        assertThat(subscriber.completed.get(), is(false));
+
+        subscriber.request(1);
+        assertThat(subscriber.received, contains("end"));
+        assertThat(subscriber.completed.get(), is(true));
+        assertThat(dropped.get(), is(1));
+    }
+
+    @Test
+    void shouldSendReleasedEventBeforeHeldOnes() {
+        ManualSubscriber subscriber = new ManualSubscriber();
+        AtomicInteger dropped = new AtomicInteger();
+        BoundedEventSink<String> sink = sink(subscriber, 1, dropped);
+        sink.hold();
+
+        subscriber.request(10);
+        sink.next(Event.of("update"));
+        assertThat(subscriber.received, empty());
+
+        sink.release(Event.of("initial"));
+        assertThat(subscriber.received, contains("initial", "update"));
+
+        sink.next(Event.of("next"));
+        assertThat(subscriber.received, contains("initial", "update", "next"));
+        assertThat(dropped.get(), is(0));
+    }
+
+    @Test
+    void shouldIgnoreEventsAfterError() {
+        ManualSubscriber subscriber = new ManualSubscriber();
+        AtomicInteger dropped = new AtomicInteger();
+        BoundedEventSink<String> sink = sink(subscriber, 2, dropped);
+
+        sink.next(Event.of("a"));
+        sink.error(new IllegalStateException("failed"));
+        sink.next(Event.of("b"));
+
+        subscriber.request(10);
+        assertThat(subscriber.received, empty());
+        assertThat(subscriber.error.get(), instanceOf(IllegalStateException.class));
+    }
+
+    private static BoundedEventSink<String> sink(ManualSubscriber subscriber, int capacity, AtomicInteger dropped) {
+        AtomicReference<FluxSink<Event<String>>> emitter = new AtomicReference<>();
+        Flux.<Event<String>>create(emitter::set, FluxSink.OverflowStrategy.BUFFER).subscribe(subscriber);
+
+        return new BoundedEventSink<>(emitter.get(), capacity, dropped::incrementAndGet);
+    }
+
+    private static class ManualSubscriber extends BaseSubscriber<Event<String>> {
+        private final List<String> received = new ArrayList<>();
+        private final AtomicBoolean completed = new AtomicBoolean(false);
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            // no initial demand, the test requests manually
+        }
+
+        @Override
+        protected void hookOnNext(Event<String> value) {
+            received.add(value.getData());
+        }
+
+        @Override
+        protected void hookOnComplete() {
+            completed.set(true);
+        }
+
+        @Override
+        protected void hookOnError(Throwable throwable) {
+            error.set(throwable);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package io.kestra.core.services;
+
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.flows.FlowWithSource;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.triggers.AbstractTrigger;
+import io.kestra.plugin.core.debug.Return;
+import io.kestra.plugin.core.trigger.Schedule;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class FlowCatalogTest {
+    private static FlowWithSource create(String tenantId, String namespace, String flowId, int revision, List<AbstractTrigger> triggers) {
+        Flow flow = Flow.builder()
+            .tenantId(tenantId)
+            .namespace(namespace)
+            .id(flowId)
+            .revision(revision)
+            .tasks(List.of(Return.builder().id("test").type(Return.class.getName()).format(Property.of("test")).build()))
+            .triggers(triggers)
+            .build();
+        return flow.withSource(flow.generateSource());
+    }
+
+    @Test
+    void shouldIndexFlows() {
+        FlowWithSource first = create(null, "io.kestra.unittest", "first", 1, null);
+        FlowWithSource second = create(null, "io.kestra.unittest", "second", 1, List.of(Schedule.builder().id("schedule").cron("0 0 1 * *").build()));
+        FlowWithSource withTenant = create("tenant", "io.kestra.unittest", "first", 1, null);
+
+        FlowCatalog catalog = FlowCatalog.of(List.of(first, second, withTenant));
+
+        assertThat(catalog.size(), is(3));
+        assertThat(catalog.flows(), containsInAnyOrder(first, second, withTenant));
+        assertThat(catalog.flows(null), containsInAnyOrder(first, second));
+        assertThat(catalog.flows("tenant"), contains(withTenant));
+        assertThat(catalog.find(null, "io.kestra.unittest", "first").orElseThrow(), is(first));
+        assertThat(catalog.find("tenant", "io.kestra.unittest", "first").orElseThrow(), is(withTenant));
+        assertThat(catalog.find("other", "io.kestra.unittest", "first").isPresent(), is(false));
+        assertThat(catalog.withTrigger(Schedule.class), contains(second));
+    }
+
+    @Test
+    void shouldReturnNewVersionOnChange() {
+        FlowWithSource first = create(null, "io.kestra.unittest", "first", 1, null);
+        FlowWithSource firstUpdated = create(null, "io.kestra.unittest", "first", 2, null);
+        FlowWithSource second = create(null, "io.kestra.unittest", "second", 1, null);
+
+        FlowCatalog catalog = FlowCatalog.of(List.of(first));
+        FlowCatalog updated = catalog.upsert(firstUpdated).upsert(second);
+
+        assertThat(updated.version(), greaterThan(catalog.version()));
+        assertThat(updated.size(), is(2));
+        assertThat(updated.find(first).orElseThrow().getRevision(), is(2));
+
+        // the previous snapshot is left unchanged
+        assertThat(catalog.flows(), contains(first));
+
+        FlowCatalog removed = updated.remove(firstUpdated);
+        assertThat(removed.size(), is(1));
+        assertThat(removed.find(first).isPresent(), is(false));
+        assertThat(removed.remove(firstUpdated), sameInstance(removed));
+    }
+}
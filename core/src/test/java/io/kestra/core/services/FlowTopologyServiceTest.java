@@ -9,6 +9,7 @@ import io.kestra.plugin.core.condition.Expression;
 import io.kestra.core.models.flows.Flow;
 import io.kestra.core.models.flows.State;
 import io.kestra.core.models.topologies.FlowRelation;
+import io.kestra.core.models.topologies.FlowTopology;
 import io.kestra.core.serializers.YamlParser;
 import io.kestra.plugin.core.debug.Return;
 import io.kestra.plugin.core.flow.Parallel;
@@ -69,6 +70,50 @@ class FlowTopologyServiceTest {
         assertThat(flowTopologyService.isChild(parent, child), is(FlowRelation.FLOW_TASK));
     }
 
+    @Test
+    void topology() {
+        FlowWithSource parent = Flow.builder()
+            .namespace("io.kestra.ee")
+            .id("parent")
+            .revision(1)
+            .tasks(List.of(Subflow.builder()
+                .id("launch")
+                .type(Subflow.class.getName())
+                .namespace("io.kestra.ee")
+                .flowId("child")
+                .build()
+            ))
+            .build()
+            .withSource(null);
+
+        FlowWithSource child = Flow.builder()
+            .namespace("io.kestra.ee")
+            .id("child")
+            .revision(1)
+            .tasks(List.of(returnTask()))
+            .build()
+            .withSource(null);
+
+        FlowWithSource unrelated = Flow.builder()
+            .namespace("io.kestra.ee")
+            .id("unrelated")
+            .revision(1)
+            .tasks(List.of(returnTask()))
+            .build()
+            .withSource(null);
+
+        List<FlowTopology> fromChild = flowTopologyService.topology(child, List.of(parent, child, unrelated)).toList();
+        assertThat(fromChild.size(), is(1));
+        assertThat(fromChild.getFirst().getSource().getId(), is("parent"));
+        assertThat(fromChild.getFirst().getRelation(), is(FlowRelation.FLOW_TASK));
+
+        List<FlowTopology> fromParent = flowTopologyService.topology(parent, List.of(parent, child, unrelated)).toList();
+        assertThat(fromParent.size(), is(1));
+        assertThat(fromParent.getFirst().getDestination().getId(), is("child"));
+
+        assertThat(flowTopologyService.topology(unrelated, List.of(parent, child, unrelated)).toList().isEmpty(), is(true));
+    }
+
     @Test
     void noRelation() {
         FlowWithSource parent = Flow.builder()
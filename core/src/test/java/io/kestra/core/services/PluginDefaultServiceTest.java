@@ -41,6 +41,8 @@ import java.util.stream.Stream;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 
 @KestraTest
 class PluginDefaultServiceTest {
@@ -205,6 +207,35 @@ class PluginDefaultServiceTest {
         assertThat(((Expression) injected.getTriggers().getFirst().getConditions().getFirst()).getExpression(), is("{{ test }}"));
     }
 
+    @Test
+    void injectDefaultsShouldBeCached() {
+        String source = """
+            id: default-test-cache
+            namespace: io.kestra.tests
+
+            tasks:
+            - id: test
+              type: io.kestra.core.services.PluginDefaultServiceTest$DefaultTester""";
+
+        FlowWithSource flow = yamlParser.parse(source, Flow.class).withSource(source);
+
+        FlowWithSource injected = pluginDefaultService.injectDefaults(flow);
+        assertThat(pluginDefaultService.injectDefaults(yamlParser.parse(source, Flow.class).withSource(source)), sameInstance(injected));
+
+        final PluginGlobalDefaultConfiguration pluginGlobalDefaultConfiguration = new PluginGlobalDefaultConfiguration();
+        pluginGlobalDefaultConfiguration.defaults = List.of(new PluginDefault(DefaultTester.class.getName(), false, ImmutableMap.of("set", 123)));
+
+        var previousGlobalDefault = pluginDefaultService.pluginGlobalDefault;
+        pluginDefaultService.pluginGlobalDefault = pluginGlobalDefaultConfiguration;
+        try {
+            FlowWithSource withGlobalDefault = pluginDefaultService.injectDefaults(flow);
+            assertThat(withGlobalDefault, not(sameInstance(injected)));
+            assertThat(((DefaultTester) withGlobalDefault.getTasks().getFirst()).getSet(), is(123));
+        } finally {
+            pluginDefaultService.pluginGlobalDefault = previousGlobalDefault;
+        }
+    }
+
     @Test
     public void forced() {
         String source = """
@@ -6,8 +6,10 @@ import io.kestra.core.storages.kv.InternalKVStore;
 import io.kestra.core.storages.kv.KVEntry;
 import io.kestra.core.storages.kv.KVMetadata;
 import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVStoreException;
 import io.kestra.core.storages.kv.KVValueAndMetadata;
 import io.kestra.core.storages.kv.KVValue;
+import io.kestra.core.storages.kv.KVValueCache;
 import io.kestra.core.utils.IdUtils;
 import io.kestra.storage.local.LocalStorage;
 import org.junit.jupiter.api.Assertions;
@@ -24,6 +26,8 @@ import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -159,6 +163,98 @@ class InternalKVStoreTest {
         Assertions.assertThrows(ResourceExpiredException.class, () -> kv.getValue(TEST_KV_KEY));
     }
 
+    @Test
+    void shouldIncrementConcurrently() throws Exception {
+        // Given
+        final InternalKVStore kv = kv();
+        kv.put(TEST_KV_KEY, new KVValueAndMetadata(new KVMetadata(Duration.ofMinutes(5)), 10));
+
+        // When
+        try (ExecutorService executorService = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 50; i++) {
+                executorService.submit(() -> kv.increment(TEST_KV_KEY, 2));
+            }
+        }
+
+        // Then
+        assertThat(kv.getValue(TEST_KV_KEY), is(Optional.of(new KVValue(110))));
+        assertThat(kv.get(TEST_KV_KEY).orElseThrow().expirationDate() != null, is(true));
+        assertThat(kv.increment("missing-key", 1.5).doubleValue(), is(1.5));
+
+        kv.put("not-a-number", new KVValueAndMetadata(null, "string"));
+        Assertions.assertThrows(KVStoreException.class, () -> kv.increment("not-a-number", 1));
+    }
+
+    @Test
+    void shouldCompareAndSet() throws IOException, ResourceExpiredException {
+        // Given
+        final InternalKVStore kv = kv();
+
+        // When
+        assertThat(kv.compareAndSet(TEST_KV_KEY, null, new KVValueAndMetadata(null, "first")), is(true));
+        assertThat(kv.compareAndSet(TEST_KV_KEY, null, new KVValueAndMetadata(null, "second")), is(false));
+        Long version = kv.get(TEST_KV_KEY).orElseThrow().version();
+
+        // Then
+        assertThat(kv.compareAndSet(TEST_KV_KEY, version, new KVValueAndMetadata(null, "second")), is(true));
+        assertThat(kv.compareAndSet(TEST_KV_KEY, version, new KVValueAndMetadata(null, "third")), is(false));
+        assertThat(kv.getValue(TEST_KV_KEY), is(Optional.of(new KVValue("second"))));
+    }
+
+    @Test
+    void shouldReadThroughCache() throws Exception {
+        // Given
+        final String namespaceId = "io.kestra." + IdUtils.create();
+        final InternalKVStore cached = new InternalKVStore(null, namespaceId, storageInterface, new KVValueCache(Duration.ofMinutes(1), 100));
+        final InternalKVStore revalidated = new InternalKVStore(null, namespaceId, storageInterface, new KVValueCache(Duration.ZERO, 100));
+        final InternalKVStore other = new InternalKVStore(null, namespaceId, storageInterface);
+        cached.put(TEST_KV_KEY, new KVValueAndMetadata(null, "first"));
+        assertThat(cached.getValue(TEST_KV_KEY), is(Optional.of(new KVValue("first"))));
+        assertThat(revalidated.getValue(TEST_KV_KEY), is(Optional.of(new KVValue("first"))));
+
+        // When
+        other.put(TEST_KV_KEY, new KVValueAndMetadata(null, "second"));
+
+        // Then
+        assertThat(cached.getValue(TEST_KV_KEY), is(Optional.of(new KVValue("first"))));
+        assertThat(revalidated.getValue(TEST_KV_KEY), is(Optional.of(new KVValue("second"))));
+
+        cached.delete(TEST_KV_KEY);
+        assertThat(cached.getValue(TEST_KV_KEY), is(Optional.empty()));
+        assertThat(cached.exists(TEST_KV_KEY), is(false));
+    }
+
+    @Test
+    void shouldRevalidateCacheOnEachWrite() throws Exception {
+        // Given
+        final String namespaceId = "io.kestra." + IdUtils.create();
+        final InternalKVStore revalidated = new InternalKVStore(null, namespaceId, storageInterface, new KVValueCache(Duration.ZERO, 100));
+        final InternalKVStore other = new InternalKVStore(null, namespaceId, storageInterface);
+
+        // Then
+        // writes made in a row, possibly with the same last modified time, are all seen
+        for (int i = 0; i < 10; i++) {
+            other.put(TEST_KV_KEY, new KVValueAndMetadata(null, "value-" + i));
+            assertThat(revalidated.getValue(TEST_KV_KEY), is(Optional.of(new KVValue("value-" + i))));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldNotShareCachedInstances() throws Exception {
+        // Given
+        final String namespaceId = "io.kestra." + IdUtils.create();
+        final InternalKVStore cached = new InternalKVStore(null, namespaceId, storageInterface, new KVValueCache(Duration.ofMinutes(1), 100));
+        cached.put(TEST_KV_KEY, new KVValueAndMetadata(null, Map.of("key", "value")));
+
+        // When
+        Map<String, Object> first = (Map<String, Object>) cached.getValue(TEST_KV_KEY).orElseThrow().value();
+        first.put("key", "changed");
+
+        // Then
+        assertThat(cached.getValue(TEST_KV_KEY).orElseThrow().value(), is(Map.of("key", "value")));
+    }
+
     @Test
     void illegalKey() {
         InternalKVStore kv = kv();
@@ -16,6 +16,7 @@ import java.util.Map;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -36,6 +37,17 @@ public class PluginUtilsServiceTest {
         assertThat(outputFilesMap.get("out"), startsWith(tempDirectory.resolve("out_").toString()));
     }
 
+    @Test
+    void command() {
+        assertThat(PluginUtilsService.command("::{\"outputs\":{\"a\":1}}::"), is("{\"outputs\":{\"a\":1}}"));
+        assertThat(PluginUtilsService.command("::{}::"), is("{}"));
+        assertThat(PluginUtilsService.command("::{::"), nullValue());
+        assertThat(PluginUtilsService.command(" ::{}::"), nullValue());
+        assertThat(PluginUtilsService.command("::{} ::"), nullValue());
+        assertThat(PluginUtilsService.command("a plain line"), nullValue());
+        assertThat(PluginUtilsService.command(""), nullValue());
+    }
+
     @Test
     void executionFromTaskParameters() throws IllegalVariableEvaluationException {
         Map<String, Object> variables = Map.of(
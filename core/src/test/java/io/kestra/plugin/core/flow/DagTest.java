@@ -22,7 +22,9 @@ import java.net.URL;
 import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -47,6 +49,30 @@ public class DagTest {
         assertThat(execution.getTaskRunList().size(), is(7));
     }
 
+    @Test
+    void dependencyGraph() {
+        Flow flow = this.parse("flows/valids/dag.yaml");
+        Dag dag = (Dag) flow.getTasks().getFirst();
+        Dag.DependencyGraph dependencyGraph = Dag.DependencyGraph.of(dag.getTasks());
+
+        assertThat(dependencyGraph.isCyclic(), is(false));
+        assertThat(dependencyGraph.getNotExistTasks(), empty());
+
+        Set<String> roots = dag.getTasks().stream()
+            .filter(dagTask -> dagTask.getDependsOn() == null || dagTask.getDependsOn().isEmpty())
+            .map(dagTask -> dagTask.getTask().getId())
+            .collect(Collectors.toSet());
+        assertThat(dependencyGraph.ready(Set.of()), is(roots));
+        assertThat(dependencyGraph.ready(Set.of("task1")), hasItems("task2", "task3"));
+        assertThat(dependencyGraph.ready(Set.of("task1")), not(hasItem("task4")));
+
+        Set<String> all = dag.getTasks().stream().map(dagTask -> dagTask.getTask().getId()).collect(Collectors.toSet());
+        assertThat(dependencyGraph.ready(all), is(all));
+
+        Flow cyclic = this.parse("flows/invalids/dag-cyclicdependency.yaml");
+        assertThat(Dag.DependencyGraph.of(((Dag) cyclic.getTasks().getFirst()).getTasks()).isCyclic(), is(true));
+    }
+
     @Test
     void dagCyclicDependencies() {
         Flow flow = this.parse("flows/invalids/dag-cyclicdependency.yaml");
@@ -58,6 +58,7 @@ class GetTest {
         // Then
         Get.Output run = get.run(runContext);
         assertThat(run.getValue(), is(value));
+        assertThat(run.getVersion(), is(kv.get(TEST_KV_KEY).orElseThrow().version()));
     }
 
     @Test
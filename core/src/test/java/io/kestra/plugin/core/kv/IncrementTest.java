@@ -0,0 +1,49 @@
+package io.kestra.plugin.core.kv;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVValue;
+import io.kestra.core.utils.IdUtils;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@KestraTest
+class IncrementTest {
+    @Inject
+    RunContextFactory runContextFactory;
+
+    @Test
+    void shouldIncrementGivenMissingKey() throws Exception {
+        // Given
+        String key = "counter-" + IdUtils.create().toLowerCase();
+        RunContext runContext = this.runContextFactory.of(Map.of(
+            "flow", Map.of("namespace", "io.kestra.test"),
+            "inputs", Map.of("key", key)
+        ));
+
+        Increment increment = Increment.builder()
+            .id(Increment.class.getSimpleName())
+            .type(Increment.class.getName())
+            .key(new Property<>("{{ inputs.key }}"))
+            .delta(Property.of(5))
+            .build();
+
+        // When
+        increment.run(runContext);
+        Increment.Output output = increment.run(runContext);
+
+        // Then
+        assertThat(output.getValue().longValue(), is(10L));
+        final KVStore kv = runContext.namespaceKv("io.kestra.test");
+        assertThat(kv.getValue(key), is(Optional.of(new KVValue(10))));
+    }
+}
@@ -9,6 +9,7 @@ import io.kestra.core.storages.StorageInterface;
 import io.kestra.core.storages.kv.KVStore;
 import io.kestra.core.storages.kv.KVStoreException;
 import io.kestra.core.storages.kv.KVValue;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
 import io.kestra.core.utils.TestsUtils;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.Assertions;
@@ -115,6 +116,37 @@ class SetTest {
         assertThat(kv.list().getFirst().expirationDate(), nullValue());
     }
 
+    @Test
+    void shouldSetKVGivenExpectedVersion() throws Exception {
+        // Given
+        RunContext runContext = this.runContextFactory.of(Map.of(
+            "flow", Map.of("namespace", "io.kestra.test"),
+            "inputs", Map.of(
+                "key", TEST_KEY,
+                "value", "test-value"
+            )
+        ));
+        final KVStore kv = runContext.namespaceKv("io.kestra.test");
+        kv.put(TEST_KEY, new KVValueAndMetadata(null, "previous-value"));
+        Long version = kv.get(TEST_KEY).orElseThrow().version();
+
+        Set set = Set.builder()
+            .id(Set.class.getSimpleName())
+            .type(Set.class.getName())
+            .key(new Property<>("{{ inputs.key }}"))
+            .value(new Property<>("{{ inputs.value }}"))
+            .namespace(new Property<>("io.kestra.test"))
+            .expectedVersion(Property.of(version))
+            .build();
+
+        // When
+        set.run(runContext);
+
+        // Then
+        assertThat(kv.getValue(TEST_KEY), is(Optional.of(new KVValue("test-value"))));
+        Assertions.assertThrows(KVStoreException.class, () -> set.run(runContext));
+    }
+
     @Test
     void shouldFailGivenNonExistingNamespace() {
         // Given
@@ -30,10 +30,4 @@ public class H2FlowRepository extends AbstractJdbcFlowRepository {
     protected Condition findCondition(Object value, QueryFilter.Op operation) {
         return H2FlowRepositoryService.findCondition(value, operation);
     }
-
-
-    @Override
-    protected Condition findSourceCodeCondition(String query) {
-        return H2FlowRepositoryService.findSourceCodeCondition(this.jdbcRepository, query);
-    }
 }
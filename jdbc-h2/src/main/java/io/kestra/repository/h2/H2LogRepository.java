@@ -3,6 +3,7 @@ package io.kestra.repository.h2;
 import io.kestra.core.models.executions.LogEntry;
 import io.kestra.core.utils.DateUtils;
 import io.kestra.jdbc.repository.AbstractJdbcLogRepository;
+import io.kestra.jdbc.services.JdbcChunkedDeleteService;
 import io.kestra.jdbc.services.JdbcFilterService;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
@@ -19,8 +20,9 @@ import java.util.List;
 public class H2LogRepository extends AbstractJdbcLogRepository {
     @Inject
     public H2LogRepository(@Named("logs") H2Repository<LogEntry> repository,
-                           JdbcFilterService filterService) {
-        super(repository, filterService);
+                           JdbcFilterService filterService,
+                           JdbcChunkedDeleteService chunkedDeleteService) {
+        super(repository, filterService, chunkedDeleteService);
     }
 
     @Override
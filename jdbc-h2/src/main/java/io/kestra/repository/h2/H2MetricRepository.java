@@ -3,6 +3,7 @@ package io.kestra.repository.h2;
 import io.kestra.core.models.executions.MetricEntry;
 import io.kestra.core.utils.DateUtils;
 import io.kestra.jdbc.repository.AbstractJdbcMetricRepository;
+import io.kestra.jdbc.services.JdbcChunkedDeleteService;
 import io.kestra.jdbc.services.JdbcFilterService;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
@@ -17,8 +18,9 @@ import java.util.Date;
 public class H2MetricRepository extends AbstractJdbcMetricRepository {
     @Inject
     public H2MetricRepository(@Named("metrics") H2Repository<MetricEntry> repository,
-                              JdbcFilterService filterService) {
-        super(repository, filterService);
+                              JdbcFilterService filterService,
+                              JdbcChunkedDeleteService chunkedDeleteService) {
+        super(repository, filterService, chunkedDeleteService);
     }
 
     @Override
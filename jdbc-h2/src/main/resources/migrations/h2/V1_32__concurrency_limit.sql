@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS concurrency_limit (
+    "key" VARCHAR(250) NOT NULL PRIMARY KEY,
+    "tenant_id" VARCHAR(250),
+    "namespace" VARCHAR(150) NOT NULL,
+    "flow_id" VARCHAR(150) NOT NULL,
+    "running" INT NOT NULL DEFAULT 0
+);
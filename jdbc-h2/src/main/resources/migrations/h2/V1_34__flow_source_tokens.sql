@@ -0,0 +1,10 @@
+CREATE TABLE IF NOT EXISTS flow_source_tokens (
+    "flow_uid" VARCHAR(250) NOT NULL,
+    "flow_key" VARCHAR(250) NOT NULL,
+    "tenant_id" VARCHAR(250),
+    "token" VARCHAR(100) NOT NULL,
+    "occurrences" INT NOT NULL,
+    PRIMARY KEY ("flow_uid", "token")
+);
+
+CREATE INDEX IF NOT EXISTS flow_source_tokens_token ON flow_source_tokens ("token", "tenant_id", "flow_key");
@@ -0,0 +1,7 @@
+package io.kestra.runner.h2;
+
+import io.kestra.jdbc.services.JdbcChunkedDeleteServiceTest;
+
+class H2ChunkedDeleteServiceTest extends JdbcChunkedDeleteServiceTest {
+
+}
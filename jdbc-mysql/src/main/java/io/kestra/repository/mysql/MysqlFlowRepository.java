@@ -30,9 +30,4 @@ public class MysqlFlowRepository extends AbstractJdbcFlowRepository {
     protected Condition findCondition(Object value, QueryFilter.Op operation) {
         return MysqlFlowRepositoryService.findCondition(value, operation);
     }
-
-    @Override
-    protected Condition findSourceCodeCondition(String query) {
-        return MysqlFlowRepositoryService.findSourceCodeCondition(this.jdbcRepository, query);
-    }
 }
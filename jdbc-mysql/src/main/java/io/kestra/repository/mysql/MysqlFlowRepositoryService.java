@@ -29,10 +29,6 @@ public abstract class MysqlFlowRepositoryService {
         return conditions.isEmpty() ? DSL.trueCondition() : DSL.and(conditions);
     }
 
-    public static Condition findSourceCodeCondition(AbstractJdbcRepository<Flow> jdbcRepository, String query) {
-        return jdbcRepository.fullTextCondition(Collections.singletonList("source_code"), query);
-    }
-
     public static Condition findCondition(Object labels, QueryFilter.Op operation) {
         List<Condition> conditions = new ArrayList<>();
 
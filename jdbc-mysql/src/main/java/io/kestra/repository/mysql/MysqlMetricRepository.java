@@ -3,6 +3,7 @@ package io.kestra.repository.mysql;
 import io.kestra.core.models.executions.MetricEntry;
 import io.kestra.core.utils.DateUtils;
 import io.kestra.jdbc.repository.AbstractJdbcMetricRepository;
+import io.kestra.jdbc.services.JdbcChunkedDeleteService;
 import io.kestra.jdbc.services.JdbcFilterService;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
@@ -18,8 +19,9 @@ import java.util.Date;
 public class MysqlMetricRepository extends AbstractJdbcMetricRepository {
     @Inject
     public MysqlMetricRepository(@Named("metrics") MysqlRepository<MetricEntry> repository,
-                                 JdbcFilterService filterService) {
-        super(repository, filterService);
+                                 JdbcFilterService filterService,
+                                 JdbcChunkedDeleteService chunkedDeleteService) {
+        super(repository, filterService, chunkedDeleteService);
     }
 
     @Override
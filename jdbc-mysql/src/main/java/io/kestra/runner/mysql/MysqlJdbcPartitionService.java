@@ -0,0 +1,59 @@
+package io.kestra.runner.mysql;
+
+import io.kestra.jdbc.runner.JdbcPartitionService;
+import jakarta.inject.Singleton;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Singleton
+@MysqlQueueEnabled
+public class MysqlJdbcPartitionService implements JdbcPartitionService {
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    @Override
+    public Set<String> partitionable() {
+        // InnoDB doesn't support FULLTEXT indexes on partitioned tables
+        return Set.of("queues", "metrics");
+    }
+
+    @Override
+    public Set<LocalDate> partitions(DSLContext context, String table) {
+        return context
+            .resultQuery(
+                "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+                    "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL",
+                table
+            )
+            .fetch(0, String.class)
+            .stream()
+            .filter(name -> name.startsWith("p") && name.length() == 9 && !name.equals("pmax"))
+            .map(name -> LocalDate.parse(name.substring(1), SUFFIX))
+            .collect(Collectors.toSet());
+    }
+
+    @Override
+    public void createPartition(DSLContext context, String table, String column, LocalDate day) {
+        // split the catch-all partition, it's always empty except for the first call after the migration
+        context
+            .execute(
+                "ALTER TABLE {0} REORGANIZE PARTITION pmax INTO (PARTITION {1} VALUES LESS THAN ({2}), PARTITION pmax VALUES LESS THAN (MAXVALUE))",
+                DSL.name(table),
+                DSL.name(partition(day)),
+                DSL.inline(day.plusDays(1) + " 00:00:00")
+            );
+    }
+
+    @Override
+    public void dropPartition(DSLContext context, String table, LocalDate day) {
+        context.execute("ALTER TABLE {0} DROP PARTITION {1}", DSL.name(table), DSL.name(partition(day)));
+    }
+
+    private static String partition(LocalDate day) {
+        return "p" + day.format(SUFFIX);
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Opt-in migration: only applied when 'classpath:migrations/mysql-partitioned' is added to the flyway locations
+ * alongside 'kestra.jdbc.partitioning.enabled: true'.
+ *
+ * Converts queues and metrics to range-partitioned tables.
+ * Metrics are partitioned on their 'timestamp' column so the queries filtering on it only read the matching partitions,
+ * it's part of the primary key and never changes for a given key so updates by key still work.
+ * Queues are only read by offset, they are partitioned on a new 'created' column in UTC, like the partition bounds.
+ * The logs table is not partitioned as InnoDB doesn't support FULLTEXT indexes on partitioned tables.
+ * All existing rows go to a single 'pmax' partition, the JdbcPartitionManager then splits it into daily partitions.
+ */
+ALTER TABLE queues
+    ADD COLUMN `created` DATETIME(6) NOT NULL DEFAULT (UTC_TIMESTAMP(6)),
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (`offset`, `created`);
+
+ALTER TABLE queues PARTITION BY RANGE COLUMNS(`created`) (
+    PARTITION pmax VALUES LESS THAN (MAXVALUE)
+);
+
+ALTER TABLE metrics
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (`key`, `timestamp`);
+
+ALTER TABLE metrics PARTITION BY RANGE COLUMNS(`timestamp`) (
+    PARTITION pmax VALUES LESS THAN (MAXVALUE)
+);
@@ -0,0 +1 @@
+CREATE INDEX ix_end_date ON multipleconditions (`end_date`);
@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS `flow_source_tokens` (
+    `flow_uid` VARCHAR(250) NOT NULL,
+    `flow_key` VARCHAR(250) NOT NULL,
+    `tenant_id` VARCHAR(250),
+    `token` VARCHAR(100) COLLATE utf8mb4_bin NOT NULL,
+    `occurrences` INT NOT NULL,
+    PRIMARY KEY (`flow_uid`, `token`),
+    INDEX ix_token (`token`, `tenant_id`, `flow_key`)
+) ENGINE INNODB CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci;
@@ -0,0 +1,7 @@
+package io.kestra.runner.mysql;
+
+import io.kestra.jdbc.runner.JdbcKVVersionStorageTest;
+
+class MysqlKVVersionStorageTest extends JdbcKVVersionStorageTest {
+
+}
@@ -30,10 +30,4 @@ public class PostgresFlowRepository extends AbstractJdbcFlowRepository {
     protected Condition findCondition(Object value, QueryFilter.Op operation) {
         return PostgresFlowRepositoryService.findCondition( value, operation);
     }
-
-
-    @Override
-    protected Condition findSourceCodeCondition(String query) {
-        return PostgresFlowRepositoryService.findSourceCodeCondition(this.jdbcRepository, query);
-    }
 }
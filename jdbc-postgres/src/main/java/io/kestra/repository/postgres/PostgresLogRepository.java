@@ -3,6 +3,7 @@ package io.kestra.repository.postgres;
 import io.kestra.core.models.executions.LogEntry;
 import io.kestra.core.utils.DateUtils;
 import io.kestra.jdbc.repository.AbstractJdbcLogRepository;
+import io.kestra.jdbc.services.JdbcChunkedDeleteService;
 import io.kestra.jdbc.services.JdbcFilterService;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
@@ -23,8 +24,9 @@ import java.util.stream.Collectors;
 public class PostgresLogRepository extends AbstractJdbcLogRepository {
     @Inject
     public PostgresLogRepository(@Named("logs") PostgresRepository<LogEntry> repository,
-                                 JdbcFilterService filterService) {
-        super(repository, filterService);
+                                 JdbcFilterService filterService,
+                                 JdbcChunkedDeleteService chunkedDeleteService) {
+        super(repository, filterService, chunkedDeleteService);
     }
 
     @Override
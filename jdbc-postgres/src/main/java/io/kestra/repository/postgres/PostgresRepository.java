@@ -15,6 +15,8 @@ import lombok.SneakyThrows;
 import org.jooq.Condition;
 import org.jooq.DSLContext;
 import org.jooq.Field;
+import org.jooq.Insert;
+import org.jooq.InsertOnDuplicateStep;
 import org.jooq.JSONB;
 import org.jooq.Record;
 import org.jooq.RecordMapper;
@@ -31,6 +33,10 @@ import jakarta.annotation.Nullable;
 @PostgresRepositoryEnabled
 @EachBean(JdbcTableConfig.class)
 public class PostgresRepository<T> extends io.kestra.jdbc.AbstractJdbcRepository<T> {
+    private static final Field<Object> TIMESTAMP_FIELD = AbstractJdbcRepository.field("timestamp");
+
+    // lazily read from the schema, the table can be converted by the postgres-partitioned migration whatever the configuration
+    private volatile Boolean partitioned;
 
     @Inject
     public PostgresRepository(@Parameter JdbcTableConfig jdbcTableConfig,
@@ -39,6 +45,25 @@ public class PostgresRepository<T> extends io.kestra.jdbc.AbstractJdbcRepository
         super(jdbcTableConfig, queueService, dslContextWrapper);
     }
 
+    /**
+     * Tables partitioned on the timestamp by the postgres-partitioned migration have a plain <code>timestamp</code>
+     * column that must be set on insert, instead of the generated one of the non-partitioned tables.
+     */
+    private boolean isPartitioned() {
+        if (partitioned == null) {
+            partitioned = dslContextWrapper.transactionResult(configuration -> DSL.using(configuration).fetchExists(
+                DSL.selectOne()
+                    .from(DSL.table("information_schema.columns"))
+                    .where(DSL.condition(
+                        "table_schema = current_schema() AND table_name = ? AND column_name = 'timestamp' AND is_generated = 'NEVER'",
+                        table.getName()
+                    ))
+            ));
+        }
+
+        return partitioned;
+    }
+
     @Override
     public Condition fullTextCondition(List<String> fields, String query) {
         if (query == null || query.equals("*")) {
@@ -56,9 +81,16 @@ public class PostgresRepository<T> extends io.kestra.jdbc.AbstractJdbcRepository
     @Override
     public Map<Field<Object>, Object> persistFields(T entity) {
         String json = JdbcMapper.of().writeValueAsString(entity);
-        return new HashMap<>(ImmutableMap
+        Map<Field<Object>, Object> fields = new HashMap<>(ImmutableMap
             .of(io.kestra.jdbc.repository.AbstractJdbcRepository.field("value"), DSL.val(JSONB.valueOf(json)))
         );
+
+        if (this.isPartitioned()) {
+            // same expression as the generated column of the non-partitioned table
+            fields.put(TIMESTAMP_FIELD, DSL.field("PARSE_ISO8601_DATETIME({0} ->> 'timestamp')", Object.class, DSL.val(JSONB.valueOf(json))));
+        }
+
+        return fields;
     }
 
     @SneakyThrows
@@ -66,14 +98,32 @@ public class PostgresRepository<T> extends io.kestra.jdbc.AbstractJdbcRepository
     public void persist(T entity, DSLContext context, @Nullable  Map<Field<Object>, Object> fields) {
         Map<Field<Object>, Object> finalFields = fields == null ? this.persistFields(entity) : fields;
 
-        context
+        this.upsert(context
             .insertInto(table)
             .set(AbstractJdbcRepository.field("key"), key(entity))
-            .set(finalFields)
+            .set(finalFields), finalFields)
+            .execute();
+    }
+
+    /**
+     * Partitioned tables have a primary key on (key, timestamp), the timestamp of an entity never changes
+     * so upserting on both keeps the update by key.
+     */
+    private Insert<Record> upsert(InsertOnDuplicateStep<Record> insert, Map<Field<Object>, Object> fields) {
+        if (this.isPartitioned()) {
+            Map<Field<Object>, Object> updated = new HashMap<>(fields);
+            updated.remove(TIMESTAMP_FIELD);
+
+            return insert
+                .onConflict(AbstractJdbcRepository.field("key"), TIMESTAMP_FIELD)
+                .doUpdate()
+                .set(updated);
+        }
+
+        return insert
             .onConflict(AbstractJdbcRepository.field("key"))
             .doUpdate()
-            .set(finalFields)
-            .execute();
+            .set(fields);
     }
 
     @Override
@@ -83,13 +133,10 @@ public class PostgresRepository<T> extends io.kestra.jdbc.AbstractJdbcRepository
             var inserts = items.stream().map(item -> {
                     Map<Field<Object>, Object> finalFields = this.persistFields(item);
 
-                    return dslContext
+                    return this.upsert(dslContext
                         .insertInto(table)
                         .set(AbstractJdbcRepository.field("key"), key(item))
-                        .set(finalFields)
-                        .onConflict(AbstractJdbcRepository.field("key"))
-                        .doUpdate()
-                        .set(finalFields);
+                        .set(finalFields), finalFields);
                 })
                 .toList();
 
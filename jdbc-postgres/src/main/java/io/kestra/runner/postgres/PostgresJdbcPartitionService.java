@@ -0,0 +1,90 @@
+package io.kestra.runner.postgres;
+
+import io.kestra.jdbc.runner.JdbcPartitionService;
+import jakarta.inject.Singleton;
+import org.jooq.DSLContext;
+import org.jooq.Name;
+import org.jooq.QueryPart;
+import org.jooq.impl.DSL;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Singleton
+@PostgresQueueEnabled
+public class PostgresJdbcPartitionService implements JdbcPartitionService {
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    @Override
+    public Set<String> partitionable() {
+        return Set.of("queues", "logs", "metrics");
+    }
+
+    @Override
+    public Set<LocalDate> partitions(DSLContext context, String table) {
+        String prefix = table + "_p";
+
+        return context
+            .resultQuery(
+                "SELECT child.relname FROM pg_inherits " +
+                    "JOIN pg_class parent ON parent.oid = pg_inherits.inhparent " +
+                    "JOIN pg_class child ON child.oid = pg_inherits.inhrelid " +
+                    "WHERE parent.relname = ?",
+                table
+            )
+            .fetch(0, String.class)
+            .stream()
+            .filter(name -> name.startsWith(prefix) && name.length() == prefix.length() + 8)
+            .map(name -> LocalDate.parse(name.substring(prefix.length()), SUFFIX))
+            .collect(Collectors.toSet());
+    }
+
+    @Override
+    public void createPartition(DSLContext context, String table, String column, LocalDate day) {
+        Name partition = DSL.name(partition(table, day));
+        QueryPart from = DSL.inline(day + " 00:00:00+00");
+        QueryPart to = DSL.inline(day.plusDays(1) + " 00:00:00+00");
+
+        if (context.fetchExists(DSL.selectOne().from(DSL.table("pg_class")).where(DSL.condition("relname = ?", partition(table, day))))) {
+            return;
+        }
+
+        // a partition can't be created while the default partition holds rows of its range, so they are moved to it first
+        QueryPart columns = DSL.list(context
+            .resultQuery(
+                "SELECT column_name FROM information_schema.columns " +
+                    "WHERE table_schema = current_schema() AND table_name = ? AND is_generated = 'NEVER' " +
+                    "ORDER BY ordinal_position",
+                table
+            )
+            .fetch(0, String.class)
+            .stream()
+            .map(DSL::name)
+            .toList()
+        );
+
+        context.execute("CREATE TABLE {0} (LIKE {1} INCLUDING DEFAULTS INCLUDING GENERATED)", partition, DSL.name(table));
+        context.execute(
+            "WITH moved AS (DELETE FROM {0} WHERE {1} >= {2} AND {1} < {3} RETURNING {4}) INSERT INTO {5} ({4}) SELECT {4} FROM moved",
+            DSL.name(table + "_default"),
+            DSL.name(column),
+            from,
+            to,
+            columns,
+            partition
+        );
+        context.execute("ALTER TABLE {0} ATTACH PARTITION {1} FOR VALUES FROM ({2}) TO ({3})", DSL.name(table), partition, from, to);
+    }
+
+    @Override
+    public void dropPartition(DSLContext context, String table, LocalDate day) {
+        context.execute("DROP TABLE IF EXISTS {0}", DSL.name(partition(table, day)));
+    }
+
+    private static String partition(String table, LocalDate day) {
+        return Objects.requireNonNull(table) + "_p" + day.format(SUFFIX);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Opt-in migration: only applied when 'classpath:migrations/postgres-partitioned' is added to the flyway locations
+ * alongside 'kestra.jdbc.partitioning.enabled: true'.
+ *
+ * Converts queues, logs and metrics to tables range-partitioned by day. Logs and metrics are partitioned on their
+ * 'timestamp' column so the queries filtering on it only read the matching partitions. Postgres can't partition on a
+ * generated column, so it becomes a plain column set by the repository with the same expression.
+ * Queues are only read by offset, they are partitioned on a new 'created' column so old messages can be dropped.
+ * The existing table is kept as the partition of the current day so no rows are copied,
+ * and a default partition catches rows until the JdbcPartitionManager creates the partitions of the following days.
+ */
+DO $$
+DECLARE
+    tbl TEXT;
+    pk TEXT;
+    partition_column TEXT;
+    pk_name TEXT;
+    legacy TEXT;
+    seq TEXT;
+    idx RECORD;
+    suffix TEXT := '_p' || to_char(CURRENT_DATE, 'YYYYMMDD');
+    bound TEXT := to_char(CURRENT_DATE + 1, 'YYYY-MM-DD') || ' 00:00:00+00';
+BEGIN
+    FOREACH tbl IN ARRAY ARRAY['queues', 'logs', 'metrics'] LOOP
+        legacy := tbl || suffix;
+        pk := CASE WHEN tbl = 'queues' THEN 'offset' ELSE 'key' END;
+        partition_column := CASE WHEN tbl = 'queues' THEN 'created' ELSE 'timestamp' END;
+
+        IF tbl = 'queues' THEN
+            EXECUTE format('ALTER TABLE %I ADD COLUMN IF NOT EXISTS created TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP', tbl);
+        ELSE
+            -- keep the computed values, new rows get it from the repository
+            EXECUTE format('ALTER TABLE %I ALTER COLUMN "timestamp" DROP EXPRESSION', tbl);
+        END IF;
+        EXECUTE format('ALTER TABLE %I RENAME TO %I', tbl, legacy);
+
+        -- constraint and index names are schema wide, free them for the partitioned table
+        SELECT conname INTO pk_name FROM pg_constraint WHERE conrelid = legacy::regclass AND contype = 'p';
+        IF pk_name IS NOT NULL THEN
+            EXECUTE format('ALTER TABLE %I RENAME CONSTRAINT %I TO %I', legacy, pk_name, legacy || '_pkey');
+        END IF;
+
+        EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING GENERATED) PARTITION BY RANGE (%I)', tbl, legacy, partition_column);
+        EXECUTE format('ALTER TABLE %I ADD PRIMARY KEY (%I, %I)', tbl, pk, partition_column);
+
+        -- the serial sequence must survive the drop of the legacy partition
+        seq := pg_get_serial_sequence(quote_ident(legacy), pk);
+        IF seq IS NOT NULL THEN
+            EXECUTE format('ALTER SEQUENCE %s OWNED BY %I.%I', seq, tbl, pk);
+        END IF;
+
+        -- recreate secondary indexes on the parent, the existing ones are attached instead of being rebuilt
+        FOR idx IN
+            SELECT indexname, indexdef FROM pg_indexes
+            WHERE tablename = legacy AND schemaname = current_schema() AND indexname <> legacy || '_pkey'
+        LOOP
+            EXECUTE format('ALTER INDEX %I RENAME TO %I', idx.indexname, left(idx.indexname, 50) || suffix);
+            EXECUTE replace(idx.indexdef, ' ON ' || current_schema() || '.' || legacy || ' ', ' ON ' || tbl || ' ');
+        END LOOP;
+
+        IF tbl = 'queues' THEN
+            EXECUTE format('DROP TRIGGER IF EXISTS queues_updated ON %I', legacy);
+        END IF;
+
+        -- rows dated after the bound, from a skewed clock, are moved to the default partition
+        IF tbl <> 'queues' THEN
+            EXECUTE format('CREATE TEMP TABLE partition_future ON COMMIT DROP AS SELECT key, value, "timestamp" FROM %I WHERE "timestamp" >= %L', legacy, bound);
+            EXECUTE format('DELETE FROM %I WHERE "timestamp" >= %L', legacy, bound);
+        END IF;
+
+        -- a valid check constraint avoids a second scan of the table when attaching it
+        EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I CHECK (%I < %L)', legacy, legacy || '_bound', partition_column, bound);
+        EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (MINVALUE) TO (%L)', tbl, legacy, bound);
+        EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', legacy, legacy || '_bound');
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF %I DEFAULT', tbl || '_default', tbl);
+
+        IF tbl <> 'queues' THEN
+            EXECUTE format('INSERT INTO %I (key, value, "timestamp") SELECT key, value, "timestamp" FROM partition_future', tbl);
+            DROP TABLE partition_future;
+        END IF;
+    END LOOP;
+END $$;
+
+CREATE OR REPLACE TRIGGER queues_updated BEFORE UPDATE
+    ON queues FOR EACH ROW EXECUTE PROCEDURE
+    UPDATE_UPDATED_DATETIME();
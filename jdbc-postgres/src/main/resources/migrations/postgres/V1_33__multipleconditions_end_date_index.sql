@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS multipleconditions_end_date ON multipleconditions (end_date);
@@ -0,0 +1,6 @@
+CREATE TABLE IF NOT EXISTS kv_versions (
+    key VARCHAR(64) NOT NULL PRIMARY KEY,
+    tenant_id VARCHAR(250),
+    namespace VARCHAR(150) NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0
+);
@@ -0,0 +1,33 @@
+package io.kestra.repository.postgres;
+
+import io.kestra.jdbc.JooqDSLContextWrapper;
+import io.kestra.jdbc.repository.AbstractJdbcLogRepositoryTest;
+import io.micronaut.context.annotation.Property;
+import jakarta.inject.Inject;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Runs the log repository tests on the table converted by the postgres-partitioned migration,
+ * without any retention configured for it.
+ */
+@Property(name = "flyway.datasources.postgres.locations", value = "classpath:migrations/postgres,classpath:migrations/postgres-partitioned")
+@Property(name = "kestra.jdbc.partitioning.enabled", value = "true")
+public class PostgresPartitionedLogRepositoryTest extends AbstractJdbcLogRepositoryTest {
+    @Inject
+    JooqDSLContextWrapper dslContextWrapper;
+
+    @Test
+    void partitioned() {
+        Boolean partitioned = dslContextWrapper.transactionResult(configuration -> DSL.using(configuration).fetchExists(
+            DSL.selectOne()
+                .from(DSL.table("pg_partitioned_table"))
+                .where(DSL.condition("partrelid = 'logs'::regclass"))
+        ));
+
+        assertThat(partitioned, is(true));
+    }
+}
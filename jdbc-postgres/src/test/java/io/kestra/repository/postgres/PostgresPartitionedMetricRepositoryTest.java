@@ -0,0 +1,9 @@
+package io.kestra.repository.postgres;
+
+import io.kestra.jdbc.repository.AbstractJdbcMetricRepositoryTest;
+import io.micronaut.context.annotation.Property;
+
+@Property(name = "flyway.datasources.postgres.locations", value = "classpath:migrations/postgres,classpath:migrations/postgres-partitioned")
+@Property(name = "kestra.jdbc.partitioning.enabled", value = "true")
+public class PostgresPartitionedMetricRepositoryTest extends AbstractJdbcMetricRepositoryTest {
+}
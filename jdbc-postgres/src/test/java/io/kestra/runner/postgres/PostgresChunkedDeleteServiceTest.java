@@ -0,0 +1,7 @@
+package io.kestra.runner.postgres;
+
+import io.kestra.jdbc.services.JdbcChunkedDeleteServiceTest;
+
+class PostgresChunkedDeleteServiceTest extends JdbcChunkedDeleteServiceTest {
+
+}
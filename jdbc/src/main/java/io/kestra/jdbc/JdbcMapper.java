@@ -1,13 +1,19 @@
 package io.kestra.jdbc;
 
 import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.databind.JsonSerializer;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.kestra.core.models.executions.TaskRun;
 import io.kestra.core.serializers.JacksonMapper;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
@@ -17,6 +23,8 @@ public abstract class JdbcMapper {
     private static final DateTimeFormatter INSTANT_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")
         .withZone(ZoneOffset.UTC);
     private static final DateTimeFormatter ZONED_DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+    // maximum number of chars of the cached task runs
+    private static final long TASK_RUN_CACHE_WEIGHT = 32 * 1024 * 1024;
     private static final ObjectMapper MAPPER = init();
 
     public static ObjectMapper of() {
@@ -41,7 +49,84 @@ public abstract class JdbcMapper {
             }
         });
 
+        Cache<TaskRun, String> taskRuns = CacheBuilder.newBuilder()
+            .weakKeys()
+            .maximumWeight(TASK_RUN_CACHE_WEIGHT)
+            .weigher((TaskRun taskRun, String json) -> json.length())
+            .build();
+
+        module.setSerializerModifier(new BeanSerializerModifier() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc, JsonSerializer<?> serializer) {
+                if (beanDesc.getBeanClass() == TaskRun.class) {
+                    return new TaskRunSerializer((JsonSerializer<Object>) serializer, taskRuns);
+                }
+
+                return serializer;
+            }
+        });
+
         objectMapper.registerModule(module);
         return objectMapper;
     }
+
+    /**
+     * Serialize each {@link TaskRun} instance only once.
+     * <p>
+     * Task runs are immutable, a change creates a new instance, and most of the task runs of an execution are unchanged
+     * between two serializations of it. So their JSON is cached by instance and copied as is in the output, and
+     * serializing an execution after a task run update only encodes the updated task run.
+     */
+    private static class TaskRunSerializer extends JsonSerializer<TaskRun> implements ContextualSerializer, ResolvableSerializer {
+        private final JsonSerializer<Object> delegate;
+        private final Cache<TaskRun, String> cache;
+
+        private TaskRunSerializer(JsonSerializer<Object> delegate, Cache<TaskRun, String> cache) {
+            this.delegate = delegate;
+            this.cache = cache;
+        }
+
+        @Override
+        public void serialize(TaskRun taskRun, JsonGenerator jsonGenerator, SerializerProvider serializerProvider) throws IOException {
+            // raw values can't be read back from a token buffer, used when converting to a tree or to another type
+            if (jsonGenerator instanceof TokenBuffer || jsonGenerator.getCodec() == null) {
+                delegate.serialize(taskRun, jsonGenerator, serializerProvider);
+                return;
+            }
+
+            String json = cache.getIfPresent(taskRun);
+            if (json == null) {
+                StringWriter writer = new StringWriter();
+                try (JsonGenerator generator = jsonGenerator.getCodec().getFactory().createGenerator(writer)) {
+                    delegate.serialize(taskRun, generator, serializerProvider);
+                }
+
+                json = writer.toString();
+                cache.put(taskRun, json);
+            }
+
+            jsonGenerator.writeRawValue(json);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider serializerProvider, BeanProperty property) throws JsonMappingException {
+            if (delegate instanceof ContextualSerializer contextualSerializer) {
+                JsonSerializer<?> contextual = contextualSerializer.createContextual(serializerProvider, property);
+                if (contextual != delegate) {
+                    return new TaskRunSerializer((JsonSerializer<Object>) contextual, cache);
+                }
+            }
+
+            return this;
+        }
+
+        @Override
+        public void resolve(SerializerProvider serializerProvider) throws JsonMappingException {
+            if (delegate instanceof ResolvableSerializer resolvableSerializer) {
+                resolvableSerializer.resolve(serializerProvider);
+            }
+        }
+    }
 }
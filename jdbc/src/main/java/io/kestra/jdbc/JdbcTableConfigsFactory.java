@@ -113,6 +113,24 @@ public class JdbcTableConfigsFactory {
         return new InstantiableJdbcTableConfig("executionqueued", ExecutionQueued.class, "execution_queued");
     }
 
+    @Bean
+    @Named("concurrencylimit")
+    public InstantiableJdbcTableConfig concurrencyLimit() {
+        return new InstantiableJdbcTableConfig("concurrencylimit", null, "concurrency_limit");
+    }
+
+    @Bean
+    @Named("flowsourcetokens")
+    public InstantiableJdbcTableConfig flowSourceTokens() {
+        return new InstantiableJdbcTableConfig("flowsourcetokens", null, "flow_source_tokens");
+    }
+
+    @Bean
+    @Named("kvversions")
+    public InstantiableJdbcTableConfig kvVersions() {
+        return new InstantiableJdbcTableConfig("kvversions", null, "kv_versions");
+    }
+
     @Bean
     @Named("slamonitor")
     public InstantiableJdbcTableConfig slaMonitor() {
@@ -48,6 +48,7 @@ import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.Comparator;
 import java.util.*;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -1076,6 +1077,14 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
     }
 
     public Executor lock(String executionId, Function<Pair<Execution, ExecutorState>, Pair<Executor, ExecutorState>> function) {
+        return this.lock(executionId, (context, pair) -> function.apply(pair));
+    }
+
+    /**
+     * Same as {@link #lock(String, Function)} but also gives the function the context of the lock transaction,
+     * so that other updates can be committed atomically with the execution.
+     */
+    public Executor lock(String executionId, BiFunction<DSLContext, Pair<Execution, ExecutorState>, Pair<Executor, ExecutorState>> function) {
         return this.jdbcRepository
             .getDslContextWrapper()
             .transactionResult(configuration -> {
@@ -1096,7 +1105,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
                 }
 
                 ExecutorState executorState = executorStateStorage.get(context, execution.get());
-                Pair<Executor, ExecutorState> pair = function.apply(Pair.of(execution.get(), executorState));
+                Pair<Executor, ExecutorState> pair = function.apply(context, Pair.of(execution.get(), executorState));
 
                 if (pair != null) {
                     this.jdbcRepository.persist(pair.getKey().getExecution(), context, null);
@@ -1109,6 +1118,20 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
             });
     }
 
+    /**
+     * Count the executions of a flow in the given states, inside an existing transaction.
+     */
+    public long count(DSLContext context, @Nullable String tenantId, String namespace, String flowId, List<State.Type> states) {
+        return context
+            .selectCount()
+            .from(this.jdbcRepository.getTable())
+            .where(this.defaultFilter(tenantId))
+            .and(field("namespace").eq(namespace))
+            .and(field("flow_id").eq(flowId))
+            .and(this.statesFilter(states))
+            .fetchOne(0, Long.class);
+    }
+
     @Override
     public Function<String, String> sortMapping() throws IllegalArgumentException {
         Map<String, String> mapper = Map.of(
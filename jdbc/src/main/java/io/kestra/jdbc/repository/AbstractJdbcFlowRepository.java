@@ -18,10 +18,12 @@ import io.kestra.core.repositories.ArrayListTotal;
 import io.kestra.core.repositories.FlowRepositoryInterface;
 import io.kestra.core.services.FlowService;
 import io.kestra.core.utils.NamespaceUtils;
+import io.kestra.core.utils.ExecutorsUtils;
 import io.kestra.jdbc.JdbcMapper;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.event.ApplicationEventPublisher;
 import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Sort;
 import io.micronaut.inject.qualifiers.Qualifiers;
 import jakarta.annotation.Nullable;
 import jakarta.validation.ConstraintViolationException;
@@ -31,19 +33,26 @@ import org.jooq.Record;
 import org.jooq.*;
 import org.jooq.impl.DSL;
 
+import java.math.BigDecimal;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Stream;
 
 import static io.kestra.core.utils.Rethrow.throwConsumer;
 
 @Slf4j
 public abstract class AbstractJdbcFlowRepository extends AbstractJdbcRepository implements FlowRepositoryInterface {
     private static final Field<String> NAMESPACE_FIELD = field("namespace", String.class);
+    private static final int FETCH_SIZE = 500;
 
     private final QueueInterface<FlowWithSource> flowQueue;
     private final QueueInterface<Trigger> triggerQueue;
     private final ApplicationEventPublisher<CrudEvent<Flow>> eventPublisher;
     private final ModelValidator modelValidator;
     private final NamespaceUtils namespaceUtils;
+    private final JdbcFlowSourceIndex sourceIndex;
+    private final ExecutorsUtils executorsUtils;
     protected io.kestra.jdbc.AbstractJdbcRepository<Flow> jdbcRepository;
 
     @SuppressWarnings("unchecked")
@@ -54,6 +63,8 @@ public abstract class AbstractJdbcFlowRepository extends AbstractJdbcRepository
         this.triggerQueue = applicationContext.getBean(QueueInterface.class, Qualifiers.byName(QueueFactoryInterface.TRIGGER_NAMED));
         this.flowQueue = applicationContext.getBean(QueueInterface.class, Qualifiers.byName(QueueFactoryInterface.FLOW_NAMED));
         this.namespaceUtils = applicationContext.getBean(NamespaceUtils.class);
+        this.sourceIndex = applicationContext.getBean(JdbcFlowSourceIndex.class);
+        this.executorsUtils = applicationContext.getBean(ExecutorsUtils.class);
         this.jdbcRepository.setDeserializer(record -> {
             String source = record.get("value", String.class);
 
@@ -364,17 +375,30 @@ public abstract class AbstractJdbcFlowRepository extends AbstractJdbcRepository
 
                 // findAllWithSourceForAllTenants() is used in the backend, so we want it to work even if messy plugins exist.
                 // That's why we will try to deserialize each flow and log an error but not crash in case of exception.
-                return select.fetch().map(record -> {
-                    try {
-                        return FlowWithSource.of(
-                            jdbcRepository.map(record),
-                            record.get("source_code", String.class)
-                        );
-                    } catch (Exception e) {
-                        log.error("Unable to load the following flow:\n{}", record.get("value", String.class), e);
-                        return null;
-                    }
-                });
+                // It's also used on startup to load all the flows, so the rows are deserialized in parallel while they are streamed.
+                ExecutorService executorService = this.executorsUtils.batchThreadPool("flow-deserialization");
+                try (Stream<Record2<Object, String>> records = select.fetchSize(FETCH_SIZE).stream()) {
+                    List<CompletableFuture<FlowWithSource>> flows = records
+                        .map(record -> CompletableFuture.supplyAsync(() -> {
+                            try {
+                                return FlowWithSource.of(
+                                    jdbcRepository.map(record),
+                                    record.get("source_code", String.class)
+                                );
+                            } catch (Exception e) {
+                                log.error("Unable to load the following flow:\n{}", record.get("value", String.class), e);
+                                return null;
+                            }
+                        }, executorService))
+                        .toList();
+
+                    return flows.stream()
+                        .map(CompletableFuture::join)
+                        .filter(Objects::nonNull)
+                        .toList();
+                } finally {
+                    executorService.shutdown();
+                }
             });
     }
 
@@ -577,19 +601,44 @@ public abstract class AbstractJdbcFlowRepository extends AbstractJdbcRepository
     }
 
 
-    abstract protected Condition findSourceCodeCondition(String query);
-
     @Override
     public ArrayListTotal<SearchResult<Flow>> findSourceCode(Pageable pageable, @Nullable String query, @Nullable String tenantId, @Nullable String namespace) {
+        if (query == null || query.equals("*")) {
+            return this.findSourceCode(pageable, tenantId, namespace, null, null);
+        }
+
+        Optional<Table<Record2<String, BigDecimal>>> matches = this.sourceIndex.matches(tenantId, query);
+        if (matches.isEmpty()) {
+            return new ArrayListTotal<>(0);
+        }
+
+        // rank by the score of the index when no other order is asked
+        if (pageable == null || !pageable.getSort().isSorted()) {
+            Sort byScore = Sort.of(Sort.Order.desc("score"));
+            pageable = pageable == null || pageable.getSize() == -1 ? Pageable.from(byScore) : Pageable.from(pageable.getNumber(), pageable.getSize(), byScore);
+        }
+
+        return this.findSourceCode(pageable, tenantId, namespace, query, matches.get());
+    }
+
+    private ArrayListTotal<SearchResult<Flow>> findSourceCode(Pageable pageable, @Nullable String tenantId, @Nullable String namespace, @Nullable String query, @Nullable Table<?> matches) {
         return this.jdbcRepository
             .getDslContextWrapper()
             .transactionResult(configuration -> {
                 DSLContext context = DSL.using(configuration);
 
-                SelectConditionStep<Record> select = this.fullTextSelect(tenantId, context, Collections.singletonList(field("source_code")));
-
-                if (query != null) {
-                    select.and(this.findSourceCodeCondition(query));
+                SelectConditionStep<Record> select;
+                if (matches == null) {
+                    select = this.fullTextSelect(tenantId, context, Collections.singletonList(field("source_code")));
+                } else {
+                    // the index only contains the last revision, so its keys are joined directly on the flows table
+                    select = context
+                        .select(field("value"), field("source_code"), field("score"))
+                        .hint(context.configuration().dialect().supports(SQLDialect.MYSQL) ? "SQL_CALC_FOUND_ROWS" : null)
+                        .from(this.jdbcRepository.getTable())
+                        .join(matches)
+                        .on(field("key").eq(DSL.field(DSL.quotedName("matches", "match_key"))))
+                        .where(this.defaultFilter(tenantId));
                 }
 
                 if (namespace != null) {
@@ -608,6 +657,53 @@ public abstract class AbstractJdbcFlowRepository extends AbstractJdbcRepository
             });
     }
 
+    /**
+     * Index the source of the last revision of the flows missing from the source index,
+     * by batches each indexed in its own transaction.
+     *
+     * @return the number of indexed flows.
+     */
+    public int indexMissingSources(int batchSize) {
+        Field<String> key = field("key", String.class);
+        int indexed = 0;
+        String lastKey = null;
+
+        while (true) {
+            String after = lastKey;
+            List<String> keys = this.jdbcRepository
+                .getDslContextWrapper()
+                .transactionResult(configuration -> {
+                    DSLContext context = DSL.using(configuration);
+
+                    Result<Record5<String, String, String, String, String>> flows = context
+                        .select(
+                            field("tenant_id", String.class),
+                            field("namespace", String.class),
+                            field("id", String.class),
+                            key,
+                            field("source_code", String.class)
+                        )
+                        .from(fromLastRevision(true))
+                        .where(this.defaultFilter())
+                        .and(after == null ? DSL.noCondition() : key.gt(after))
+                        .andNot(this.sourceIndex.isIndexed(key))
+                        .orderBy(key)
+                        .limit(batchSize)
+                        .fetch();
+
+                    flows.forEach(flow -> this.sourceIndex.index(context, flow.value1(), flow.value2(), flow.value3(), flow.value4(), flow.value5()));
+
+                    return flows.map(Record5::value4);
+                });
+
+            indexed += keys.size();
+            if (keys.size() < batchSize) {
+                return indexed;
+            }
+            lastKey = keys.getLast();
+        }
+    }
+
     @Override
     public FlowWithSource create(Flow flow, String flowSource, Flow flowWithDefaults) throws ConstraintViolationException {
         if (this.findById(flow.getTenantId(), flow.getNamespace(), flow.getId()).isPresent()) {
@@ -668,7 +764,13 @@ public abstract class AbstractJdbcFlowRepository extends AbstractJdbcRepository
         Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(flow);
         fields.put(field("source_code"), flowSource);
 
-        this.jdbcRepository.persist(flow, fields);
+        Flow saved = flow;
+        this.jdbcRepository.getDslContextWrapper().transaction(configuration -> {
+            DSLContext context = DSL.using(configuration);
+
+            this.jdbcRepository.persist(saved, context, fields);
+            this.sourceIndex.index(context, this.jdbcRepository.key(saved), saved, flowSource);
+        });
 
         flowQueue.emit(flow.withSource(flowSource));
         if (exists.isPresent()) {
@@ -702,7 +804,12 @@ public abstract class AbstractJdbcFlowRepository extends AbstractJdbcRepository
         Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(deleted.toFlow());
         fields.put(field("source_code"), deleted.getSource());
 
-        this.jdbcRepository.persist(deleted, fields);
+        this.jdbcRepository.getDslContextWrapper().transaction(configuration -> {
+            DSLContext context = DSL.using(configuration);
+
+            this.jdbcRepository.persist(deleted, context, fields);
+            this.sourceIndex.remove(context, deleted);
+        });
 
         flowQueue.emit(deleted);
 
@@ -10,6 +10,7 @@ import io.kestra.core.repositories.ArrayListTotal;
 import io.kestra.core.repositories.LogRepositoryInterface;
 import io.kestra.core.utils.DateUtils;
 import io.kestra.core.utils.ListUtils;
+import io.kestra.jdbc.services.JdbcChunkedDeleteService;
 import io.kestra.jdbc.services.JdbcFilterService;
 import io.kestra.plugin.core.dashboard.data.Logs;
 import io.micronaut.data.model.Pageable;
@@ -39,11 +40,15 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
 
     protected io.kestra.jdbc.AbstractJdbcRepository<LogEntry> jdbcRepository;
 
+    protected JdbcChunkedDeleteService chunkedDeleteService;
+
     public AbstractJdbcLogRepository(io.kestra.jdbc.AbstractJdbcRepository<LogEntry> jdbcRepository,
-                                     JdbcFilterService filterService) {
+                                     JdbcFilterService filterService,
+                                     JdbcChunkedDeleteService chunkedDeleteService) {
         this.jdbcRepository = jdbcRepository;
 
         this.filterService = filterService;
+        this.chunkedDeleteService = chunkedDeleteService;
     }
 
     abstract protected Condition findCondition(String query);
@@ -479,18 +484,15 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
 
     @Override
     public Integer purge(Execution execution) {
-        return this.jdbcRepository
-            .getDslContextWrapper()
-            .transactionResult(configuration -> {
-                DSLContext context = DSL.using(configuration);
-
-                return context.delete(this.jdbcRepository.getTable())
-                    // The deleted field is not used, so ti will always be false.
-                    // We add it here to be sure to use the correct index.
-                    .where(field("deleted", Boolean.class).eq(false))
-                    .and(field("execution_id", String.class).eq(execution.getId()))
-                    .execute();
-            });
+        return chunkedDeleteService.delete(
+            this.jdbcRepository.getDslContextWrapper(),
+            this.jdbcRepository.getTable(),
+            field("key"),
+            // The deleted field is not used, so ti will always be false.
+            // We add it here to be sure to use the correct index.
+            field("deleted", Boolean.class).eq(false)
+                .and(field("execution_id", String.class).eq(execution.getId()))
+        );
     }
 
     @Override
@@ -548,34 +550,32 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
 
     @Override
     public int deleteByQuery(String tenantId, String namespace, String flowId, List<Level> logLevels, ZonedDateTime startDate, ZonedDateTime endDate) {
-        return this.jdbcRepository
-            .getDslContextWrapper()
-            .transactionResult(configuration -> {
-                DSLContext context = DSL.using(configuration);
+        Condition condition = this.defaultFilter(tenantId)
+            .and(field("timestamp").lessOrEqual(endDate.toOffsetDateTime()));
 
-                var delete = context
-                    .delete(this.jdbcRepository.getTable())
-                    .where(this.defaultFilter(tenantId))
-                    .and(field("timestamp").lessOrEqual(endDate.toOffsetDateTime()));
-
-                if (startDate != null) {
-                    delete = delete.and(field("timestamp").greaterOrEqual(startDate.toOffsetDateTime()));
-                }
+        if (startDate != null) {
+            condition = condition.and(field("timestamp").greaterOrEqual(startDate.toOffsetDateTime()));
+        }
 
-                if (namespace != null) {
-                    delete = delete.and(field("namespace").eq(namespace));
-                }
+        if (namespace != null) {
+            condition = condition.and(field("namespace").eq(namespace));
+        }
 
-                if (flowId != null) {
-                    delete = delete.and(field("flow_id").eq(flowId));
-                }
+        if (flowId != null) {
+            condition = condition.and(field("flow_id").eq(flowId));
+        }
 
-                if (logLevels != null) {
-                    delete = delete.and(levelsCondition(logLevels));
-                }
+        if (logLevels != null) {
+            condition = condition.and(levelsCondition(logLevels));
+        }
 
-                return delete.execute();
-            });
+        // chunked so that purging months of logs doesn't hold a lock on the table for the whole deletion
+        return chunkedDeleteService.delete(
+            this.jdbcRepository.getDslContextWrapper(),
+            this.jdbcRepository.getTable(),
+            field("key"),
+            condition
+        );
     }
 
     private ArrayListTotal<LogEntry> query(String tenantId, Condition condition, Level minLevel, Pageable pageable) {
@@ -10,6 +10,7 @@ import io.kestra.core.repositories.ArrayListTotal;
 import io.kestra.core.repositories.MetricRepositoryInterface;
 import io.kestra.core.utils.DateUtils;
 import io.kestra.core.utils.ListUtils;
+import io.kestra.jdbc.services.JdbcChunkedDeleteService;
 import io.kestra.jdbc.services.JdbcFilterService;
 import io.kestra.plugin.core.dashboard.data.Metrics;
 import io.micrometer.common.lang.Nullable;
@@ -31,11 +32,15 @@ import java.util.stream.Collectors;
 public abstract class AbstractJdbcMetricRepository extends AbstractJdbcRepository implements MetricRepositoryInterface {
     protected io.kestra.jdbc.AbstractJdbcRepository<MetricEntry> jdbcRepository;
 
+    protected JdbcChunkedDeleteService chunkedDeleteService;
+
     public AbstractJdbcMetricRepository(io.kestra.jdbc.AbstractJdbcRepository<MetricEntry> jdbcRepository,
-                                        JdbcFilterService filterService) {
+                                        JdbcFilterService filterService,
+                                        JdbcChunkedDeleteService chunkedDeleteService) {
         this.jdbcRepository = jdbcRepository;
 
         this.filterService = filterService;
+        this.chunkedDeleteService = chunkedDeleteService;
     }
 
     @Getter
@@ -186,18 +191,15 @@ public abstract class AbstractJdbcMetricRepository extends AbstractJdbcRepositor
 
     @Override
     public Integer purge(Execution execution) {
-        return this.jdbcRepository
-            .getDslContextWrapper()
-            .transactionResult(configuration -> {
-                DSLContext context = DSL.using(configuration);
-
-                return context.delete(this.jdbcRepository.getTable())
-                    // The deleted field is not used, so ti will always be false.
-                    // We add it here to be sure to use the correct index.
-                    .where(field("deleted", Boolean.class).eq(false))
-                    .and(field("execution_id", String.class).eq(execution.getId()))
-                    .execute();
-            });
+        return chunkedDeleteService.delete(
+            this.jdbcRepository.getDslContextWrapper(),
+            this.jdbcRepository.getTable(),
+            field("key"),
+            // The deleted field is not used, so ti will always be false.
+            // We add it here to be sure to use the correct index.
+            field("deleted", Boolean.class).eq(false)
+                .and(field("execution_id", String.class).eq(execution.getId()))
+        );
     }
 
     private List<String> queryDistinct(String tenantId, Condition condition, String field) {
@@ -69,8 +69,4 @@ public abstract class JdbcFlowRepositoryService {
 
         return conditions.size() == 0 ? DSL.trueCondition() : DSL.and(conditions);
     }
-
-    public static Condition findSourceCodeCondition(AbstractJdbcRepository<Flow> jdbcRepository, String query) {
-        return jdbcRepository.fullTextCondition(List.of("source_code"), query);
-    }
 }
@@ -0,0 +1,144 @@
+package io.kestra.jdbc.repository;
+
+import io.kestra.core.models.flows.Flow;
+import io.kestra.jdbc.JdbcTableConfig;
+import jakarta.annotation.Nullable;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.apache.commons.lang3.StringUtils;
+import org.jooq.*;
+import org.jooq.Record;
+import org.jooq.impl.DSL;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Token index of the source code of the last revision of each flow.
+ * <p>
+ * The source is split into lower-cased tokens on punctuation, symbols and spaces, each token being stored once per flow
+ * with its number of occurrences. A search only reads the index entries starting with the tokens of the query, instead of
+ * scanning the source code of all the revisions, and ranks the flows by the occurrences of the matched tokens.
+ * The index is updated in the transaction that saves or deletes the flow, the flows saved before it existed are indexed
+ * once in background by {@link JdbcFlowSourceIndexBackfill}.
+ */
+@Singleton
+public class JdbcFlowSourceIndex {
+    private static final Field<String> FLOW_UID = AbstractJdbcRepository.field("flow_uid", String.class);
+    private static final Field<String> FLOW_KEY = AbstractJdbcRepository.field("flow_key", String.class);
+    private static final Field<String> TENANT_ID = AbstractJdbcRepository.field("tenant_id", String.class);
+    private static final Field<String> TOKEN = AbstractJdbcRepository.field("token", String.class);
+    private static final Field<Integer> OCCURRENCES = AbstractJdbcRepository.field("occurrences", Integer.class);
+
+    private static final Pattern SEPARATORS = Pattern.compile("[\\p{P}\\p{S}\\p{Z}\\s]+");
+    private static final int MAX_TOKEN_LENGTH = 100;
+
+    private final Table<Record> table;
+
+    public JdbcFlowSourceIndex(@Named("flowsourcetokens") JdbcTableConfig jdbcTableConfig) {
+        this.table = DSL.table(jdbcTableConfig.table());
+    }
+
+    /**
+     * Replace the tokens of a flow by the ones of its new source, a deleted flow is removed from the index.
+     *
+     * @param flowKey the key of the row of the last revision in the flows table
+     */
+    public void index(DSLContext context, String flowKey, Flow flow, String source) {
+        this.remove(context, flow);
+
+        if (!flow.isDeleted()) {
+            this.insert(context, flow.uidWithoutRevision(), flowKey, flow.getTenantId(), source);
+        }
+    }
+
+    public void remove(DSLContext context, Flow flow) {
+        context.delete(this.table)
+            .where(FLOW_UID.eq(flow.uidWithoutRevision()))
+            .execute();
+    }
+
+    /**
+     * The condition matching the flows having tokens in the index.
+     *
+     * @param flowKey the key of the row of the flows table
+     */
+    public Condition isIndexed(Field<String> flowKey) {
+        return DSL.exists(DSL
+            .selectOne()
+            .from(this.table)
+            .where(FLOW_KEY.eq(flowKey))
+        );
+    }
+
+    /**
+     * Index a flow read from the flows table, used to build the index of the flows saved before it existed.
+     */
+    public void index(DSLContext context, String tenantId, String namespace, String id, String flowKey, String source) {
+        String flowUid = Flow.uidWithoutRevision(tenantId, namespace, id);
+
+        context.delete(this.table)
+            .where(FLOW_UID.eq(flowUid))
+            .execute();
+
+        this.insert(context, flowUid, flowKey, tenantId, source);
+    }
+
+    /**
+     * The flows having, for each token of the query, at least one token starting with it.
+     *
+     * @return a table of the matching flow keys as {@code match_key} with their {@code score},
+     * or empty if the query doesn't contain any token.
+     */
+    public Optional<Table<Record2<String, BigDecimal>>> matches(@Nullable String tenantId, String query) {
+        List<String> tokens = tokens(query).keySet().stream().toList();
+        if (tokens.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // each query token must be matched by an index entry, the same entry can match several query tokens
+        // (for ex. 'executions' matches both 'execution' and 'executions')
+        List<Condition> allMatched = tokens.stream()
+            .map(token -> DSL.max(DSL.when(TOKEN.like(token + "%"), DSL.inline(1)).otherwise(DSL.inline(0))).eq(1))
+            .toList();
+
+        return Optional.of(DSL
+            .select(FLOW_KEY.as("match_key"), DSL.sum(OCCURRENCES).as("score"))
+            .from(this.table)
+            .where(tenantId == null ? TENANT_ID.isNull() : TENANT_ID.eq(tenantId))
+            .and(DSL.or(tokens.stream().map(token -> TOKEN.like(token + "%")).toList()))
+            .groupBy(FLOW_KEY)
+            .having(DSL.and(allMatched))
+            .asTable("matches")
+        );
+    }
+
+    private void insert(DSLContext context, String flowUid, String flowKey, String tenantId, String source) {
+        Map<String, Integer> tokens = tokens(source);
+        if (tokens.isEmpty()) {
+            return;
+        }
+
+        InsertValuesStep5<Record, String, String, String, String, Integer> insert = context
+            .insertInto(this.table, FLOW_UID, FLOW_KEY, TENANT_ID, TOKEN, OCCURRENCES);
+        tokens.forEach((token, occurrences) -> insert.values(flowUid, flowKey, tenantId, token, occurrences));
+
+        insert.execute();
+    }
+
+    static Map<String, Integer> tokens(String text) {
+        Map<String, Integer> tokens = new LinkedHashMap<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        for (String token : SEPARATORS.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.merge(StringUtils.left(token, MAX_TOKEN_LENGTH), 1, Integer::sum);
+            }
+        }
+
+        return tokens;
+    }
+}
@@ -0,0 +1,58 @@
+package io.kestra.jdbc.repository;
+
+import io.kestra.core.models.Setting;
+import io.kestra.core.repositories.SettingRepositoryInterface;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Index the source of the flows saved before the source index existed.
+ * <p>
+ * It runs once in background after the startup, outside of the searches, and is recorded in the settings when done
+ * so the next startups and the other instances skip it.
+ */
+@Singleton
+@Slf4j
+@Requires(beans = {AbstractJdbcFlowRepository.class, SettingRepositoryInterface.class})
+public class JdbcFlowSourceIndexBackfill {
+    public static final String BACKFILLED_SETTING = "flow.source-index.backfilled";
+
+    private final AbstractJdbcFlowRepository flowRepository;
+    private final SettingRepositoryInterface settingRepository;
+
+    @Value("${kestra.jdbc.flow-source-index.backfill-batch-size:100}")
+    private int batchSize;
+
+    @Inject
+    public JdbcFlowSourceIndexBackfill(AbstractJdbcFlowRepository flowRepository, SettingRepositoryInterface settingRepository) {
+        this.flowRepository = flowRepository;
+        this.settingRepository = settingRepository;
+    }
+
+    @Scheduled(initialDelay = "${kestra.jdbc.flow-source-index.backfill-delay:30s}")
+    public void backfill() {
+        if (settingRepository.findByKey(BACKFILLED_SETTING).isPresent()) {
+            return;
+        }
+
+        try {
+            long start = System.currentTimeMillis();
+            int indexed = flowRepository.indexMissingSources(batchSize);
+
+            settingRepository.save(Setting.builder()
+                .key(BACKFILLED_SETTING)
+                .value(true)
+                .build()
+            );
+
+            log.info("Indexed the source of {} flows in {}ms", indexed, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            // another instance may be indexing the same flows, the next startup will index the remaining ones
+            log.warn("Unable to index the source of the flows", e);
+        }
+    }
+}
@@ -2,14 +2,15 @@ package io.kestra.jdbc.runner;
 
 import io.kestra.core.runners.ExecutionDelay;
 import io.kestra.jdbc.repository.AbstractJdbcRepository;
+import org.jooq.DSLContext;
 import org.jooq.Field;
 import org.jooq.Record1;
-import org.jooq.SelectConditionStep;
+import org.jooq.Select;
 import org.jooq.impl.DSL;
 
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Map;
-import java.util.function.Consumer;
 
 public abstract class AbstractJdbcExecutionDelayStorage extends AbstractJdbcRepository {
     protected io.kestra.jdbc.AbstractJdbcRepository<ExecutionDelay> jdbcRepository;
@@ -18,28 +19,43 @@ public abstract class AbstractJdbcExecutionDelayStorage extends AbstractJdbcRepo
         this.jdbcRepository = jdbcRepository;
     }
 
-    public void get(Consumer<ExecutionDelay> consumer) {
+    /**
+     * Read at most <code>batchSize</code> due delays, oldest first.
+     * <p>
+     * The delays are not locked: each one must be deleted with {@link #delete(DSLContext, ExecutionDelay)}
+     * in the transaction that processes it.
+     */
+    public List<ExecutionDelay> due(int batchSize) {
         ZonedDateTime now = ZonedDateTime.now();
 
-        this.jdbcRepository
+        return this.jdbcRepository
             .getDslContextWrapper()
-            .transaction(configuration -> {
-                SelectConditionStep<Record1<Object>> select = DSL
+            .transactionResult(configuration -> {
+                Select<Record1<Object>> select = DSL
                     .using(configuration)
                     .select(AbstractJdbcRepository.field("value"))
                     .from(this.jdbcRepository.getTable())
-                    .where(
-                        AbstractJdbcRepository.field("date").lessOrEqual(now.toOffsetDateTime())
-                    );
-
-                this.jdbcRepository.fetch(select)
-                    .forEach(executionDelay -> {
-                        consumer.accept(executionDelay);
-                        jdbcRepository.delete(executionDelay);
-                    });
+                    .where(AbstractJdbcRepository.field("date").lessOrEqual(now.toOffsetDateTime()))
+                    .orderBy(AbstractJdbcRepository.field("date").asc())
+                    .limit(batchSize);
+
+                return this.jdbcRepository.fetch(select);
             });
     }
 
+    /**
+     * Delete a delay inside an existing transaction, so it is only deleted if its processing is committed.
+     *
+     * @return false if the delay doesn't exist anymore, for example because another executor already processed it.
+     */
+    public boolean delete(DSLContext context, ExecutionDelay executionDelay) {
+        return this.jdbcRepository.delete(context, executionDelay) > 0;
+    }
+
+    public void delete(ExecutionDelay executionDelay) {
+        this.jdbcRepository.delete(executionDelay);
+    }
+
     public void save(ExecutionDelay executionDelay) {
         Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(executionDelay);
         this.jdbcRepository.persist(executionDelay, fields);
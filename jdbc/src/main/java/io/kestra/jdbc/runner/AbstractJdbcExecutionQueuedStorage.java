@@ -3,6 +3,7 @@ package io.kestra.jdbc.runner;
 import io.kestra.core.models.executions.Execution;
 import io.kestra.core.runners.ExecutionQueued;
 import io.kestra.jdbc.repository.AbstractJdbcRepository;
+import org.jooq.DSLContext;
 import org.jooq.Field;
 import org.jooq.impl.DSL;
 
@@ -26,25 +27,35 @@ public abstract class AbstractJdbcExecutionQueuedStorage extends AbstractJdbcRep
     public void pop(String tenantId, String namespace, String flowId, Consumer<Execution> consumer) {
         this.jdbcRepository
             .getDslContextWrapper()
-            .transaction(configuration -> {
-                var select = DSL
-                    .using(configuration)
-                    .select(AbstractJdbcRepository.field("value"))
-                    .from(this.jdbcRepository.getTable())
-                    .where(buildTenantCondition(tenantId))
-                    .and(field("namespace").eq(namespace))
-                    .and(field("flow_id").eq(flowId))
-                    .orderBy(field("date").asc())
-                    .limit(1)
-                    .forUpdate()
-                    .skipLocked();
+            .transaction(configuration -> this.pop(DSL.using(configuration), tenantId, namespace, flowId, consumer));
+    }
 
-                Optional<ExecutionQueued> maybeExecution = this.jdbcRepository.fetchOne(select);
-                if (maybeExecution.isPresent()) {
-                    consumer.accept(maybeExecution.get().getExecution());
-                    this.jdbcRepository.delete(maybeExecution.get());
-                }
-            });
+    /**
+     * Pop the oldest queued execution of the flow inside an existing transaction.
+     *
+     * @return whether a queued execution was popped
+     */
+    public boolean pop(DSLContext context, String tenantId, String namespace, String flowId, Consumer<Execution> consumer) {
+        var select = context
+            .select(AbstractJdbcRepository.field("value"))
+            .from(this.jdbcRepository.getTable())
+            .where(buildTenantCondition(tenantId))
+            .and(field("namespace").eq(namespace))
+            .and(field("flow_id").eq(flowId))
+            .orderBy(field("date").asc())
+            .limit(1)
+            .forUpdate()
+            .skipLocked();
+
+        Optional<ExecutionQueued> maybeExecution = this.jdbcRepository.fetchOne(select);
+        if (maybeExecution.isEmpty()) {
+            return false;
+        }
+
+        consumer.accept(maybeExecution.get().getExecution());
+        this.jdbcRepository.delete(context, maybeExecution.get());
+
+        return true;
     }
 
     /**
@@ -7,11 +7,13 @@ import io.kestra.jdbc.repository.AbstractJdbcRepository;
 import org.jooq.DSLContext;
 import org.jooq.Field;
 import org.jooq.Record1;
+import org.jooq.SelectForUpdateOfStep;
 import org.jooq.SelectConditionStep;
 import org.jooq.impl.DSL;
 
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -62,21 +64,61 @@ public abstract class AbstractJdbcMultipleConditionStorage extends AbstractJdbcR
             });
     }
 
+    /**
+     * Each window is upserted under its own row lock: the stored results are merged with the new ones,
+     * so executor threads evaluating the same window concurrently don't lose each other's results.
+     */
     @Override
-    public synchronized void save(List<MultipleConditionWindow> multipleConditionWindows) {
+    public void save(List<MultipleConditionWindow> multipleConditionWindows) {
         this.jdbcRepository
             .getDslContextWrapper()
             .transaction(configuration -> {
                 DSLContext context = DSL.using(configuration);
 
                 multipleConditionWindows
+                    .stream()
+                    // always lock rows in the same order to avoid deadlocks between concurrent saves
+                    .sorted(Comparator.comparing(MultipleConditionWindow::uid))
                     .forEach(window -> {
-                        Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(window);
-                        this.jdbcRepository.persist(window, context, fields);
+                        String key = this.jdbcRepository.key(window);
+
+                        context
+                            .insertInto(this.jdbcRepository.getTable())
+                            .set(field("key"), key)
+                            .set(this.jdbcRepository.persistFields(window))
+                            .onDuplicateKeyIgnore()
+                            .execute();
+
+                        SelectForUpdateOfStep<Record1<Object>> select = context
+                            .select(field("value"))
+                            .from(this.jdbcRepository.getTable())
+                            .where(field("key").eq(key))
+                            .forUpdate();
+
+                        // a stored window with another start is a previous window, it's replaced
+                        MultipleConditionWindow merged = this.jdbcRepository.fetchOne(select)
+                            .filter(current -> current.getStart().toInstant().equals(window.getStart().toInstant()))
+                            .map(current -> window.with(current.getResults() == null ? Map.of() : current.getResults()))
+                            .orElse(window);
+
+                        Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(merged);
+                        this.jdbcRepository.persist(merged, context, fields);
                     });
             });
     }
 
+    @Override
+    public void deleteExpired() {
+        this.jdbcRepository
+            .getDslContextWrapper()
+            .transaction(configuration -> DSL
+                .using(configuration)
+                .delete(this.jdbcRepository.getTable())
+                .where(field("end_date").lt(Timestamp.from(Instant.now())))
+                .execute()
+            );
+    }
+
     @Override
     public void delete(MultipleConditionWindow multipleConditionWindow) {
         this.jdbcRepository.delete(multipleConditionWindow);
@@ -7,13 +7,33 @@ import org.jooq.DSLContext;
 import org.jooq.Field;
 import org.jooq.impl.DSL;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 
+/**
+ * SLA monitors are persisted and also kept in memory ordered by deadline,
+ * so expired monitors are found without querying the database.
+ * <p>
+ * The in-memory monitors are fed by {@link #save(SLAMonitor)} and {@link #purge(String)}, and by {@link #load(Instant)}
+ * for the monitors saved by other executors or before a restart that are due soon. They are indexed by execution
+ * so a purge only touches the monitors of its execution.
+ * The database is only touched when a monitor expires: it's deleted, and processed only if it still existed,
+ * so a monitor known by several executors is processed once.
+ */
 public abstract class AbstractJdbcSLAMonitorStorage extends AbstractJdbcRepository implements SLAMonitorStorage {
     protected io.kestra.jdbc.AbstractJdbcRepository<SLAMonitor> jdbcRepository;
 
+    // all guarded by the lock
+    private final NavigableSet<SLAMonitor> deadlines = new TreeSet<>(Comparator.comparing(SLAMonitor::getDeadline).thenComparing(SLAMonitor::uid));
+    private final Map<String, Map<String, SLAMonitor>> executions = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+
     protected AbstractJdbcSLAMonitorStorage(io.kestra.jdbc.AbstractJdbcRepository<SLAMonitor> jdbcRepository) {
         this.jdbcRepository = jdbcRepository;
     }
@@ -27,6 +47,8 @@ public abstract class AbstractJdbcSLAMonitorStorage extends AbstractJdbcReposito
                 Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(slaMonitor);
                 this.jdbcRepository.persist(slaMonitor, context, fields);
             });
+
+        this.track(slaMonitor);
     }
 
     @Override
@@ -39,23 +61,123 @@ public abstract class AbstractJdbcSLAMonitorStorage extends AbstractJdbcReposito
                     .where(field("execution_id").eq(executionId))
                     .execute();
             });
+
+        lock.lock();
+        try {
+            Map<String, SLAMonitor> monitors = this.executions.remove(executionId);
+            if (monitors != null) {
+                monitors.values().forEach(this.deadlines::remove);
+            }
+        } finally {
+            lock.unlock();
+        }
     }
 
-    @Override
-    public void processExpired(Instant date, Consumer<SLAMonitor> consumer) {
+    /**
+     * Track the persisted monitors whose deadline is before <code>until</code>,
+     * the later ones are loaded by a next call when they are due soon.
+     */
+    public void load(Instant until) {
         this.jdbcRepository
             .getDslContextWrapper()
-            .transaction(configuration -> {
-                DSLContext context = DSL.using(configuration);
-                var select = context.select()
-                    .from(this.jdbcRepository.getTable())
-                    .where(field("deadline").lt(date));
-
-                this.jdbcRepository.fetch(select)
-                    .forEach(slaMonitor -> {
-                        consumer.accept(slaMonitor);
-                        jdbcRepository.delete(slaMonitor);
-                    });
-            });
+            .transactionResult(configuration -> this.jdbcRepository.fetch(DSL
+                .using(configuration)
+                .select(field("value"))
+                .from(this.jdbcRepository.getTable())
+                .where(field("deadline").lt(until))
+            ))
+            .forEach(this::track);
+    }
+
+    /**
+     * Wait until the earliest deadline is reached, a nearer deadline is saved, or the <code>maxWait</code> elapsed.
+     */
+    public void awaitDeadline(Duration maxWait) throws InterruptedException {
+        lock.lock();
+        try {
+            Instant until = Instant.now().plus(maxWait);
+            if (!deadlines.isEmpty() && deadlines.first().getDeadline().isBefore(until)) {
+                until = deadlines.first().getDeadline();
+            }
+
+            long nanos = Duration.between(Instant.now(), until).toNanos();
+            if (nanos > 0) {
+                changed.await(nanos, TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void processExpired(Instant date, Consumer<SLAMonitor> consumer) {
+        SLAMonitor slaMonitor;
+        while ((slaMonitor = this.pollExpired(date)) != null) {
+            SLAMonitor expired = slaMonitor;
+
+            this.jdbcRepository
+                .getDslContextWrapper()
+                .transaction(configuration -> {
+                    // another executor may already have processed it
+                    if (this.jdbcRepository.delete(DSL.using(configuration), expired) > 0) {
+                        consumer.accept(expired);
+                    }
+                });
+        }
+    }
+
+    /**
+     * The number of monitors kept in memory.
+     */
+    int size() {
+        lock.lock();
+        try {
+            return this.deadlines.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void track(SLAMonitor slaMonitor) {
+        lock.lock();
+        try {
+            SLAMonitor previous = this.executions
+                .computeIfAbsent(slaMonitor.getExecutionId(), k -> new HashMap<>())
+                .put(slaMonitor.uid(), slaMonitor);
+
+            // a monitor saved again replaces the previous one, which may have another deadline
+            if (previous != null) {
+                this.deadlines.remove(previous);
+            }
+            this.deadlines.add(slaMonitor);
+
+            if (this.deadlines.first() == slaMonitor) {
+                changed.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private SLAMonitor pollExpired(Instant date) {
+        lock.lock();
+        try {
+            if (deadlines.isEmpty() || !deadlines.first().getDeadline().isBefore(date)) {
+                return null;
+            }
+
+            SLAMonitor slaMonitor = deadlines.pollFirst();
+            Map<String, SLAMonitor> monitors = this.executions.get(slaMonitor.getExecutionId());
+            if (monitors != null) {
+                monitors.remove(slaMonitor.uid());
+                if (monitors.isEmpty()) {
+                    this.executions.remove(slaMonitor.getExecutionId());
+                }
+            }
+
+            return slaMonitor;
+        } finally {
+            lock.unlock();
+        }
     }
 }
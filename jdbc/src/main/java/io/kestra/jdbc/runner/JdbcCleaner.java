@@ -4,6 +4,7 @@ import io.kestra.core.utils.ListUtils;
 import io.kestra.jdbc.JdbcTableConfig;
 import io.kestra.jdbc.JooqDSLContextWrapper;
 import io.kestra.jdbc.repository.AbstractJdbcRepository;
+import io.kestra.jdbc.services.JdbcChunkedDeleteService;
 import io.micronaut.context.annotation.ConfigurationProperties;
 import io.micronaut.context.annotation.EachProperty;
 import io.micronaut.context.annotation.Requires;
@@ -29,17 +30,23 @@ public class JdbcCleaner {
     private final JooqDSLContextWrapper dslContextWrapper;
     private final Configuration configuration;
     private final JdbcCleanerService jdbcCleanerService;
+    private final JdbcPartitionConfiguration partitionConfiguration;
+    private final JdbcChunkedDeleteService jdbcChunkedDeleteService;
     private final Table<Record> queueTable;
 
     @Inject
     public JdbcCleaner(@Named("queues") JdbcTableConfig jdbcTableConfig,
                        JooqDSLContextWrapper dslContextWrapper,
                        Configuration configuration,
-                       JdbcCleanerService jdbcCleanerService
+                       JdbcCleanerService jdbcCleanerService,
+                       JdbcPartitionConfiguration partitionConfiguration,
+                       JdbcChunkedDeleteService jdbcChunkedDeleteService
     ) {
         this.dslContextWrapper = dslContextWrapper;
         this.configuration = configuration;
         this.jdbcCleanerService = jdbcCleanerService;
+        this.partitionConfiguration = partitionConfiguration;
+        this.jdbcChunkedDeleteService = jdbcChunkedDeleteService;
 
         this.queueTable = DSL.table(jdbcTableConfig.table());
     }
@@ -47,29 +54,29 @@ public class JdbcCleaner {
     public void deleteQueue() {
         // first, delete types that are configured more specifically
         ListUtils.emptyOnNull(configuration.getTypes()).forEach(type -> {
-            dslContextWrapper.transaction(configuration -> {
-                int deleted = DSL
-                    .using(configuration)
-                    .delete(this.queueTable)
-                    .where(AbstractJdbcRepository.field("updated").lessOrEqual(ZonedDateTime.now().minus(type.getRetention()).toOffsetDateTime()))
+            int deleted = jdbcChunkedDeleteService.delete(
+                dslContextWrapper,
+                this.queueTable,
+                AbstractJdbcRepository.field("offset"),
+                AbstractJdbcRepository.field("updated").lessOrEqual(ZonedDateTime.now().minus(type.getRetention()).toOffsetDateTime())
                     .and(jdbcCleanerService.buildTypeCondition(type.getType()))
-                    .execute();
-                log.info("Cleaned {} records from {} for type {}", deleted, this.queueTable.getName(), type.getType());
-            });
+            );
+            log.info("Cleaned {} records from {} for type {}", deleted, this.queueTable.getName(), type.getType());
         });
 
-        // then, delete all other records
-        dslContextWrapper.transaction(configuration -> {
-            int deleted = DSL
-                .using(configuration)
-                .delete(this.queueTable)
-                .where(
-                    AbstractJdbcRepository.field("updated")
-                        .lessOrEqual(ZonedDateTime.now().minus(this.configuration.getRetention()).toOffsetDateTime())
-                )
-                .execute();
-            log.info("Cleaned {} records from {}", deleted, this.queueTable.getName());
-        });
+        // then, delete all other records, partitioned queues are cleaned by dropping partitions in the JdbcPartitionManager
+        if (partitionConfiguration.isPartitioned("queues")) {
+            return;
+        }
+
+        int deleted = jdbcChunkedDeleteService.delete(
+            dslContextWrapper,
+            this.queueTable,
+            AbstractJdbcRepository.field("offset"),
+            AbstractJdbcRepository.field("updated")
+                .lessOrEqual(ZonedDateTime.now().minus(this.configuration.getRetention()).toOffsetDateTime())
+        );
+        log.info("Cleaned {} records from {}", deleted, this.queueTable.getName());
     }
 
     @Scheduled(initialDelay = "${kestra.jdbc.cleaner.initial-delay}", fixedDelay = "${kestra.jdbc.cleaner.fixed-delay}")
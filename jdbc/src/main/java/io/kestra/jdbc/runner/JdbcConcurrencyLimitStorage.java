@@ -0,0 +1,142 @@
+package io.kestra.jdbc.runner;
+
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.flows.State;
+import io.kestra.jdbc.JdbcTableConfig;
+import io.kestra.jdbc.JooqDSLContextWrapper;
+import io.kestra.jdbc.repository.AbstractJdbcExecutionRepository;
+import io.kestra.jdbc.repository.AbstractJdbcRepository;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Per-flow counters of the executions holding a concurrency slot.
+ * <p>
+ * A slot is taken when an execution is admitted and released when it terminates, both in the transaction that changes
+ * the execution state. Admission locks the flow counter row instead of counting the executions table.
+ * {@link #repair(List)} realigns the counters with the executions table to recover slots that leaked,
+ * for example an execution deleted while running.
+ */
+@Singleton
+@JdbcRunnerEnabled
+@Slf4j
+public class JdbcConcurrencyLimitStorage {
+    private static final Field<Object> KEY = AbstractJdbcRepository.field("key");
+    private static final Field<Object> TENANT_ID = AbstractJdbcRepository.field("tenant_id");
+    private static final Field<Object> NAMESPACE = AbstractJdbcRepository.field("namespace");
+    private static final Field<Object> FLOW_ID = AbstractJdbcRepository.field("flow_id");
+    private static final Field<Integer> RUNNING = AbstractJdbcRepository.field("running", Integer.class);
+
+    // executions holding a slot: everything started that is not yet terminated
+    private static final List<State.Type> SLOT_STATES = Arrays.stream(State.Type.values())
+        .filter(type -> !type.isTerminated() && type != State.Type.CREATED && type != State.Type.QUEUED)
+        .toList();
+
+    private final JooqDSLContextWrapper dslContextWrapper;
+    private final AbstractJdbcExecutionRepository executionRepository;
+    private final Table<Record> table;
+
+    public JdbcConcurrencyLimitStorage(
+        @Named("concurrencylimit") JdbcTableConfig jdbcTableConfig,
+        JooqDSLContextWrapper dslContextWrapper,
+        AbstractJdbcExecutionRepository executionRepository
+    ) {
+        this.dslContextWrapper = dslContextWrapper;
+        this.executionRepository = executionRepository;
+        this.table = DSL.table(jdbcTableConfig.table());
+    }
+
+    /**
+     * Take a slot for the flow if it's under its concurrency limit.
+     *
+     * @return the number of running executions before this one, the slot is only taken if it was under the limit.
+     */
+    public int acquire(DSLContext context, Flow flow) {
+        int running = this.lock(context, flow);
+
+        if (running < flow.getConcurrency().getLimit()) {
+            this.update(context, flow, running + 1);
+        }
+
+        return running;
+    }
+
+    /**
+     * Take a slot for the flow whatever its limit, used when a terminated execution is restarted.
+     */
+    public void forceAcquire(DSLContext context, Flow flow) {
+        this.update(context, flow, this.lock(context, flow) + 1);
+    }
+
+    /**
+     * Release a slot of the flow.
+     */
+    public void release(DSLContext context, Flow flow) {
+        int running = this.lock(context, flow);
+
+        if (running > 0) {
+            this.update(context, flow, running - 1);
+        }
+    }
+
+    /**
+     * Realign the counter of each flow having a concurrency limit with the number of its executions holding a slot,
+     * creating the missing counters, for example for the executions started before the counters existed.
+     * The counter row is locked while counting so admissions and releases of the flow wait for it.
+     */
+    public void repair(List<? extends Flow> flows) {
+        flows.stream()
+            .filter(flow -> flow.getConcurrency() != null && !flow.isDeleted())
+            .forEach(flow -> dslContextWrapper.transaction(configuration -> {
+                DSLContext context = DSL.using(configuration);
+                int running = this.lock(context, flow);
+
+                long count = executionRepository.count(context, flow.getTenantId(), flow.getNamespace(), flow.getId(), SLOT_STATES);
+                if (count != running) {
+                    log.warn("Repairing the concurrency counter of flow '{}' from {} to {} running execution(s)", flow.uidWithoutRevision(), running, count);
+
+                    this.update(context, flow, (int) count);
+                }
+            }));
+    }
+
+    private int lock(DSLContext context, Flow flow) {
+        String key = flow.uidWithoutRevision();
+
+        context
+            .insertInto(this.table)
+            .set(KEY, key)
+            .set(TENANT_ID, flow.getTenantId())
+            .set(NAMESPACE, flow.getNamespace())
+            .set(FLOW_ID, flow.getId())
+            .set(RUNNING, 0)
+            .onDuplicateKeyIgnore()
+            .execute();
+
+        Integer running = context
+            .select(RUNNING)
+            .from(this.table)
+            .where(KEY.eq(key))
+            .forUpdate()
+            .fetchOne(RUNNING);
+
+        return running == null ? 0 : running;
+    }
+
+    private void update(DSLContext context, Flow flow, int running) {
+        context
+            .update(this.table)
+            .set(RUNNING, running)
+            .where(KEY.eq(flow.uidWithoutRevision()))
+            .execute();
+    }
+}
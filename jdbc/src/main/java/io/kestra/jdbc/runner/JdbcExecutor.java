@@ -7,7 +7,6 @@ import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.exceptions.InternalException;
 import io.kestra.core.metrics.MetricRegistry;
 import io.kestra.core.models.executions.*;
-import io.kestra.core.models.executions.statistics.ExecutionCount;
 import io.kestra.core.models.flows.Flow;
 import io.kestra.core.models.flows.*;
 import io.kestra.core.models.flows.sla.*;
@@ -59,6 +58,7 @@ import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
@@ -71,8 +71,12 @@ import static io.kestra.core.utils.Rethrow.throwConsumer;
 public class JdbcExecutor implements ExecutorInterface, Service {
     private static final ObjectMapper MAPPER = JdbcMapper.of();
 
+    private static final Duration SLA_MONITOR_MAX_WAIT = Duration.ofSeconds(1);
+
     private final ScheduledExecutorService scheduledDelay = Executors.newSingleThreadScheduledExecutor();
 
+    private final java.util.concurrent.ExecutorService scheduledSLAMonitor = Executors.newSingleThreadExecutor();
+
     @Inject
     private AbstractJdbcExecutionRepository executionRepository;
 
@@ -151,11 +155,16 @@ public class JdbcExecutor implements ExecutorInterface, Service {
     @Inject
     private AbstractJdbcExecutorStateStorage executorStateStorage;
 
+    @Inject
+    private JdbcConcurrencyLimitStorage concurrencyLimitStorage;
+
     @Inject
     private FlowTopologyService flowTopologyService;
 
     protected List<FlowWithSource> allFlows;
 
+    private volatile FlowCatalog flowCatalog = FlowCatalog.EMPTY;
+
     @Inject
     private WorkerGroupService workerGroupService;
 
@@ -169,7 +178,7 @@ public class JdbcExecutor implements ExecutorInterface, Service {
     private LogService logService;
 
     @Inject
-    private SLAMonitorStorage slaMonitorStorage;
+    private AbstractJdbcSLAMonitorStorage slaMonitorStorage;
 
     @Inject
     private SLAService slaService;
@@ -177,6 +186,20 @@ public class JdbcExecutor implements ExecutorInterface, Service {
     @Value("${kestra.jdbc.executor.thread-count:0}")
     private int threadCount;
 
+    @Value("${kestra.jdbc.executor.concurrency-repair-interval:5m}")
+    private Duration concurrencyRepairInterval;
+
+    @Value("${kestra.jdbc.executor.sla-monitor-refresh-interval:1m}")
+    private Duration slaMonitorRefreshInterval;
+
+    @Value("${kestra.jdbc.executor.delay-batch-size:100}")
+    private int delayBatchSize;
+
+    private java.util.concurrent.ExecutorService delayDispatcher;
+
+    // age in milliseconds of the oldest due execution delay claimed on the last run
+    private final AtomicLong executionDelayLag = new AtomicLong();
+
     private final Tracer tracer;
 
     private final FlowRepositoryInterface flowRepository;
@@ -228,10 +251,16 @@ public class JdbcExecutor implements ExecutorInterface, Service {
             serviceLivenessCoordinator.setExecutor(this);
         }
         flowListeners.run();
-        flowListeners.listen(flows -> this.allFlows = flows);
+        flowListeners.listen(flows -> {
+            this.flowCatalog = flowListeners.catalog();
+            this.allFlows = flows;
+        });
 
         Await.until(() -> this.allFlows != null, Duration.ofMillis(100), Duration.ofMinutes(5));
 
+        // realign the concurrency counters before admitting executions, they may be missing or stale after an upgrade or a crash
+        this.concurrencyLimitRepair();
+
         // By default, we start half-available processors consumers of the execution and worker task result queue with a minimum of two.
         // Other queues would not benefit from more consumers.
         int numberOfThreads = threadCount != 0 ? threadCount : Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
@@ -244,6 +273,10 @@ public class JdbcExecutor implements ExecutorInterface, Service {
         this.receiveCancellations.addFirst(this.subflowExecutionEndQueue.receive(Executor.class, this::subflowExecutionEndQueue));
         this.clusterEventQueue.ifPresent(clusterEventQueueInterface -> this.receiveCancellations.addFirst(clusterEventQueueInterface.receive(this::clusterEventQueue)));
 
+        // due execution delays are claimed in batches by the scheduledDelay thread and dispatched on as many threads as the execution queue consumers
+        this.delayDispatcher = Executors.newFixedThreadPool(numberOfThreads);
+        metricRegistry.gauge(MetricRegistry.EXECUTOR_EXECUTION_DELAY_LAG, executionDelayLag);
+
         ScheduledFuture<?> scheduledDelayFuture = scheduledDelay.scheduleAtFixedRate(
             this::executionDelaySend,
             0,
@@ -251,10 +284,43 @@ public class JdbcExecutor implements ExecutorInterface, Service {
             TimeUnit.SECONDS
         );
 
-        ScheduledFuture<?> scheduledSLAMonitorFuture = scheduledDelay.scheduleAtFixedRate(
-            this::executionSLAMonitor,
+        // SLA monitors are fired at their deadline from memory, refreshed periodically from the storage
+        // to also know the monitors created by other executors that are due before the next refreshes
+        slaMonitorStorage.load(Instant.now().plus(slaMonitorRefreshInterval.multipliedBy(2)));
+        Future<?> scheduledSLAMonitorFuture = scheduledSLAMonitor.submit(() -> {
+            while (!this.shutdown.get()) {
+                try {
+                    if (this.isPaused.get()) {
+                        Thread.sleep(SLA_MONITOR_MAX_WAIT);
+                    } else {
+                        slaMonitorStorage.awaitDeadline(SLA_MONITOR_MAX_WAIT);
+                        this.executionSLAMonitor();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        });
+
+        scheduledDelay.scheduleAtFixedRate(
+            this::slaMonitorRefresh,
+            slaMonitorRefreshInterval.toSeconds(),
+            slaMonitorRefreshInterval.toSeconds(),
+            TimeUnit.SECONDS
+        );
+
+        scheduledDelay.scheduleAtFixedRate(
+            this::multipleConditionSweep,
             0,
             1,
+            TimeUnit.MINUTES
+        );
+
+        scheduledDelay.scheduleAtFixedRate(
+            this::concurrencyLimitRepair,
+            concurrencyRepairInterval.toSeconds(),
+            concurrencyRepairInterval.toSeconds(),
             TimeUnit.SECONDS
         );
 
@@ -318,7 +384,7 @@ public class JdbcExecutor implements ExecutorInterface, Service {
                             flowTopologyService
                                 .topology(
                                     flow,
-                                    this.allFlows.stream().filter(f -> Objects.equals(f.getTenantId(), flow.getTenantId())).toList()
+                                    this.flowCatalog.flows(flow.getTenantId())
                                 )
                         )
                             .distinct()
@@ -441,7 +507,7 @@ public class JdbcExecutor implements ExecutorInterface, Service {
             return;
         }
 
-        Executor result = executionRepository.lock(message.getId(), pair -> {
+        Executor result = executionRepository.lock(message.getId(), (context, pair) -> {
             Execution execution = pair.getLeft();
             ExecutorState executorState = pair.getRight();
 
@@ -486,16 +552,14 @@ public class JdbcExecutor implements ExecutorInterface, Service {
 
                         // queue execution if needed (limit concurrency)
                         if (execution.getState().getCurrent() == State.Type.CREATED && flow.getConcurrency() != null) {
-                            ExecutionCount count = executionRepository.executionCounts(
-                                flow.getTenantId(),
-                                List.of(new io.kestra.core.models.executions.statistics.Flow(flow.getNamespace(), flow.getId())),
-                                List.of(State.Type.RUNNING, State.Type.PAUSED),
-                                null,
-                                null,
-                                null
-                            ).getFirst();
+                            // take a slot on the flow counter, locked until the execution lock transaction ends
+                            int running = concurrencyLimitStorage.acquire(context, flow);
+                            // a queued execution doesn't record a slot, it's handed one over when it's popped
+                            if (running < flow.getConcurrency().getLimit()) {
+                                executorState.setConcurrencySlot(true);
+                            }
 
-                            executor = executorService.checkConcurrencyLimit(executor, flow, execution, count.getCount());
+                            executor = executorService.checkConcurrencyLimit(executor, flow, execution, running);
 
                             // the execution has been queued, we save the queued execution and stops here
                             if (executor.getExecutionRunning() != null && executor.getExecutionRunning().getConcurrencyState() == ExecutionRunning.ConcurrencyState.QUEUED) {
@@ -515,10 +579,24 @@ public class JdbcExecutor implements ExecutorInterface, Service {
                             }
                         }
 
+                        if (flow.getConcurrency() != null) {
+                            // a restarted execution released its slot when it terminated, it takes it back whatever the limit
+                            if (execution.getState().getCurrent() == State.Type.RESTARTED && !Boolean.TRUE.equals(executorState.getConcurrencySlot())) {
+                                concurrencyLimitStorage.forceAcquire(context, flow);
+                                executorState.setConcurrencySlot(true);
+                            }
+
+                            // an execution handed over a slot by a terminated one, or started before its slot was tracked
+                            if (executorState.getConcurrencySlot() == null && hasRunState(execution)) {
+                                executorState.setConcurrencySlot(true);
+                            }
+                        }
+
                         // handle execution changed SLA
                         executor = executorService.handleExecutionChangedSLA(executor);
 
-                        // process the execution
+                        // process the execution, only re-evaluating the flowable taskruns whose children changed since the previous pass
+                        executor.withChangedTaskRunIds(executorState.changedTaskRunIds(executor.getExecution()));
                         if (log.isDebugEnabled()) {
                             executorService.log(log, true, executor);
                         }
@@ -595,6 +673,23 @@ public class JdbcExecutor implements ExecutorInterface, Service {
                                 }));
                         }
 
+                        // release the concurrency slot held by the execution in the transaction that terminates it,
+                        // handing it over to the next queued execution if any
+                        if (flow.getConcurrency() != null && Boolean.TRUE.equals(executorState.getConcurrencySlot()) && conditionService.isTerminatedWithListeners(flow, executor.getExecution())) {
+                            boolean handedOver = flow.getConcurrency().getBehavior() == Concurrency.Behavior.QUEUE && executionQueuedStorage.pop(
+                                context,
+                                flow.getTenantId(),
+                                flow.getNamespace(),
+                                flow.getId(),
+                                throwConsumer(queued -> executionQueue.emit(queued.withState(State.Type.RUNNING)))
+                            );
+
+                            if (!handedOver) {
+                                concurrencyLimitStorage.release(context, flow);
+                            }
+                            executorState.setConcurrencySlot(false);
+                        }
+
                         return Pair.of(
                             executor,
                             executorState
@@ -977,7 +1072,7 @@ public class JdbcExecutor implements ExecutorInterface, Service {
             Execution execution = executor.getExecution();
             // handle flow triggers on state change
             if (!execution.getState().getCurrent().equals(executor.getOriginalState())) {
-                flowTriggerService.computeExecutionsFromFlowTriggers(execution, allFlows.stream().map(flow -> flow.toFlow()).toList(), Optional.of(multipleConditionStorage))
+                flowTriggerService.computeExecutionsFromFlowTriggers(execution, flowCatalog.withTrigger(io.kestra.plugin.core.trigger.Flow.class).stream().map(flow -> flow.toFlow()).toList(), Optional.of(multipleConditionStorage))
                     .forEach(throwConsumer(executionFromFlowTrigger -> this.executionQueue.emit(executionFromFlowTrigger)));
             }
 
@@ -1000,15 +1095,6 @@ public class JdbcExecutor implements ExecutorInterface, Service {
                     slaMonitorStorage.purge(executor.getExecution().getId());
                 }
 
-                // check if there exist a queued execution and submit it to the execution queue
-                if (executor.getFlow().getConcurrency() != null && executor.getFlow().getConcurrency().getBehavior() == Concurrency.Behavior.QUEUE) {
-                    executionQueuedStorage.pop(executor.getFlow().getTenantId(),
-                        executor.getFlow().getNamespace(),
-                        executor.getFlow().getId(),
-                        throwConsumer(queued -> executionQueue.emit(queued.withState(State.Type.RUNNING)))
-                    );
-                }
-
                 // Purge the workerTaskResultQueue and the workerJobQueue
                 // IMPORTANT: this is safe as only the executor is listening to WorkerTaskResult,
                 // and we are sure at this stage that all WorkerJob has been listened and processed by the Worker.
@@ -1053,6 +1139,49 @@ public class JdbcExecutor implements ExecutorInterface, Service {
         return pluginDefaultService.injectDefaults(flow, execution);
     }
 
+    private void slaMonitorRefresh() {
+        if (this.shutdown.get() || this.isPaused.get()) {
+            return;
+        }
+
+        // a failed refresh must not stop the scheduled job, the monitors will be loaded on the next run
+        try {
+            slaMonitorStorage.load(Instant.now().plus(slaMonitorRefreshInterval.multipliedBy(2)));
+        } catch (Exception e) {
+            log.warn("Unable to load the SLA monitors", e);
+        }
+    }
+
+    private void multipleConditionSweep() {
+        if (this.shutdown.get() || this.isPaused.get()) {
+            return;
+        }
+
+        // a failed sweep must not stop the scheduled job, expired windows are ignored until they are purged
+        try {
+            multipleConditionStorage.deleteExpired();
+        } catch (Exception e) {
+            log.warn("Unable to purge the expired multiple condition windows", e);
+        }
+    }
+
+    private void concurrencyLimitRepair() {
+        if (this.shutdown.get() || this.isPaused.get()) {
+            return;
+        }
+
+        // a failed repair must not stop the scheduled job, the counters will be repaired on the next run
+        try {
+            concurrencyLimitStorage.repair(this.allFlows);
+        } catch (Exception e) {
+            log.warn("Unable to repair the concurrency limit counters", e);
+        }
+    }
+
+    private static boolean hasRunState(Execution execution) {
+        return execution.getState().getHistories().stream().anyMatch(history -> history.getState() == State.Type.RUNNING);
+    }
+
     /**
      * ExecutionDelay is currently two types of execution:
      * <br/>
@@ -1065,61 +1194,104 @@ public class JdbcExecutor implements ExecutorInterface, Service {
             return;
         }
 
-        executionDelayStorage.get(executionDelay -> {
-            Executor result = executionRepository.lock(executionDelay.getExecutionId(), pair -> {
-                Executor executor = new Executor(pair.getLeft(), null);
-                Flow flow = flowRepository.findByExecution(pair.getLeft());
+        List<ExecutionDelay> executionDelays;
+        AtomicBoolean failed = new AtomicBoolean(false);
+        do {
+            executionDelays = executionDelayStorage.due(delayBatchSize);
+            if (executionDelays.isEmpty()) {
+                break;
+            }
 
-                try {
-                    // Handle paused tasks
-                    if (executionDelay.getDelayType().equals(ExecutionDelay.DelayType.RESUME_FLOW)) {
-                        if (executionDelay.getTaskRunId() == null) {
-                            // if taskRunId is null, this means we restart a flow that was delayed at startup (scheduled on)
-                            Execution markAsExecution = pair.getKey().withState(executionDelay.getState());
-                            executor = executor.withExecution(markAsExecution, "pausedRestart");
-                        } else {
-                            // if there is a taskRun it means we restart a paused task
-                            Execution markAsExecution = executionService.markAs(
-                                pair.getKey(),
-                                flow,
-                                executionDelay.getTaskRunId(),
-                                executionDelay.getState()
-                            );
+            // the age of the oldest delay still due when each batch is read
+            executionDelayLag.set(Math.max(0, Duration.between(executionDelays.getFirst().getDate(), Instant.now()).toMillis()));
 
-                            executor = executor.withExecution(markAsExecution, "pausedRestart");
+            // each delay is deleted in the transaction that processes it, so a failure only affects this delay
+            // which stays due and is processed again on the next run
+            CompletableFuture.allOf(
+                executionDelays.stream()
+                    .map(executionDelay -> CompletableFuture.runAsync(() -> {
+                        try {
+                            this.executionDelayProcess(executionDelay);
+                        } catch (Exception e) {
+                            log.warn("Unable to process the delay of execution '{}', it will be retried", executionDelay.getExecutionId(), e);
+                            failed.set(true);
                         }
-                    }
-                    // Handle failed tasks
-                    else if (executionDelay.getDelayType().equals(ExecutionDelay.DelayType.RESTART_FAILED_TASK)) {
-                        Execution newAttempt = executionService.retryTask(
+                    }, delayDispatcher))
+                    .toArray(CompletableFuture[]::new)
+            ).join();
+            // a failed delay is still due, so it waits for the next run instead of being read again by this one
+        } while (executionDelays.size() == delayBatchSize && !failed.get() && !this.shutdown.get());
+
+        executionDelayLag.set(0);
+    }
+
+    private void executionDelayProcess(ExecutionDelay executionDelay) {
+        AtomicBoolean locked = new AtomicBoolean(false);
+        Executor result = executionRepository.lock(executionDelay.getExecutionId(), (context, pair) -> {
+            locked.set(true);
+
+            // already processed by another executor
+            if (!executionDelayStorage.delete(context, executionDelay)) {
+                return null;
+            }
+
+            Executor executor = new Executor(pair.getLeft(), null);
+            Flow flow = flowRepository.findByExecution(pair.getLeft());
+
+            try {
+                // Handle paused tasks
+                if (executionDelay.getDelayType().equals(ExecutionDelay.DelayType.RESUME_FLOW)) {
+                    if (executionDelay.getTaskRunId() == null) {
+                        // if taskRunId is null, this means we restart a flow that was delayed at startup (scheduled on)
+                        Execution markAsExecution = pair.getKey().withState(executionDelay.getState());
+                        executor = executor.withExecution(markAsExecution, "pausedRestart");
+                    } else {
+                        // if there is a taskRun it means we restart a paused task
+                        Execution markAsExecution = executionService.markAs(
                             pair.getKey(),
-                            executionDelay.getTaskRunId()
+                            flow,
+                            executionDelay.getTaskRunId(),
+                            executionDelay.getState()
                         );
-                        executor = executor.withExecution(newAttempt, "retryFailedTask");
-                    }
-                    // Handle failed flow
-                    else if (executionDelay.getDelayType().equals(ExecutionDelay.DelayType.RESTART_FAILED_FLOW)) {
-                        Execution newExecution = executionService.replay(executor.getExecution(), null, null);
-                        executor = executor.withExecution(newExecution, "retryFailedFlow");
-                    }
-                    else if (executionDelay.getDelayType().equals(ExecutionDelay.DelayType.CONTINUE_FLOWABLE)) {
-                        Execution execution  = executionService.retryWaitFor(executor.getExecution(), executionDelay.getTaskRunId());
-                        executor = executor.withExecution(execution, "continueLoop");
+
+                        executor = executor.withExecution(markAsExecution, "pausedRestart");
                     }
-                } catch (Exception e) {
-                    executor = handleFailedExecutionFromExecutor(executor, e);
                 }
-
-                return Pair.of(
-                    executor,
-                    pair.getRight()
-                );
-            });
-
-            if (result != null) {
-                this.toExecution(result);
+                // Handle failed tasks
+                else if (executionDelay.getDelayType().equals(ExecutionDelay.DelayType.RESTART_FAILED_TASK)) {
+                    Execution newAttempt = executionService.retryTask(
+                        pair.getKey(),
+                        executionDelay.getTaskRunId()
+                    );
+                    executor = executor.withExecution(newAttempt, "retryFailedTask");
+                }
+                // Handle failed flow
+                else if (executionDelay.getDelayType().equals(ExecutionDelay.DelayType.RESTART_FAILED_FLOW)) {
+                    Execution newExecution = executionService.replay(executor.getExecution(), null, null);
+                    executor = executor.withExecution(newExecution, "retryFailedFlow");
+                }
+                else if (executionDelay.getDelayType().equals(ExecutionDelay.DelayType.CONTINUE_FLOWABLE)) {
+                    Execution execution  = executionService.retryWaitFor(executor.getExecution(), executionDelay.getTaskRunId());
+                    executor = executor.withExecution(execution, "continueLoop");
+                }
+            } catch (Exception e) {
+                executor = handleFailedExecutionFromExecutor(executor, e);
             }
+
+            return Pair.of(
+                executor,
+                pair.getRight()
+            );
         });
+
+        // the execution doesn't exist anymore
+        if (!locked.get()) {
+            executionDelayStorage.delete(executionDelay);
+        }
+
+        if (result != null) {
+            this.toExecution(result);
+        }
     }
 
     private void executionSLAMonitor() {
@@ -1244,6 +1416,10 @@ public class JdbcExecutor implements ExecutorInterface, Service {
             setState(ServiceState.TERMINATING);
             this.receiveCancellations.forEach(Runnable::run);
             scheduledDelay.shutdown();
+            scheduledSLAMonitor.shutdownNow();
+            if (delayDispatcher != null) {
+                delayDispatcher.shutdown();
+            }
             setState(ServiceState.TERMINATED_GRACEFULLY);
 
             if (log.isDebugEnabled()) {
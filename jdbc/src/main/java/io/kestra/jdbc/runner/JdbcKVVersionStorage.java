@@ -0,0 +1,109 @@
+package io.kestra.jdbc.runner;
+
+import com.google.common.hash.Hashing;
+import io.kestra.core.storages.kv.KVVersionStorage;
+import io.kestra.core.utils.Rethrow;
+import io.kestra.jdbc.JdbcTableConfig;
+import io.kestra.jdbc.JooqDSLContextWrapper;
+import io.kestra.jdbc.repository.AbstractJdbcRepository;
+import jakarta.annotation.Nullable;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Versions of the K/V entries, one row by key.
+ * <p>
+ * A write locks the row of its key, creating it if needed, and keeps it locked until the entry is written in the
+ * internal storage, like the admissions lock the counter row of {@link JdbcConcurrencyLimitStorage}.
+ * The rows are kept when an entry is deleted, so the version of a key never goes back.
+ */
+@Singleton
+@JdbcRepositoryEnabled
+public class JdbcKVVersionStorage implements KVVersionStorage {
+    private static final Field<Object> KEY = AbstractJdbcRepository.field("key");
+    private static final Field<Object> TENANT_ID = AbstractJdbcRepository.field("tenant_id");
+    private static final Field<Object> NAMESPACE = AbstractJdbcRepository.field("namespace");
+    private static final Field<Long> VERSION = AbstractJdbcRepository.field("version", Long.class);
+
+    private final JooqDSLContextWrapper dslContextWrapper;
+    private final Table<Record> table;
+
+    public JdbcKVVersionStorage(
+        @Named("kvversions") JdbcTableConfig jdbcTableConfig,
+        JooqDSLContextWrapper dslContextWrapper
+    ) {
+        this.dslContextWrapper = dslContextWrapper;
+        this.table = DSL.table(jdbcTableConfig.table());
+    }
+
+    @Override
+    public <T> T write(@Nullable String tenant, String namespace, String key, Rethrow.FunctionChecked<Long, T, IOException> writer) throws IOException {
+        try {
+            return dslContextWrapper.transactionResult(configuration -> {
+                DSLContext context = DSL.using(configuration);
+                String rowKey = rowKey(tenant, namespace, key);
+
+                long version = this.next(context, rowKey, tenant, namespace);
+
+                return writer.apply(version);
+            });
+        } catch (DataAccessException e) {
+            // checked exceptions of the writer are wrapped by jOOQ when rolling back
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * Lock the row of the key and move its version forward, the versions are in microseconds like the ones
+     * written without a version storage, so they keep increasing when it's enabled.
+     */
+    private long next(DSLContext context, String rowKey, @Nullable String tenant, String namespace) {
+        context
+            .insertInto(this.table)
+            .set(KEY, rowKey)
+            .set(TENANT_ID, tenant)
+            .set(NAMESPACE, namespace)
+            .set(VERSION, 0L)
+            .onDuplicateKeyIgnore()
+            .execute();
+
+        Long current = context
+            .select(VERSION)
+            .from(this.table)
+            .where(KEY.eq(rowKey))
+            .forUpdate()
+            .fetchOne(VERSION);
+
+        long version = Math.max(current == null ? 0L : current + 1, ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now()));
+
+        context
+            .update(this.table)
+            .set(VERSION, version)
+            .where(KEY.eq(rowKey))
+            .execute();
+
+        return version;
+    }
+
+    // the K/V keys have no maximum length, they are hashed to fit in the primary key
+    private static String rowKey(@Nullable String tenant, String namespace, String key) {
+        return Hashing.sha256()
+            .hashString(String.join("|", tenant == null ? "" : tenant, namespace, key), StandardCharsets.UTF_8)
+            .toString();
+    }
+}
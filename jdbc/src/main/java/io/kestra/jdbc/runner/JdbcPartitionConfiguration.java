@@ -0,0 +1,39 @@
+package io.kestra.jdbc.runner;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Opt-in configuration of the day-partitioned <code>queues</code>, <code>logs</code> and <code>metrics</code> tables.
+ * It must be used with the <code>migrations/{dialect}-partitioned</code> flyway location that converts the tables.
+ */
+@ConfigurationProperties("kestra.jdbc.partitioning")
+@Getter
+public class JdbcPartitionConfiguration {
+    boolean enabled = false;
+
+    /**
+     * Number of daily partitions to create in advance.
+     */
+    Integer premake = 3;
+
+    /**
+     * Retention by table config name, partitions fully older than the retention are dropped.
+     */
+    Map<String, Duration> retention = Map.of();
+
+    public boolean isPartitioned(String name) {
+        return enabled && retention.containsKey(name);
+    }
+
+    /**
+     * Logs and metrics are partitioned on the column used by their queries, queues are only read by offset and
+     * are partitioned on their creation date.
+     */
+    public static String partitionColumn(String name) {
+        return name.equals("queues") ? "created" : "timestamp";
+    }
+}
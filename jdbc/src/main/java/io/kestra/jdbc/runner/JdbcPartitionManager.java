@@ -0,0 +1,110 @@
+package io.kestra.jdbc.runner;
+
+import io.kestra.jdbc.JdbcTableConfigs;
+import io.kestra.jdbc.JooqDSLContextWrapper;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Maintains the daily partitions of the partitioned tables: create the partitions of the upcoming days,
+ * and enforce the retention by dropping whole partitions instead of deleting rows.
+ */
+@Singleton
+@JdbcRunnerEnabled
+@Slf4j
+@Requires(property = "kestra.jdbc.partitioning.enabled", value = "true")
+@Requires(beans = JdbcPartitionService.class)
+public class JdbcPartitionManager {
+    private final JooqDSLContextWrapper dslContextWrapper;
+    private final JdbcPartitionConfiguration configuration;
+    private final JdbcPartitionService jdbcPartitionService;
+    private final JdbcTableConfigs jdbcTableConfigs;
+
+    @Inject
+    public JdbcPartitionManager(JooqDSLContextWrapper dslContextWrapper,
+                                JdbcPartitionConfiguration configuration,
+                                JdbcPartitionService jdbcPartitionService,
+                                JdbcTableConfigs jdbcTableConfigs) {
+        this.dslContextWrapper = dslContextWrapper;
+        this.configuration = configuration;
+        this.jdbcPartitionService = jdbcPartitionService;
+        this.jdbcTableConfigs = jdbcTableConfigs;
+
+        this.validate();
+    }
+
+    /**
+     * Fail on startup on a misconfiguration instead of failing on each maintenance.
+     */
+    void validate() {
+        if (configuration.getPremake() == null || configuration.getPremake() < 1) {
+            throw new IllegalArgumentException("Invalid 'kestra.jdbc.partitioning.premake', it must be at least 1");
+        }
+
+        configuration.getRetention().forEach((name, retention) -> {
+            if (!jdbcPartitionService.partitionable().contains(name)) {
+                throw new IllegalArgumentException("Invalid 'kestra.jdbc.partitioning.retention', table '" + name + "' can't be partitioned, " +
+                    "allowed tables are " + jdbcPartitionService.partitionable());
+            }
+
+            if (retention == null || retention.isNegative() || retention.isZero()) {
+                throw new IllegalArgumentException("Invalid 'kestra.jdbc.partitioning.retention' for table '" + name + "', it must be a positive duration");
+            }
+        });
+    }
+
+    public void maintain() {
+        ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+
+        for (Map.Entry<String, Duration> entry : configuration.getRetention().entrySet()) {
+            String table = jdbcTableConfigs.tableConfig(entry.getKey()).table();
+            String column = JdbcPartitionConfiguration.partitionColumn(entry.getKey());
+
+            try {
+                dslContextWrapper.transaction(configuration -> this.maintain(DSL.using(configuration), table, column, entry.getValue(), now));
+            } catch (Exception e) {
+                log.warn("Unable to maintain the partitions of table {}", table, e);
+            }
+        }
+    }
+
+    void maintain(DSLContext context, String table, String column, Duration retention, ZonedDateTime now) {
+        Set<LocalDate> partitions = jdbcPartitionService.partitions(context, table);
+        LocalDate today = now.toLocalDate();
+
+        for (int i = 0; i <= configuration.getPremake(); i++) {
+            LocalDate day = today.plusDays(i);
+            if (!partitions.contains(day)) {
+                jdbcPartitionService.createPartition(context, table, column, day);
+                log.info("Created partition {} of table {}", day, table);
+            }
+        }
+
+        // a partition holds rows created before the start of the next day
+        ZonedDateTime expiration = now.minus(retention);
+        partitions.stream()
+            .filter(day -> !day.plusDays(1).atStartOfDay(ZoneOffset.UTC).isAfter(expiration))
+            .sorted()
+            .forEach(day -> {
+                jdbcPartitionService.dropPartition(context, table, day);
+                log.info("Dropped partition {} of table {}", day, table);
+            });
+    }
+
+    @Scheduled(initialDelay = "${kestra.jdbc.partitioning.initial-delay:1m}", fixedDelay = "${kestra.jdbc.partitioning.fixed-delay:1h}")
+    public void report() {
+        maintain();
+    }
+}
@@ -0,0 +1,32 @@
+package io.kestra.jdbc.runner;
+
+import org.jooq.DSLContext;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * This service is used solely by the {@link JdbcPartitionManager} to handle database-specific partition management.
+ * Tables are range-partitioned by day on their partition column, one partition covering one UTC day.
+ */
+public interface JdbcPartitionService {
+    /**
+     * The table config names of the tables that can be partitioned with this database.
+     */
+    Set<String> partitionable();
+
+    /**
+     * List the days that have a partition for this table.
+     */
+    Set<LocalDate> partitions(DSLContext context, String table);
+
+    /**
+     * Create the partition for this day, must do nothing if it already exists.
+     */
+    void createPartition(DSLContext context, String table, String column, LocalDate day);
+
+    /**
+     * Drop the partition for this day and all its rows.
+     */
+    void dropPartition(DSLContext context, String table, LocalDate day);
+}
@@ -1,6 +1,8 @@
 package io.kestra.jdbc.runner;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.CaseFormat;
 import com.google.common.collect.Iterables;
@@ -40,6 +42,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import static io.kestra.core.utils.Rethrow.throwRunnable;
@@ -206,7 +209,8 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
     protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, Integer offset, boolean forUpdate) {
         var select = ctx.select(
                 AbstractJdbcRepository.field("value"),
-                AbstractJdbcRepository.field("offset")
+                AbstractJdbcRepository.field("offset"),
+                AbstractJdbcRepository.field("key")
             )
             .from(this.table)
             .where(buildTypeCondition(this.cls.getName()));
@@ -224,7 +228,7 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         var limitSelect = select
             .orderBy(AbstractJdbcRepository.field("offset").asc())
             .limit(configuration.getPollSize());
-        ResultQuery<Record2<Object, Object>> configuredSelect = limitSelect;
+        ResultQuery<Record3<Object, Object, Object>> configuredSelect = limitSelect;
 
         if (forUpdate) {
             configuredSelect = limitSelect.forUpdate().skipLocked();
@@ -247,6 +251,15 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
 
     @Override
     public Runnable receive(String consumerGroup, Consumer<Either<T, DeserializationException>> consumer, boolean forUpdate) {
+        return this.receive(consumerGroup, null, consumer, forUpdate);
+    }
+
+    @Override
+    public Runnable receiveForExecutions(Predicate<String> executionIdFilter, Consumer<Either<T, DeserializationException>> consumer) {
+        return this.receive(null, executionIdFilter, consumer, false);
+    }
+
+    private Runnable receive(String consumerGroup, Predicate<String> executionIdFilter, Consumer<Either<T, DeserializationException>> consumer, boolean forUpdate) {
         AtomicInteger maxOffset = new AtomicInteger();
 
         // fetch max offset
@@ -283,12 +296,51 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
                 return result;
             });
 
+            int size = fetch.size();
+
+            if (executionIdFilter != null) {
+                // skip messages of other executions before deserializing them
+                fetch.removeIf(record -> !executionIdFilter.test(this.executionId(record)));
+            }
+
             this.send(fetch, consumer);
 
-            return fetch.size();
+            return size;
         });
     }
 
+    /**
+     * Extract the execution id of a message without deserializing it:
+     * execution messages are keyed by their id, other messages are scanned until their <code>executionId</code> field.
+     */
+    private String executionId(Record record) {
+        if (this.cls == Execution.class) {
+            return record.get("key", String.class);
+        }
+
+        try (JsonParser parser = MAPPER.getFactory().createParser(record.get("value", String.class))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken token = parser.nextToken();
+
+                if ("executionId".equals(name)) {
+                    return token == JsonToken.VALUE_STRING ? parser.getText() : null;
+                }
+
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            // let the deserialization report it
+            return null;
+        }
+
+        return null;
+    }
+
     @Override
     public Runnable receive(String consumerGroup, Class<?> queueType, Consumer<Either<T, DeserializationException>> consumer, boolean forUpdate) {
         return this.receiveImpl(
@@ -0,0 +1,116 @@
+package io.kestra.jdbc.services;
+
+import com.google.common.util.concurrent.RateLimiter;
+import io.kestra.core.metrics.MetricRegistry;
+import io.kestra.jdbc.JooqDSLContextWrapper;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Delete rows in bounded chunks, each chunk in its own transaction, so large deletions never hold long-running locks
+ * that would stall the live queries on the same table (for ex. the queue pollers that select with <code>FOR UPDATE SKIP LOCKED</code>).
+ * <p>
+ * Chunks are walked by ascending key so a chunk never rescans the keys of the previous ones,
+ * and as each chunk is committed, an interrupted deletion resumes where it stops on the next call.
+ */
+@Singleton
+@Slf4j
+public class JdbcChunkedDeleteService {
+    private final Configuration configuration;
+    private final MetricRegistry metricRegistry;
+
+    @Inject
+    public JdbcChunkedDeleteService(Configuration configuration, MetricRegistry metricRegistry) {
+        this.configuration = configuration;
+        this.metricRegistry = metricRegistry;
+    }
+
+    /**
+     * Delete all the rows matching the condition.
+     *
+     * @param keyField a unique and indexed field of the table, used to walk the chunks
+     * @return the number of deleted rows
+     */
+    public int delete(JooqDSLContextWrapper dslContextWrapper, Table<Record> table, Field<Object> keyField, Condition condition) {
+        RateLimiter rateLimiter = configuration.getRowsPerSecond() > 0 ? RateLimiter.create(configuration.getRowsPerSecond()) : null;
+        int chunkSize = configuration.getChunkSize();
+        int total = 0;
+        Object lastKey = null;
+
+        while (true) {
+            Condition chunkCondition = lastKey == null ? condition : condition.and(keyField.gt(lastKey));
+            long start = System.nanoTime();
+
+            List<Object> keys = dslContextWrapper.transactionResult(transaction -> DSL
+                .using(transaction)
+                .select(keyField)
+                .from(table)
+                .where(chunkCondition)
+                .orderBy(keyField.asc())
+                .limit(chunkSize)
+                .fetch(keyField)
+            );
+
+            if (keys.isEmpty()) {
+                break;
+            }
+
+            // the condition is checked again as a row may have been updated since it was selected
+            int deleted = dslContextWrapper.transactionResult(transaction -> DSL
+                .using(transaction)
+                .delete(table)
+                .where(keyField.in(keys).and(condition))
+                .execute()
+            );
+
+            total += deleted;
+            lastKey = keys.getLast();
+
+            metricRegistry
+                .timer(MetricRegistry.JDBC_DELETE_CHUNK_DURATION, MetricRegistry.TAG_TABLE_NAME, table.getName())
+                .record(Duration.ofNanos(System.nanoTime() - start));
+            metricRegistry
+                .counter(MetricRegistry.JDBC_DELETE_ROW_COUNT, MetricRegistry.TAG_TABLE_NAME, table.getName())
+                .increment(deleted);
+
+            if (log.isDebugEnabled()) {
+                log.debug("Deleted a chunk of {} records from {}, {} in total", deleted, table.getName(), total);
+            }
+
+            if (keys.size() < chunkSize) {
+                break;
+            }
+
+            if (rateLimiter != null && deleted > 0) {
+                rateLimiter.acquire(deleted);
+            }
+        }
+
+        return total;
+    }
+
+    @ConfigurationProperties("kestra.jdbc.delete")
+    @Getter
+    public static class Configuration {
+        /**
+         * Maximum number of rows deleted by a single transaction.
+         */
+        Integer chunkSize = 1000;
+
+        /**
+         * Maximum number of deleted rows per second, 0 to disable the rate limit.
+         */
+        Integer rowsPerSecond = 0;
+    }
+}
@@ -1,15 +1,21 @@
 package io.kestra.jdbc;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import io.kestra.core.exceptions.InternalException;
+import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.executions.LogEntry;
+import io.kestra.core.models.executions.TaskRun;
+import io.kestra.core.models.flows.State;
 import io.kestra.core.models.triggers.multipleflows.MultipleConditionWindow;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
 import java.time.ZonedDateTime;
+import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
 
 class JdbcMapperTest {
     @Test
@@ -41,4 +47,33 @@ class JdbcMapperTest {
 
         assertThat(serialize, containsString("2013-09-08T16:19:12.001+02:00"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void taskRuns() throws JsonProcessingException, InternalException {
+        TaskRun first = TaskRun.builder()
+            .id("first")
+            .executionId("execution")
+            .namespace("io.kestra.unittest")
+            .flowId("flow")
+            .taskId("first")
+            .state(new State())
+            .build();
+        TaskRun second = first.toBuilder().id("second").taskId("second").build();
+        Execution execution = Execution.builder()
+            .id("execution")
+            .namespace("io.kestra.unittest")
+            .flowId("flow")
+            .state(new State())
+            .taskRunList(List.of(first, second))
+            .build();
+
+        String serialize = JdbcMapper.of().writeValueAsString(execution);
+        assertThat(JdbcMapper.of().readTree(serialize), is(JdbcMapper.of().valueToTree(execution)));
+
+        // the unchanged task run is copied from the previous serialization
+        Execution updated = execution.withTaskRun(second.withState(State.Type.RUNNING));
+        String updatedSerialize = JdbcMapper.of().writeValueAsString(updated);
+        assertThat(JdbcMapper.of().readTree(updatedSerialize), is(JdbcMapper.of().valueToTree(updated)));
+        assertThat(updatedSerialize, containsString(JdbcMapper.of().writeValueAsString(first)));
+    }
+}
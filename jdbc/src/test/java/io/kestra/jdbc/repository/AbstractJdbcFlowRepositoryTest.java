@@ -4,9 +4,12 @@ import io.kestra.core.models.SearchResult;
 import io.kestra.core.models.flows.Flow;
 import io.kestra.core.models.flows.FlowWithException;
 import io.kestra.core.models.flows.FlowWithSource;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.repositories.SettingRepositoryInterface;
 import io.kestra.core.serializers.JacksonMapper;
 import io.kestra.jdbc.JdbcTestUtils;
 import io.kestra.jdbc.JooqDSLContextWrapper;
+import io.kestra.plugin.core.debug.Return;
 import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.Sort;
 import jakarta.inject.Inject;
@@ -34,6 +37,12 @@ public abstract class AbstractJdbcFlowRepositoryTest extends io.kestra.core.repo
     @Inject
     protected JooqDSLContextWrapper dslContextWrapper;
 
+    @Inject
+    protected JdbcFlowSourceIndexBackfill sourceIndexBackfill;
+
+    @Inject
+    protected SettingRepositoryInterface settingRepository;
+
     @Test
     public void findSourceCode() {
         List<SearchResult<Flow>> search = flowRepository.findSourceCode(Pageable.from(1, 10, Sort.UNSORTED), "io.kestra.plugin.core.condition.MultipleCondition", null, null);
@@ -50,6 +59,88 @@ public abstract class AbstractJdbcFlowRepositoryTest extends io.kestra.core.repo
         assertThat(flow.getFragments().getFirst(), containsString("condition.MultipleCondition[/mark]"));
     }
 
+    @Test
+    public void findSourceCodeShouldFollowRevisions() {
+        Flow flow = Flow.builder()
+            .id("source-index")
+            .namespace("io.kestra.unittest")
+            .tasks(List.of(Return.builder().id("return").type(Return.class.getName()).format(Property.of("sourceindexfirst")).build()))
+            .build();
+        FlowWithSource created = flowRepository.create(flow, flow.generateSource(), flow);
+
+        try {
+            assertThat(flowRepository.findSourceCode(Pageable.unpaged(), "sourceindexfirst", null, null).size(), is(1));
+
+            Flow updated = created.toFlow().toBuilder()
+                .tasks(List.of(Return.builder().id("return").type(Return.class.getName()).format(Property.of("sourceindexsecond")).build()))
+                .build();
+            created = flowRepository.update(updated, created, updated.generateSource(), updated);
+
+            assertThat(flowRepository.findSourceCode(Pageable.unpaged(), "sourceindexfirst", null, null).size(), is(0));
+            assertThat(flowRepository.findSourceCode(Pageable.unpaged(), "sourceindex", null, null).size(), is(1));
+        } finally {
+            flowRepository.delete(created);
+        }
+
+        assertThat(flowRepository.findSourceCode(Pageable.unpaged(), "sourceindexsecond", null, null).size(), is(0));
+    }
+
+    @Test
+    public void findSourceCodeShouldMatchEachTokenOfTheQuery() {
+        Flow flow = Flow.builder()
+            .id("source-tokens")
+            .namespace("io.kestra.unittest")
+            .tasks(List.of(Return.builder().id("return").type(Return.class.getName()).format(Property.of("sourcematches")).build()))
+            .build();
+        FlowWithSource created = flowRepository.create(flow, flow.generateSource(), flow);
+
+        try {
+            // a single token of the flow matches both tokens of the query
+            assertThat(flowRepository.findSourceCode(Pageable.unpaged(), "sourcematch sourcematches", null, null).size(), is(1));
+            assertThat(flowRepository.findSourceCode(Pageable.unpaged(), "sourcematches sourcemissing", null, null).size(), is(0));
+        } finally {
+            flowRepository.delete(created);
+        }
+    }
+
+    @Test
+    public void findSourceCodeOfFlowsSavedBeforeTheIndex() {
+        Flow flow = Flow.builder()
+            .id("source-backfill")
+            .namespace("io.kestra.unittest")
+            .tasks(List.of(Return.builder().id("return").type(Return.class.getName()).format(Property.of("sourcebackfill")).build()))
+            .build();
+        FlowWithSource created = flowRepository.create(flow, flow.generateSource(), flow);
+
+        try {
+            // the flows saved before the index existed have no tokens
+            dslContextWrapper.transaction(configuration -> DSL.using(configuration).deleteFrom(DSL.table("flow_source_tokens")).execute());
+            settingRepository.findByKey(JdbcFlowSourceIndexBackfill.BACKFILLED_SETTING).ifPresent(setting -> settingRepository.delete(setting));
+            assertThat(flowRepository.findSourceCode(Pageable.unpaged(), "sourcebackfill", null, null).size(), is(0));
+
+            sourceIndexBackfill.backfill();
+            assertThat(flowRepository.findSourceCode(Pageable.unpaged(), "sourcebackfill", null, null).size(), is(1));
+            assertThat(settingRepository.findByKey(JdbcFlowSourceIndexBackfill.BACKFILLED_SETTING).isPresent(), is(true));
+
+            // done once
+            dslContextWrapper.transaction(configuration -> DSL.using(configuration).deleteFrom(DSL.table("flow_source_tokens")).execute());
+            sourceIndexBackfill.backfill();
+            assertThat(flowRepository.findSourceCode(Pageable.unpaged(), "sourcebackfill", null, null).size(), is(0));
+        } finally {
+            // restore the index of the other flows
+            flowRepository.indexMissingSources(100);
+            flowRepository.delete(created);
+        }
+    }
+
+    @Test
+    public void indexMissingSourcesByBatches() {
+        dslContextWrapper.transaction(configuration -> DSL.using(configuration).deleteFrom(DSL.table("flow_source_tokens")).execute());
+
+        assertThat(flowRepository.indexMissingSources(3), greaterThan(3));
+        assertThat(flowRepository.indexMissingSources(3), is(0));
+    }
+
     @Disabled("Test disabled: no exception thrown when converting to dynamic properties")
     @Test
     public void invalidFlow() {
@@ -0,0 +1,133 @@
+package io.kestra.jdbc.runner;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.flows.Concurrency;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.jdbc.JdbcTestUtils;
+import io.kestra.jdbc.JooqDSLContextWrapper;
+import io.kestra.jdbc.repository.AbstractJdbcExecutionRepository;
+import io.kestra.jdbc.repository.AbstractJdbcRepository;
+import io.kestra.plugin.core.debug.Return;
+import jakarta.inject.Inject;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+public abstract class JdbcConcurrencyLimitStorageTest {
+    @Inject
+    JdbcTestUtils jdbcTestUtils;
+
+    @Inject
+    JooqDSLContextWrapper dslContextWrapper;
+
+    @Inject
+    JdbcConcurrencyLimitStorage concurrencyLimitStorage;
+
+    @Inject
+    AbstractJdbcExecutionRepository executionRepository;
+
+    @BeforeEach
+    protected void init() {
+        jdbcTestUtils.drop();
+        jdbcTestUtils.migrate();
+    }
+
+    @Test
+    void acquire() {
+        Flow flow = flow(2);
+
+        List<Integer> acquired = dslContextWrapper.transactionResult(configuration -> List.of(
+            concurrencyLimitStorage.acquire(DSL.using(configuration), flow),
+            concurrencyLimitStorage.acquire(DSL.using(configuration), flow),
+            concurrencyLimitStorage.acquire(DSL.using(configuration), flow)
+        ));
+
+        // the third one is over the limit and doesn't take a slot
+        assertThat(acquired, contains(0, 1, 2));
+        assertThat(running(flow), is(2));
+
+        dslContextWrapper.transaction(configuration -> concurrencyLimitStorage.forceAcquire(DSL.using(configuration), flow));
+        assertThat(running(flow), is(3));
+    }
+
+    @Test
+    void release() {
+        Flow flow = flow(1);
+
+        dslContextWrapper.transaction(configuration -> {
+            concurrencyLimitStorage.acquire(DSL.using(configuration), flow);
+            concurrencyLimitStorage.release(DSL.using(configuration), flow);
+        });
+        assertThat(running(flow), is(0));
+
+        // a counter never goes below zero
+        dslContextWrapper.transaction(configuration -> concurrencyLimitStorage.release(DSL.using(configuration), flow));
+        assertThat(running(flow), is(0));
+    }
+
+    @Test
+    void repair() {
+        Flow stale = flow(5);
+        Flow missing = flow(5);
+        Flow unlimited = flow(5).toBuilder().concurrency(null).build();
+
+        // a counter that leaked slots
+        dslContextWrapper.transaction(configuration -> {
+            concurrencyLimitStorage.acquire(DSL.using(configuration), stale);
+            concurrencyLimitStorage.acquire(DSL.using(configuration), stale);
+            concurrencyLimitStorage.acquire(DSL.using(configuration), stale);
+        });
+        executionRepository.save(execution(stale, State.Type.RUNNING));
+        executionRepository.save(execution(stale, State.Type.SUCCESS));
+
+        // executions started before the flow had a counter
+        executionRepository.save(execution(missing, State.Type.RUNNING));
+        executionRepository.save(execution(missing, State.Type.PAUSED));
+        executionRepository.save(execution(unlimited, State.Type.RUNNING));
+
+        concurrencyLimitStorage.repair(List.of(stale, missing, unlimited));
+
+        assertThat(running(stale), is(1));
+        assertThat(running(missing), is(2));
+        assertThat(running(unlimited), nullValue());
+    }
+
+    private Integer running(Flow flow) {
+        return dslContextWrapper.transactionResult(configuration -> DSL.using(configuration)
+            .select(AbstractJdbcRepository.field("running", Integer.class))
+            .from(DSL.table("concurrency_limit"))
+            .where(AbstractJdbcRepository.field("key").eq(flow.uidWithoutRevision()))
+            .fetchOne(AbstractJdbcRepository.field("running", Integer.class))
+        );
+    }
+
+    private static Flow flow(int limit) {
+        return Flow.builder()
+            .id(IdUtils.create())
+            .namespace("io.kestra.unittest")
+            .revision(1)
+            .tasks(List.of(Return.builder().id("test").type(Return.class.getName()).format(Property.of("test")).build()))
+            .concurrency(Concurrency.builder().behavior(Concurrency.Behavior.QUEUE).limit(limit).build())
+            .build();
+    }
+
+    private static Execution execution(Flow flow, State.Type state) {
+        return Execution.builder()
+            .id(IdUtils.create())
+            .namespace(flow.getNamespace())
+            .flowId(flow.getId())
+            .flowRevision(flow.getRevision())
+            .state(new State().withState(state))
+            .build();
+    }
+}
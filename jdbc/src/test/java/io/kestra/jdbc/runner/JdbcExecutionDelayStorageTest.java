@@ -0,0 +1,84 @@
+package io.kestra.jdbc.runner;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.runners.ExecutionDelay;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.jdbc.JdbcTestUtils;
+import io.kestra.jdbc.JooqDSLContextWrapper;
+import jakarta.inject.Inject;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+public abstract class JdbcExecutionDelayStorageTest {
+    @Inject
+    JdbcTestUtils jdbcTestUtils;
+
+    @Inject
+    JooqDSLContextWrapper dslContextWrapper;
+
+    @Inject
+    AbstractJdbcExecutionDelayStorage executionDelayStorage;
+
+    @BeforeEach
+    protected void init() {
+        jdbcTestUtils.drop();
+        jdbcTestUtils.migrate();
+    }
+
+    @Test
+    void due() {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        ExecutionDelay oldest = delay(now.minus(Duration.ofMinutes(2)));
+        ExecutionDelay older = delay(now.minus(Duration.ofMinutes(1)));
+        ExecutionDelay future = delay(now.plus(Duration.ofHours(1)));
+        List.of(older, future, oldest).forEach(executionDelayStorage::save);
+
+        assertThat(executionIds(executionDelayStorage.due(10)), contains(oldest.getExecutionId(), older.getExecutionId()));
+        assertThat(executionIds(executionDelayStorage.due(1)), contains(oldest.getExecutionId()));
+    }
+
+    @Test
+    void deleteWithProcessing() {
+        ExecutionDelay first = delay(Instant.now().minus(Duration.ofMinutes(1)));
+        ExecutionDelay second = delay(Instant.now().minus(Duration.ofMinutes(1)));
+        List.of(first, second).forEach(executionDelayStorage::save);
+
+        // a failed processing keeps its delay
+        Assertions.assertThrows(RuntimeException.class, () -> dslContextWrapper.transaction(configuration -> {
+            assertThat(executionDelayStorage.delete(DSL.using(configuration), first), is(true));
+            throw new IllegalStateException("processing failed");
+        }));
+
+        // a processed delay is only deleted once
+        dslContextWrapper.transaction(configuration -> assertThat(executionDelayStorage.delete(DSL.using(configuration), second), is(true)));
+        dslContextWrapper.transaction(configuration -> assertThat(executionDelayStorage.delete(DSL.using(configuration), second), is(false)));
+
+        assertThat(executionIds(executionDelayStorage.due(10)), contains(first.getExecutionId()));
+    }
+
+    private static List<String> executionIds(List<ExecutionDelay> executionDelays) {
+        return executionDelays.stream().map(ExecutionDelay::getExecutionId).toList();
+    }
+
+    private static ExecutionDelay delay(Instant date) {
+        return ExecutionDelay.builder()
+            .executionId(IdUtils.create())
+            .taskRunId(IdUtils.create())
+            .date(date)
+            .state(State.Type.RUNNING)
+            .delayType(ExecutionDelay.DelayType.RESUME_FLOW)
+            .build();
+    }
+}
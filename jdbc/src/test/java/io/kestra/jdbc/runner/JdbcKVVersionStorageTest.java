@@ -0,0 +1,90 @@
+package io.kestra.jdbc.runner;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.storages.kv.InternalKVStore;
+import io.kestra.core.storages.kv.KVValue;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.jdbc.JdbcTestUtils;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+public abstract class JdbcKVVersionStorageTest {
+    @Inject
+    JdbcTestUtils jdbcTestUtils;
+
+    @Inject
+    JdbcKVVersionStorage kvVersionStorage;
+
+    @Inject
+    StorageInterface storageInterface;
+
+    @BeforeEach
+    protected void init() {
+        jdbcTestUtils.drop();
+        jdbcTestUtils.migrate();
+    }
+
+    @Test
+    void incrementFromSeveralStores() throws Exception {
+        String namespace = "io.kestra." + IdUtils.create();
+        // each store stands for an instance, only the database serializes their writes
+        InternalKVStore first = this.kv(namespace);
+        InternalKVStore second = this.kv(namespace);
+
+        try (ExecutorService executorService = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 25; i++) {
+                executorService.submit(() -> first.increment("counter", 1));
+                executorService.submit(() -> second.increment("counter", 1));
+            }
+        }
+
+        assertThat(first.getValue("counter"), is(Optional.of(new KVValue(50))));
+    }
+
+    @Test
+    void compareAndSetFromSeveralStores() throws IOException {
+        String namespace = "io.kestra." + IdUtils.create();
+        InternalKVStore first = this.kv(namespace);
+        InternalKVStore second = this.kv(namespace);
+
+        assertThat(first.compareAndSet("flag", null, new KVValueAndMetadata(null, "first")), is(true));
+        assertThat(second.compareAndSet("flag", null, new KVValueAndMetadata(null, "second")), is(false));
+
+        Long version = second.get("flag").orElseThrow().version();
+        assertThat(second.compareAndSet("flag", version, new KVValueAndMetadata(null, "second")), is(true));
+        assertThat(first.compareAndSet("flag", version, new KVValueAndMetadata(null, "third")), is(false));
+
+        assertThat(first.getValue("flag"), is(Optional.of(new KVValue("second"))));
+        assertThat(first.get("flag").orElseThrow().version(), greaterThan(version));
+    }
+
+    @Test
+    void versionNeverGoesBack() throws IOException {
+        String namespace = "io.kestra." + IdUtils.create();
+        InternalKVStore kv = this.kv(namespace);
+
+        kv.put("key", new KVValueAndMetadata(null, "value"));
+        Long version = kv.get("key").orElseThrow().version();
+
+        kv.delete("key");
+        kv.put("key", new KVValueAndMetadata(null, "value"));
+
+        assertThat(kv.get("key").orElseThrow().version(), greaterThan(version));
+    }
+
+    private InternalKVStore kv(String namespace) {
+        return new InternalKVStore(null, namespace, storageInterface, null, kvVersionStorage);
+    }
+}
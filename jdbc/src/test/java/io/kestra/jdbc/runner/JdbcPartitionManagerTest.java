@@ -0,0 +1,102 @@
+package io.kestra.jdbc.runner;
+
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class JdbcPartitionManagerTest {
+    private static final ZonedDateTime NOW = ZonedDateTime.of(2024, 6, 10, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    @Test
+    void shouldCreateUpcomingAndDropExpiredPartitions() {
+        FakePartitionService service = new FakePartitionService(Set.of("queues", "logs"));
+        service.partitions.addAll(List.of(
+            LocalDate.of(2024, 6, 1),
+            LocalDate.of(2024, 6, 2),
+            LocalDate.of(2024, 6, 3),
+            LocalDate.of(2024, 6, 10)
+        ));
+
+        JdbcPartitionManager manager = new JdbcPartitionManager(null, configuration(Map.of("logs", Duration.ofDays(7))), service, null);
+        manager.maintain(null, "logs", "timestamp", Duration.ofDays(7), NOW);
+
+        assertThat(service.created, contains(LocalDate.of(2024, 6, 11), LocalDate.of(2024, 6, 12)));
+        assertThat(service.columns, everyItem(is("timestamp")));
+        // the 3rd holds rows up to the 4th at midnight, which are not expired yet
+        assertThat(service.dropped, contains(LocalDate.of(2024, 6, 1), LocalDate.of(2024, 6, 2)));
+    }
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+        FakePartitionService service = new FakePartitionService(Set.of("queues", "metrics"));
+
+        IllegalArgumentException unknown = Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new JdbcPartitionManager(null, configuration(Map.of("logs", Duration.ofDays(7))), service, null)
+        );
+        assertThat(unknown.getMessage(), containsString("'logs' can't be partitioned"));
+
+        IllegalArgumentException negative = Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new JdbcPartitionManager(null, configuration(Map.of("queues", Duration.ofDays(-1))), service, null)
+        );
+        assertThat(negative.getMessage(), containsString("positive duration"));
+    }
+
+    @Test
+    void shouldPartitionQueuesOnCreationDate() {
+        assertThat(JdbcPartitionConfiguration.partitionColumn("queues"), is("created"));
+        assertThat(JdbcPartitionConfiguration.partitionColumn("logs"), is("timestamp"));
+        assertThat(JdbcPartitionConfiguration.partitionColumn("metrics"), is("timestamp"));
+    }
+
+    private static JdbcPartitionConfiguration configuration(Map<String, Duration> retention) {
+        JdbcPartitionConfiguration configuration = new JdbcPartitionConfiguration();
+        configuration.enabled = true;
+        configuration.premake = 2;
+        configuration.retention = retention;
+        return configuration;
+    }
+
+    private static class FakePartitionService implements JdbcPartitionService {
+        private final Set<String> partitionable;
+        private final Set<LocalDate> partitions = new HashSet<>();
+        private final List<LocalDate> created = new ArrayList<>();
+        private final List<String> columns = new ArrayList<>();
+        private final List<LocalDate> dropped = new ArrayList<>();
+
+        private FakePartitionService(Set<String> partitionable) {
+            this.partitionable = partitionable;
+        }
+
+        @Override
+        public Set<String> partitionable() {
+            return partitionable;
+        }
+
+        @Override
+        public Set<LocalDate> partitions(DSLContext context, String table) {
+            return new HashSet<>(partitions);
+        }
+
+        @Override
+        public void createPartition(DSLContext context, String table, String column, LocalDate day) {
+            created.add(day);
+            columns.add(column);
+        }
+
+        @Override
+        public void dropPartition(DSLContext context, String table, LocalDate day) {
+            dropped.add(day);
+        }
+    }
+}
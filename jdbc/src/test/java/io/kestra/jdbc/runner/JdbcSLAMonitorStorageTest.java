@@ -0,0 +1,106 @@
+package io.kestra.jdbc.runner;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.flows.sla.SLAMonitor;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.jdbc.JdbcTestUtils;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+public abstract class JdbcSLAMonitorStorageTest {
+    private static final Instant FAR_FUTURE = Instant.now().plus(Duration.ofDays(3650));
+
+    @Inject
+    JdbcTestUtils jdbcTestUtils;
+
+    @Inject
+    AbstractJdbcSLAMonitorStorage slaMonitorStorage;
+
+    @BeforeEach
+    protected void init() {
+        jdbcTestUtils.drop();
+        jdbcTestUtils.migrate();
+
+        // forget the monitors tracked by a previous test
+        slaMonitorStorage.processExpired(FAR_FUTURE, slaMonitor -> {});
+    }
+
+    @Test
+    void processExpired() {
+        SLAMonitor expired = monitor(IdUtils.create(), Instant.now().minusSeconds(1));
+        SLAMonitor later = monitor(IdUtils.create(), Instant.now().plus(Duration.ofHours(1)));
+        slaMonitorStorage.save(later);
+        slaMonitorStorage.save(expired);
+
+        assertThat(processExpired(Instant.now()), contains(expired.uid()));
+        assertThat(processExpired(Instant.now()), empty());
+        assertThat(slaMonitorStorage.size(), is(1));
+    }
+
+    @Test
+    void purge() {
+        String purged = IdUtils.create();
+        slaMonitorStorage.save(monitor(purged, Instant.now().minusSeconds(2)));
+        slaMonitorStorage.save(SLAMonitor.builder().executionId(purged).slaId("other").deadline(Instant.now().minusSeconds(1)).build());
+        SLAMonitor kept = monitor(IdUtils.create(), Instant.now().minusSeconds(1));
+        slaMonitorStorage.save(kept);
+
+        slaMonitorStorage.purge(purged);
+
+        assertThat(slaMonitorStorage.size(), is(1));
+        assertThat(processExpired(Instant.now()), contains(kept.uid()));
+    }
+
+    @Test
+    void saveWithNewDeadline() {
+        String executionId = IdUtils.create();
+        slaMonitorStorage.save(monitor(executionId, Instant.now().plus(Duration.ofHours(1))));
+        SLAMonitor updated = monitor(executionId, Instant.now().minusSeconds(1));
+        slaMonitorStorage.save(updated);
+
+        assertThat(slaMonitorStorage.size(), is(1));
+        assertThat(processExpired(Instant.now()), contains(updated.uid()));
+        assertThat(slaMonitorStorage.size(), is(0));
+    }
+
+    @Test
+    void loadDueSoon() {
+        // monitors saved by another executor
+        SLAMonitor soon = monitor(IdUtils.create(), Instant.now().plus(Duration.ofSeconds(30)));
+        SLAMonitor later = monitor(IdUtils.create(), Instant.now().plus(Duration.ofHours(1)));
+        slaMonitorStorage.jdbcRepository.persist(soon);
+        slaMonitorStorage.jdbcRepository.persist(later);
+
+        slaMonitorStorage.load(Instant.now().plus(Duration.ofMinutes(2)));
+        slaMonitorStorage.load(Instant.now().plus(Duration.ofMinutes(2)));
+
+        assertThat(slaMonitorStorage.size(), is(1));
+        assertThat(processExpired(FAR_FUTURE), contains(soon.uid()));
+    }
+
+    private List<String> processExpired(Instant date) {
+        List<String> processed = new ArrayList<>();
+        slaMonitorStorage.processExpired(date, slaMonitor -> processed.add(slaMonitor.uid()));
+
+        return processed;
+    }
+
+    private static SLAMonitor monitor(String executionId, Instant deadline) {
+        return SLAMonitor.builder()
+            .executionId(executionId)
+            .slaId("sla")
+            .deadline(deadline.truncatedTo(ChronoUnit.MILLIS))
+            .build();
+    }
+}
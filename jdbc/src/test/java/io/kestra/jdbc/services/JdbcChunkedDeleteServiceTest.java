@@ -0,0 +1,173 @@
+package io.kestra.jdbc.services;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.metrics.MetricRegistry;
+import io.kestra.core.utils.RetryUtils;
+import io.kestra.jdbc.JdbcTestUtils;
+import io.kestra.jdbc.JooqDSLContextWrapper;
+import io.kestra.jdbc.repository.AbstractJdbcRepository;
+import jakarta.inject.Inject;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.TransactionalCallable;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+public abstract class JdbcChunkedDeleteServiceTest {
+    private static final Table<Record> TABLE = DSL.table("concurrency_limit");
+    private static final Field<Object> KEY = AbstractJdbcRepository.field("key");
+    private static final Field<Object> NAMESPACE = AbstractJdbcRepository.field("namespace");
+    private static final Field<Object> FLOW_ID = AbstractJdbcRepository.field("flow_id");
+    private static final Field<Integer> RUNNING = AbstractJdbcRepository.field("running", Integer.class);
+
+    // the rows to delete are the ones that are not running
+    private static final Condition CONDITION = NAMESPACE.eq("io.kestra.delete").and(RUNNING.eq(0));
+
+    @Inject
+    JdbcTestUtils jdbcTestUtils;
+
+    @Inject
+    JooqDSLContextWrapper dslContextWrapper;
+
+    @Inject
+    DSLContext dslContext;
+
+    @Inject
+    RetryUtils retryUtils;
+
+    @Inject
+    MetricRegistry metricRegistry;
+
+    @BeforeEach
+    protected void init() {
+        jdbcTestUtils.drop();
+        jdbcTestUtils.migrate();
+    }
+
+    @Test
+    void deleteByChunks() {
+        JdbcChunkedDeleteService service = this.service(2, 0);
+
+        // exactly one chunk, the next one is empty
+        this.insert("exact", 2);
+        assertThat(service.delete(dslContextWrapper, TABLE, KEY, CONDITION), is(2));
+
+        // one more than a chunk, the rows of another namespace are kept
+        this.insert("other", 3, "io.kestra.other");
+        this.insert("over", 3);
+        assertThat(service.delete(dslContextWrapper, TABLE, KEY, CONDITION), is(3));
+
+        assertThat(this.remainingKeys(), contains("other-0", "other-1", "other-2"));
+    }
+
+    @Test
+    void reapplyConditionOnDelete() {
+        JdbcChunkedDeleteService service = this.service(2, 0);
+        this.insert("key", 4);
+
+        // a selected row starts running before the delete of its chunk
+        JooqDSLContextWrapper intercepted = this.intercepted(Map.of(
+            2, () -> dslContext.update(TABLE).set(RUNNING, 1).where(KEY.eq("key-1")).execute()
+        ));
+
+        assertThat(service.delete(intercepted, TABLE, KEY, CONDITION), is(3));
+        assertThat(this.remainingKeys(), contains("key-1"));
+    }
+
+    @Test
+    void resumeAfterPartialDelete() {
+        JdbcChunkedDeleteService service = this.service(2, 0);
+        this.insert("key", 5);
+
+        // fail on the delete of the second chunk
+        JooqDSLContextWrapper intercepted = this.intercepted(Map.of(
+            4, () -> {
+                throw new IllegalStateException("interrupted");
+            }
+        ));
+
+        Assertions.assertThrows(IllegalStateException.class, () -> service.delete(intercepted, TABLE, KEY, CONDITION));
+        assertThat(this.remainingKeys(), contains("key-2", "key-3", "key-4"));
+
+        // the committed chunk is not deleted again, the next call deletes the rest
+        assertThat(service.delete(dslContextWrapper, TABLE, KEY, CONDITION), is(3));
+        assertThat(this.remainingKeys(), empty());
+    }
+
+    @Test
+    void rateLimit() {
+        // 4 chunks of 2 rows at 4 rows per second, each chunk after the first one waits for half a second
+        JdbcChunkedDeleteService service = this.service(2, 4);
+        this.insert("key", 8);
+
+        long start = System.currentTimeMillis();
+        assertThat(service.delete(dslContextWrapper, TABLE, KEY, CONDITION), is(8));
+
+        assertThat(System.currentTimeMillis() - start, greaterThanOrEqualTo(1000L));
+    }
+
+    private JdbcChunkedDeleteService service(int chunkSize, int rowsPerSecond) {
+        JdbcChunkedDeleteService.Configuration configuration = new JdbcChunkedDeleteService.Configuration();
+        configuration.chunkSize = chunkSize;
+        configuration.rowsPerSecond = rowsPerSecond;
+
+        return new JdbcChunkedDeleteService(configuration, metricRegistry);
+    }
+
+    private void insert(String prefix, int count) {
+        this.insert(prefix, count, "io.kestra.delete");
+    }
+
+    private void insert(String prefix, int count, String namespace) {
+        IntStream.range(0, count).forEach(i -> dslContext
+            .insertInto(TABLE)
+            .set(KEY, prefix + "-" + i)
+            .set(NAMESPACE, namespace)
+            .set(FLOW_ID, "flow")
+            .set(RUNNING, 0)
+            .execute()
+        );
+    }
+
+    private List<String> remainingKeys() {
+        return dslContext
+            .select(KEY)
+            .from(TABLE)
+            .orderBy(KEY.asc())
+            .fetch(KEY, String.class);
+    }
+
+    /**
+     * A wrapper running an action before the transaction of the given number, the service runs a transaction to select
+     * each chunk, then another one to delete it.
+     */
+    private JooqDSLContextWrapper intercepted(Map<Integer, Runnable> before) {
+        AtomicInteger transactions = new AtomicInteger();
+
+        return new JooqDSLContextWrapper(dslContext, retryUtils) {
+            @Override
+            public <T> T transactionResult(TransactionalCallable<T> transactional) {
+                Runnable action = before.get(transactions.incrementAndGet());
+                if (action != null) {
+                    action.run();
+                }
+
+                return super.transactionResult(transactional);
+            }
+        };
+    }
+}
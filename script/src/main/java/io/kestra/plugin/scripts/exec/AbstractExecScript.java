@@ -4,6 +4,7 @@ import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.models.annotations.PluginProperty;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.*;
+import io.kestra.core.models.tasks.runners.DefaultLogConsumer;
 import io.kestra.core.models.tasks.runners.TargetOS;
 import io.kestra.core.models.tasks.runners.TaskRunner;
 import io.kestra.core.runners.RunContext;
@@ -86,6 +87,15 @@ public abstract class AbstractExecScript extends Task implements RunnableTask<Sc
     )
     protected Property<Boolean> failFast = Property.of(true);
 
+    @Schema(
+        title = "Only send one plain output line out of `logSampleRate` to the execution logs.",
+        description = "When greater than 1, the full raw output is written to a file in the internal storage, available as the `rawOutput` output, " +
+            "and only the sampled lines are sent to the logs, batched together. Use it for scripts printing a very high volume of lines. " +
+            "Lines using the `::{}::` syntax are always processed."
+    )
+    @Builder.Default
+    protected Property<Integer> logSampleRate = Property.of(1);
+
     private NamespaceFiles namespaceFiles;
 
     private Object inputFiles;
@@ -166,7 +176,8 @@ public abstract class AbstractExecScript extends Task implements RunnableTask<Sc
             .withOutputFiles(runContext.render(this.getOutputFiles()).asList(String.class))
             .withEnableOutputDirectory(runContext.render(this.getOutputDirectory()).as(Boolean.class).orElse(null))
             .withTimeout(runContext.render(this.getTimeout()).as(Duration.class).orElse(null))
-            .withTargetOS(runContext.render(this.getTargetOS()).as(TargetOS.class).orElseThrow());
+            .withTargetOS(runContext.render(this.getTargetOS()).as(TargetOS.class).orElseThrow())
+            .withLogConsumer(new DefaultLogConsumer(runContext, runContext.render(this.getLogSampleRate()).as(Integer.class).orElse(1)));
     }
 
     protected List<String> getBeforeCommandsWithOptions(RunContext runContext) throws IllegalVariableEvaluationException {
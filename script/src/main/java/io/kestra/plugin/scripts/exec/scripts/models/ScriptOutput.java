@@ -36,6 +36,12 @@ public class ScriptOutput implements Output {
     @PluginProperty(additionalProperties = URI.class)
     private final Map<String, URI> outputFiles;
 
+    @Schema(
+        title = "The URI of the full raw output in Kestra's internal storage.",
+        description = "Only set when `logSampleRate` is greater than 1."
+    )
+    private final URI rawOutput;
+
     @JsonIgnore
     private final int stdOutLineCount;
 
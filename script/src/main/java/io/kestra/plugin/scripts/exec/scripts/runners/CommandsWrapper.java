@@ -162,6 +162,7 @@ public class CommandsWrapper implements TaskCommands {
 
         try {
             TaskRunnerResult<T> taskRunnerResult = realTaskRunner.run(taskRunnerRunContext, this, this.outputFiles);
+            this.flushLogConsumer(scriptOutputBuilder);
             scriptOutputBuilder.exitCode(taskRunnerResult.getExitCode())
                 .outputFiles(getOutputFiles(taskRunnerRunContext))
                 .taskRunner(taskRunnerResult.getDetails());
@@ -175,6 +176,7 @@ public class CommandsWrapper implements TaskCommands {
 
             return scriptOutputBuilder.build();
         } catch (TaskException e) {
+            this.flushLogConsumer(scriptOutputBuilder);
             var output = scriptOutputBuilder.exitCode(e.getExitCode())
                 .stdOutLineCount(e.getStdOutCount())
                 .stdErrLineCount(e.getStdErrCount())
@@ -182,6 +184,22 @@ public class CommandsWrapper implements TaskCommands {
                 .outputFiles(getOutputFiles(taskRunnerRunContext))
                 .build();
             throw new RunnableTaskException(e, output);
+        } finally {
+            if (this.logConsumer != null) {
+                this.logConsumer.close();
+            }
+        }
+    }
+
+    private void flushLogConsumer(ScriptOutput.ScriptOutputBuilder scriptOutputBuilder) throws IOException {
+        if (this.logConsumer == null) {
+            return;
+        }
+
+        this.logConsumer.flush();
+
+        if (this.logConsumer instanceof DefaultLogConsumer defaultLogConsumer) {
+            scriptOutputBuilder.rawOutput(defaultLogConsumer.getRawOutput());
         }
     }
 
@@ -2,6 +2,8 @@ package io.kestra.plugin.scripts.runners;
 
 import com.google.common.collect.ImmutableMap;
 import io.kestra.core.models.executions.LogEntry;
+import io.kestra.core.models.tasks.RunnableTaskException;
+import io.kestra.core.models.tasks.runners.DefaultLogConsumer;
 import io.kestra.core.models.tasks.runners.TaskRunnerResult;
 import io.kestra.core.models.tasks.runners.TaskCommands;
 import io.kestra.core.models.tasks.Task;
@@ -12,19 +14,27 @@ import io.kestra.core.runners.RunContextFactory;
 import io.kestra.core.utils.Await;
 import io.kestra.core.utils.TestsUtils;
 import io.kestra.plugin.scripts.exec.scripts.models.DockerOptions;
+import io.kestra.plugin.scripts.exec.scripts.models.RunnerType;
+import io.kestra.plugin.scripts.exec.scripts.models.ScriptOutput;
 import io.kestra.plugin.scripts.exec.scripts.runners.CommandsWrapper;
 import io.kestra.plugin.scripts.runner.docker.Docker;
 import io.kestra.core.junit.annotations.KestraTest;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.slf4j.event.Level;
 import reactor.core.publisher.Flux;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -123,4 +133,77 @@ public class LogConsumerTest {
         assertThat(logs.stream().filter(m -> m.getLevel().equals(Level.TRACE)).filter(m -> m.getMessage().contains("Trace 2")).count(), is(1L));
         assertThat(logs.stream().filter(m -> m.getLevel().equals(Level.TRACE)).count(), greaterThanOrEqualTo(5L));
     }
+
+    @Test
+    void sampled() throws Exception {
+        List<LogEntry> logs = new CopyOnWriteArrayList<>();
+        Flux<LogEntry> receive = TestsUtils.receive(logQueue, l -> logs.add(l.getLeft()));
+
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, TASK, ImmutableMap.of());
+        DefaultLogConsumer logConsumer = new DefaultLogConsumer(runContext, 10);
+        for (int i = 0; i < 250; i++) {
+            logConsumer.accept("sampled line " + i, false);
+        }
+        logConsumer.accept("::{\"outputs\":{\"someOutput\":\"value\"}}::", false);
+        logConsumer.flush();
+
+        assertThat(logConsumer.getStdOutCount(), is(251));
+        assertThat(logConsumer.getOutputs().get("someOutput"), is("value"));
+
+        List<String> rawLines = readLines(runContext, logConsumer.getRawOutput());
+        assertThat(rawLines, hasSize(250));
+        assertThat(rawLines.getFirst(), is("sampled line 0"));
+        assertThat(rawLines.getLast(), is("sampled line 249"));
+
+        Await.until(
+            () -> logs.stream().anyMatch(l -> l.getMessage().contains("sampled 1 out of 10")),
+            Duration.ofMillis(50),
+            Duration.ofSeconds(5)
+        );
+        receive.blockLast();
+
+        List<String> sampledLines = logs.stream()
+            .filter(l -> l.getMessage().startsWith("sampled line "))
+            .flatMap(l -> l.getMessage().lines())
+            .toList();
+        assertThat(sampledLines, hasSize(25));
+        assertThat(sampledLines, hasItems("sampled line 0", "sampled line 10", "sampled line 240"));
+    }
+
+    @Test
+    void sampledRawOutput() throws Exception {
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, TASK, ImmutableMap.of());
+        ScriptOutput run = new CommandsWrapper(runContext)
+            .withRunnerType(RunnerType.PROCESS)
+            .withLogConsumer(new DefaultLogConsumer(runContext, 5))
+            .withCommands(List.of("/bin/sh", "-c", "for i in $(seq 1 20); do echo \"line $i\"; done"))
+            .run();
+
+        assertThat(run.getExitCode(), is(0));
+        assertThat(run.getStdOutLineCount(), is(20));
+        assertThat(readLines(runContext, run.getRawOutput()), hasSize(20));
+    }
+
+    @Test
+    void sampledRawOutputOnFailure() throws Exception {
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, TASK, ImmutableMap.of());
+        CommandsWrapper commands = new CommandsWrapper(runContext)
+            .withRunnerType(RunnerType.PROCESS)
+            .withLogConsumer(new DefaultLogConsumer(runContext, 5))
+            .withCommands(List.of("/bin/sh", "-c", "for i in $(seq 1 20); do echo \"line $i\"; done; exit 1"));
+
+        RunnableTaskException exception = Assertions.assertThrows(RunnableTaskException.class, commands::run);
+
+        ScriptOutput output = (ScriptOutput) exception.getOutput();
+        assertThat(output.getExitCode(), is(1));
+        assertThat(readLines(runContext, output.getRawOutput()), hasSize(20));
+    }
+
+    private static List<String> readLines(RunContext runContext, URI uri) throws IOException {
+        assertThat(uri, notNullValue());
+
+        try (InputStream inputStream = runContext.storage().getFile(uri)) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+        }
+    }
 }
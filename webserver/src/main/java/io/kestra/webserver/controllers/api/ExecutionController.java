@@ -40,6 +40,7 @@ import io.kestra.plugin.core.trigger.Webhook;
 import io.kestra.webserver.converters.QueryFilterFormat;
 import io.kestra.webserver.responses.BulkErrorResponse;
 import io.kestra.webserver.responses.BulkResponse;
+import io.kestra.webserver.responses.ExecutionDelta;
 import io.kestra.webserver.responses.PagedResults;
 import io.kestra.webserver.services.ExecutionStreamingService;
 import io.kestra.webserver.utils.PageableUtils;
@@ -112,6 +113,7 @@ import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.*;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import static io.kestra.core.models.Label.CORRELATION_ID;
@@ -1529,18 +1531,21 @@ public class ExecutionController {
 
                 Flow flow = flowRepository.findByExecutionWithoutAcl(execution);
 
+                // Register for updates before reading the current state, so no update is lost in-between,
+                // the updates received meanwhile are held until the current state is sent
+                BoundedEventSink<Execution> sink = streamingService.registerHeldSubscriber(executionId, subscriberId, emitter, flow);
+                Execution current = executionRepository.findById(tenantService.resolveTenant(), executionId).orElse(execution);
+
                 // If execution is already complete, just send final state
-                if (streamingService.isStopFollow(flow, execution)) {
-                    emitter.next(Event.of(execution).id("end"));
+                if (streamingService.isStopFollow(flow, current)) {
+                    streamingService.unregisterSubscriber(executionId, subscriberId);
+                    emitter.next(Event.of(current).id("end"));
                     emitter.complete();
                     return;
                 }
 
-                // Send current state
-                emitter.next(Event.of(execution).id("progress"));
-
-                // Register for updates
-                streamingService.registerSubscriber(executionId, subscriberId, emitter, flow);
+                // Send current state, then the held updates
+                sink.release(Event.of(current).id("progress"));
             } catch (TimeoutException e) {
                 emitter.error(new HttpStatusException(HttpStatus.NOT_FOUND,
                     "Unable to find execution " + executionId));
@@ -1552,6 +1557,32 @@ public class ExecutionController {
             .doFinally(ignored -> streamingService.unregisterSubscriber(executionId, subscriberId));
     }
 
+    @ExecuteOn(TaskExecutors.IO)
+    @Get(uri = "/{executionId}/follow/delta", produces = MediaType.TEXT_EVENT_STREAM)
+    @Operation(
+        tags = {"Executions"},
+        summary = "Follow an execution, sending only what changed",
+        description = "The first progress event holds the full execution, the following ones only the fields and task runs that changed since the previous event."
+    )
+    public Flux<Event<ExecutionDelta>> followDelta(
+        @Parameter(description = "The execution id") @PathVariable String executionId
+    ) {
+        return Flux.defer(() -> {
+            // the last execution sent to this subscriber, deltas are computed against it
+            AtomicReference<Execution> lastSent = new AtomicReference<>();
+
+            return this.follow(executionId)
+                .map(event -> {
+                    if ("start".equals(event.getId())) {
+                        return Event.of(ExecutionDelta.builder().id(executionId).build()).id("start");
+                    }
+
+                    Execution execution = event.getData();
+                    return Event.of(ExecutionDelta.of(lastSent.getAndSet(execution), execution)).id(event.getId());
+                });
+        });
+    }
+
     @ExecuteOn(TaskExecutors.IO)
     @Get(uri = "/{executionId}/file/preview")
     @Operation(tags = {"Executions"}, summary = "Get file preview for an execution")
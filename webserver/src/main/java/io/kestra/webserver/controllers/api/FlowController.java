@@ -29,6 +29,7 @@ import io.kestra.core.services.GraphService;
 import io.kestra.core.services.PluginDefaultService;
 import io.kestra.core.tenant.TenantService;
 import io.kestra.core.topologies.FlowTopologyService;
+import io.kestra.core.utils.ExecutorsUtils;
 import io.kestra.webserver.controllers.domain.IdWithNamespace;
 import io.kestra.webserver.converters.QueryFilterFormat;
 import io.kestra.webserver.responses.BulkResponse;
@@ -59,7 +60,11 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -98,6 +103,9 @@ public class FlowController {
     @Inject
     private TenantService tenantService;
 
+    @Inject
+    private ExecutorsUtils executorsUtils;
+
 
     @ExecuteOn(TaskExecutors.IO)
     @Get(uri = "{namespace}/{id}/graph")
@@ -305,14 +313,9 @@ public class FlowController {
         @Parameter(description = "A list of flows") @Body @Nullable String flows,
         @Parameter(description = "If missing flow should be deleted") @QueryValue(defaultValue = "true") Boolean delete
     ) throws ConstraintViolationException {
-        List<String> sources = flows != null ? List.of(flows.split("---")) : new ArrayList<>();
-
         return this.bulkUpdateOrCreate(
             namespace,
-            sources
-                .stream()
-                .map(flow -> FlowWithSource.of(yamlParser.parse(flow, Flow.class), flow.trim()))
-                .toList(),
+            this.parseFlows(flows),
             delete
         );
     }
@@ -352,6 +355,39 @@ public class FlowController {
             .toList();
     }
 
+    /**
+     * Parse a multi-objects YAML, the flows are parsed in parallel on a pool bounded to the available processors.
+     */
+    protected List<FlowWithSource> parseFlows(@Nullable String flows) {
+        if (flows == null) {
+            return new ArrayList<>();
+        }
+
+        ExecutorService executorService = executorsUtils.batchThreadPool("flow-parsing");
+        try {
+            List<CompletableFuture<FlowWithSource>> parsed = Stream.of(flows.split("---"))
+                .map(flow -> CompletableFuture.supplyAsync(() -> FlowWithSource.of(yamlParser.parse(flow, Flow.class), flow.trim()), executorService))
+                .toList();
+
+            return parsed.stream()
+                .map(future -> {
+                    try {
+                        return future.join();
+                    } catch (CompletionException e) {
+                        // let the validation errors of a flow be thrown as they are
+                        if (e.getCause() instanceof RuntimeException runtimeException) {
+                            throw runtimeException;
+                        }
+
+                        throw e;
+                    }
+                })
+                .toList();
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
     protected List<FlowWithSource> bulkUpdateOrCreate(@Nullable String namespace, List<FlowWithSource> flows, Boolean delete) {
 
         if (namespace != null) {
@@ -391,35 +427,48 @@ public class FlowController {
         }
 
         // list all ids of updated flows
-        List<String> ids = flows
+        Set<String> ids = flows
             .stream()
             .map(Flow::getId)
-            .toList();
+            .collect(Collectors.toSet());
+
+        // load the existing flows at once instead of one query per flow
+        String tenantId = tenantService.resolveTenant();
+        List<FlowWithSource> existing;
+        if (namespace != null) {
+            existing = flowRepository.findByNamespaceWithSource(tenantId, namespace);
+        } else if (delete) {
+            existing = flowRepository.findAllWithSource(tenantId);
+        } else {
+            existing = flows.stream()
+                .map(Flow::getNamespace)
+                .distinct()
+                .flatMap(flowNamespace -> flowRepository.findByNamespaceWithSource(tenantId, flowNamespace).stream())
+                .toList();
+        }
 
         // delete all not in updated ids
         List<FlowWithSource> deleted = new ArrayList<>();
         if (delete) {
-            if (namespace != null) {
-                deleted = flowRepository
-                    .findByNamespaceWithSource(tenantService.resolveTenant(), namespace);
-            } else {
-                deleted = flowRepository
-                    .findAllWithSource(tenantService.resolveTenant());
-            }
-            deleted = deleted.stream()
+            deleted = existing.stream()
                 .filter(flow -> !ids.contains(flow.getId()))
                 .peek(flow -> flowRepository.delete(flow))
                 .toList();
         }
 
-        // update or create flows
+        // update or create flows, flows with an unchanged source are neither validated nor saved again
+        Map<String, FlowWithSource> existingByKey = existing.stream()
+            .collect(Collectors.toMap(flow -> flow.getNamespace() + "/" + flow.getId(), Function.identity(), (a, b) -> a));
+
         List<FlowWithSource> updatedOrCreated = flows.stream()
             .map(flowWithSource -> {
-                Optional<Flow> existingFlow = flowRepository.findById(tenantService.resolveTenant(), flowWithSource.getNamespace(), flowWithSource.getId());
-                if (existingFlow.isPresent()) {
-                    return flowRepository.update(flowWithSource, existingFlow.get(), flowWithSource.getSource(), pluginDefaultService.injectDefaults(flowWithSource));
-                } else {
+                FlowWithSource existingFlow = existingByKey.get(flowWithSource.getNamespace() + "/" + flowWithSource.getId());
+                if (existingFlow == null) {
                     return this.doCreate(flowWithSource, flowWithSource.getSource());
+                } else if (Objects.equals(existingFlow.getSource(), flowWithSource.getSource())) {
+                    return existingFlow;
+                } else {
+                    return flowRepository.update(flowWithSource, existingFlow, flowWithSource.getSource(), pluginDefaultService.injectDefaults(flowWithSource));
                 }
             })
             .toList();
@@ -484,14 +533,9 @@ public class FlowController {
         @Parameter(description = "A list of flows") @Body @Nullable String flows,
         @Parameter(description = "If missing flow should be deleted") @QueryValue(defaultValue = "true") Boolean delete
     ) throws ConstraintViolationException {
-        List<String> sources = flows != null ? List.of(flows.split("---")) : new ArrayList<>();
-
         return this.bulkUpdateOrCreate(
             null,
-            sources
-                .stream()
-                .map(flow -> FlowWithSource.of(yamlParser.parse(flow, Flow.class), flow.trim()))
-                .toList(),
+            this.parseFlows(flows),
             delete
         );
     }
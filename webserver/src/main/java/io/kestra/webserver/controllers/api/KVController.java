@@ -18,6 +18,7 @@ import io.micronaut.scheduling.annotation.ExecuteOn;
 import io.micronaut.validation.Validated;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.annotation.Nullable;
 import jakarta.inject.Inject;
 
 import java.io.*;
@@ -35,6 +36,11 @@ public class KVController {
     private StorageInterface storageInterface;
     @Inject
     private TenantService tenantService;
+    @Inject
+    private KVValueCache kvValueCache;
+    @Inject
+    @Nullable
+    private KVVersionStorage kvVersionStorage;
 
     @ExecuteOn(TaskExecutors.IO)
     @Get
@@ -149,7 +155,7 @@ public class KVController {
     }
 
     private KVStore kvStore(String namespace) {
-        return new InternalKVStore(tenantService.resolveTenant(), namespace, storageInterface);
+        return new InternalKVStore(tenantService.resolveTenant(), namespace, storageInterface, kvValueCache, kvVersionStorage);
     }
 
     public record TypedValue(KVType type, Object value) {
@@ -1,17 +1,13 @@
 package io.kestra.webserver.controllers.api;
 
 import io.kestra.core.docs.*;
-import io.kestra.core.models.dashboards.Dashboard;
-import io.kestra.core.models.flows.Flow;
 import io.kestra.core.models.flows.Input;
-import io.kestra.core.models.flows.PluginDefault;
 import io.kestra.core.models.flows.Type;
 import io.kestra.core.models.tasks.FlowableTask;
-import io.kestra.core.models.tasks.Task;
-import io.kestra.core.models.templates.Template;
-import io.kestra.core.models.triggers.AbstractTrigger;
 import io.kestra.core.plugins.PluginRegistry;
 import io.kestra.core.plugins.RegisteredPlugin;
+import io.kestra.core.utils.Hashing;
+import io.kestra.webserver.services.PluginSchemaService;
 import io.micronaut.cache.annotation.Cacheable;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
@@ -20,6 +16,7 @@ import io.micronaut.http.HttpResponse;
 import io.micronaut.http.MutableHttpResponse;
 import io.micronaut.http.annotation.Controller;
 import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Header;
 import io.micronaut.http.annotation.PathVariable;
 import io.micronaut.http.annotation.QueryValue;
 import io.micronaut.scheduling.TaskExecutors;
@@ -47,6 +44,9 @@ public class PluginController {
     @Inject
     private PluginRegistry pluginRegistry;
 
+    @Inject
+    private PluginSchemaService pluginSchemaService;
+
     @Get(uri = "schemas/{type}")
     @ExecuteOn(TaskExecutors.IO)
     @Operation(
@@ -56,32 +56,22 @@ public class PluginController {
     )
     public HttpResponse<Map<String, Object>> schemas(
         @Parameter(description = "The schema needed") @PathVariable SchemaType type,
-        @Parameter(description = "If schema should be an array of requested type") @Nullable @QueryValue(value = "arrayOf", defaultValue = "false") Boolean arrayOf
+        @Parameter(description = "If schema should be an array of requested type") @Nullable @QueryValue(value = "arrayOf", defaultValue = "false") Boolean arrayOf,
+        @Parameter(hidden = true) @Nullable @Header(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch
     ) {
+        PluginSchemaService.PluginSchema schema = pluginSchemaService.schema(type, Boolean.TRUE.equals(arrayOf));
+        if (schema.etag().equals(ifNoneMatch)) {
+            return HttpResponse.<Map<String, Object>>notModified()
+                .header(HttpHeaders.ETAG, schema.etag())
+                .header(HttpHeaders.CACHE_CONTROL, CACHE_DIRECTIVE);
+        }
+
         return HttpResponse.ok()
-            .body(this.schemasCache(type, arrayOf))
+            .body(schema.schema())
+            .header(HttpHeaders.ETAG, schema.etag())
             .header(HttpHeaders.CACHE_CONTROL, CACHE_DIRECTIVE);
     }
 
-    @Cacheable("default")
-    protected Map<String, Object> schemasCache(SchemaType type, boolean arrayOf) {
-        if (type == SchemaType.flow) {
-            return jsonSchemaGenerator.schemas(Flow.class, arrayOf);
-        } else if (type == SchemaType.template) {
-            return jsonSchemaGenerator.schemas(Template.class, arrayOf);
-        } else if (type == SchemaType.task) {
-            return jsonSchemaGenerator.schemas(Task.class, arrayOf);
-        } else if (type == SchemaType.trigger) {
-            return jsonSchemaGenerator.schemas(AbstractTrigger.class, arrayOf);
-        } else if (type == SchemaType.plugindefault) {
-            return jsonSchemaGenerator.schemas(PluginDefault.class, arrayOf);
-        } else if (type == SchemaType.dashboard) {
-            return jsonSchemaGenerator.schemas(Dashboard.class, arrayOf);
-        } else {
-            throw new IllegalArgumentException("Invalid type " + type);
-        }
-    }
-
     @Get(uri = "inputs")
     @ExecuteOn(TaskExecutors.IO)
     @Operation(
@@ -214,8 +204,17 @@ public class PluginController {
     @Operation(tags = {"Plugins"}, summary = "Get plugin documentation")
     public HttpResponse<DocumentationWithSchema> pluginDocumentation(
         @Parameter(description = "The plugin full class name") @PathVariable String cls,
-        @Parameter(description = "Include all the properties") @QueryValue(value = "all", defaultValue = "false") Boolean allProperties
+        @Parameter(description = "Include all the properties") @QueryValue(value = "all", defaultValue = "false") Boolean allProperties,
+        @Parameter(hidden = true) @Nullable @Header(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch
     ) throws IOException {
+        // the documentation only depends on the plugins, so it doesn't need to be generated to know if it changed
+        String etag = "\"" + Hashing.hashToString(pluginSchemaService.fingerprint() + ":" + cls + ":" + allProperties) + "\"";
+        if (etag.equals(ifNoneMatch)) {
+            return HttpResponse.<DocumentationWithSchema>notModified()
+                .header(HttpHeaders.ETAG, etag)
+                .header(HttpHeaders.CACHE_CONTROL, CACHE_DIRECTIVE);
+        }
+
         ClassPluginDocumentation classPluginDocumentation = pluginDocumentation(
             pluginRegistry.plugins(),
             cls,
@@ -233,6 +232,7 @@ public class PluginController {
                     classPluginDocumentation.getDefs()
                 )
             ))
+            .header(HttpHeaders.ETAG, etag)
             .header(HttpHeaders.CACHE_CONTROL, CACHE_DIRECTIVE);
     }
 
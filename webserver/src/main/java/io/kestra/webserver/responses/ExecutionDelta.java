@@ -0,0 +1,94 @@
+package io.kestra.webserver.responses;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.kestra.core.models.Label;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.TaskRun;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.utils.ListUtils;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * A change of an execution, sent by the delta follow endpoint.
+ * The first event holds the full execution in the <code>snapshot</code>, the following ones only hold the fields
+ * that changed since the previous event: the state, the labels, the outputs and the task runs that were added, updated or removed.
+ */
+@Builder
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ExecutionDelta {
+    String id;
+
+    Execution snapshot;
+
+    State state;
+
+    List<Label> labels;
+
+    Map<String, Object> outputs;
+
+    List<TaskRun> taskRunList;
+
+    List<String> removedTaskRunIds;
+
+    public static ExecutionDelta snapshot(Execution execution) {
+        return ExecutionDelta.builder()
+            .id(execution.getId())
+            .snapshot(execution)
+            .build();
+    }
+
+    /**
+     * Compute the delta between the previously sent execution and the current one.
+     */
+    public static ExecutionDelta of(Execution previous, Execution current) {
+        if (previous == null) {
+            return snapshot(current);
+        }
+
+        ExecutionDelta.ExecutionDeltaBuilder builder = ExecutionDelta.builder().id(current.getId());
+
+        if (!Objects.equals(previous.getState(), current.getState())) {
+            builder.state(current.getState());
+        }
+
+        if (!Objects.equals(previous.getLabels(), current.getLabels())) {
+            builder.labels(current.getLabels());
+        }
+
+        if (!Objects.equals(previous.getOutputs(), current.getOutputs())) {
+            builder.outputs(current.getOutputs());
+        }
+
+        Map<String, TaskRun> previousTaskRuns = ListUtils.emptyOnNull(previous.getTaskRunList())
+            .stream()
+            .collect(Collectors.toMap(TaskRun::getId, Function.identity(), (a, b) -> b, HashMap::new));
+
+        List<TaskRun> changed = ListUtils.emptyOnNull(current.getTaskRunList())
+            .stream()
+            .filter(taskRun -> !taskRun.equals(previousTaskRuns.get(taskRun.getId())))
+            .toList();
+
+        if (!changed.isEmpty()) {
+            builder.taskRunList(changed);
+        }
+
+        Set<String> currentIds = ListUtils.emptyOnNull(current.getTaskRunList()).stream().map(TaskRun::getId).collect(Collectors.toSet());
+        List<String> removed = previousTaskRuns.keySet().stream().filter(id -> !currentIds.contains(id)).toList();
+
+        if (!removed.isEmpty()) {
+            builder.removedTaskRunIds(removed);
+        }
+
+        return builder.build();
+    }
+}
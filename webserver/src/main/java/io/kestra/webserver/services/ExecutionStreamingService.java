@@ -1,10 +1,12 @@
 package io.kestra.webserver.services;
 
+import io.kestra.core.metrics.MetricRegistry;
 import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.flows.Flow;
 import io.kestra.core.models.flows.State;
 import io.kestra.core.queues.QueueFactoryInterface;
 import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.services.BoundedEventSink;
 import io.kestra.core.services.ConditionService;
 import io.micronaut.http.sse.Event;
 import jakarta.annotation.PostConstruct;
@@ -18,6 +20,7 @@ import reactor.core.publisher.FluxSink;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * This service offers a fanout mechanism so a single consumer of the execution queue can dispatch execution
@@ -26,31 +29,42 @@ import java.util.concurrent.ConcurrentHashMap;
  * <p>
  * Consumers need first to register themselves via {@link #registerSubscriber(String, String, FluxSink, Flow)},
  * then unregister (ideally in a finally block to avoid any memory leak) via {@link #unregisterSubscriber(String, String)}.
+ * <p>
+ * The queue consumer only runs while there are subscribers, and skips the messages of the other executions before deserializing them.
+ * As each event is a full execution, only the latest one is kept for a subscriber that doesn't keep up.
  */
 @Slf4j
 @Singleton
 public class ExecutionStreamingService {
-    private final Map<String, Map<String, Pair<FluxSink<Event<Execution>>, Flow>>> subscribers = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Pair<BoundedEventSink<Execution>, Flow>>> subscribers = new ConcurrentHashMap<>();
     private final Object subscriberLock = new Object();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
 
     private final QueueInterface<Execution> executionQueue;
     private final ConditionService conditionService;
+    private final MetricRegistry metricRegistry;
 
     private Runnable queueConsumer;
 
     @Inject
     public ExecutionStreamingService(
         @Named(QueueFactoryInterface.EXECUTION_NAMED) QueueInterface<Execution> executionQueue,
-        ConditionService conditionService
+        ConditionService conditionService,
+        MetricRegistry metricRegistry
     ) {
         this.executionQueue = executionQueue;
         this.conditionService = conditionService;
+        this.metricRegistry = metricRegistry;
     }
 
     @PostConstruct
-    void startQueueConsumer() {
+    void registerMetrics() {
+        metricRegistry.gauge(MetricRegistry.STREAMING_SUBSCRIBER_COUNT, subscriberCount, MetricRegistry.TAG_CLASS_NAME, Execution.class.getName());
+    }
+
+    private void startQueueConsumer() {
         // Single queue consumer
-        this.queueConsumer = executionQueue.receive(either -> {
+        this.queueConsumer = executionQueue.receiveForExecutions(id -> id != null && subscribers.containsKey(id), either -> {
             if (either.isRight()) {
                 log.error("Unable to deserialize execution: {}", either.getRight().getMessage());
                 return;
@@ -60,7 +74,7 @@ public class ExecutionStreamingService {
             String executionId = execution.getId();
 
             // Get all subscribers for this execution
-            Map<String, Pair<FluxSink<Event<Execution>>, Flow>> executionSubscribers = subscribers.get(executionId);
+            Map<String, Pair<BoundedEventSink<Execution>, Flow>> executionSubscribers = subscribers.get(executionId);
 
             if (executionSubscribers != null && !executionSubscribers.isEmpty()) {
                 executionSubscribers.values().forEach(pair -> {
@@ -87,11 +101,41 @@ public class ExecutionStreamingService {
      * All subscribers must ensure to call {@link #unregisterSubscriber(String, String)} to avoid any memory leak.
      */
     public void registerSubscriber(String executionId, String subscriberId, FluxSink<Event<Execution>> sink, Flow flow) {
+        this.register(executionId, subscriberId, sink, flow, false);
+    }
+
+    /**
+     * Register a subscriber to an execution, holding its updates until its initial state is sent with {@link BoundedEventSink#release(Event)}.
+     * As the queue consumer starts from the last message when it starts, this must be called before reading the initial state
+     * of the execution, so no update is lost in-between.
+     * All subscribers must ensure to call {@link #unregisterSubscriber(String, String)} to avoid any memory leak.
+     */
+    public BoundedEventSink<Execution> registerHeldSubscriber(String executionId, String subscriberId, FluxSink<Event<Execution>> sink, Flow flow) {
+        return this.register(executionId, subscriberId, sink, flow, true);
+    }
+
+    private BoundedEventSink<Execution> register(String executionId, String subscriberId, FluxSink<Event<Execution>> sink, Flow flow, boolean held) {
+        BoundedEventSink<Execution> boundedSink = new BoundedEventSink<>(
+            sink,
+            1,
+            () -> metricRegistry.counter(MetricRegistry.STREAMING_EVENT_DROPPED_COUNT, MetricRegistry.TAG_CLASS_NAME, Execution.class.getName()).increment()
+        );
+        if (held) {
+            boundedSink.hold();
+        }
+
         // it needs to be synchronized as we get and remove if empty, so we must be sure that nobody else is adding a new one in-between
         synchronized (subscriberLock) {
             subscribers.computeIfAbsent(executionId, k -> new ConcurrentHashMap<>())
-                .put(subscriberId, Pair.of(sink, flow));
+                .put(subscriberId, Pair.of(boundedSink, flow));
+            subscriberCount.incrementAndGet();
+
+            if (queueConsumer == null) {
+                this.startQueueConsumer();
+            }
         }
+
+        return boundedSink;
     }
 
     /**
@@ -101,13 +145,22 @@ public class ExecutionStreamingService {
     public void unregisterSubscriber(String executionId, String subscriberId) {
         // it needs to be synchronized as we get and remove if empty, so we must be sure that nobody else is adding a new one in-between
         synchronized (subscriberLock) {
-            Map<String, Pair<FluxSink<Event<Execution>>, Flow>> executionSubscribers = subscribers.get(executionId);
+            Map<String, Pair<BoundedEventSink<Execution>, Flow>> executionSubscribers = subscribers.get(executionId);
             if (executionSubscribers != null) {
-                executionSubscribers.remove(subscriberId);
+                if (executionSubscribers.remove(subscriberId) != null) {
+                    subscriberCount.decrementAndGet();
+                }
+
                 if (executionSubscribers.isEmpty()) {
                     subscribers.remove(executionId);
                 }
             }
+
+            // stop consuming the queue when nobody follows an execution anymore
+            if (subscribers.isEmpty() && queueConsumer != null) {
+                queueConsumer.run();
+                queueConsumer = null;
+            }
         }
     }
 
@@ -121,8 +174,11 @@ public class ExecutionStreamingService {
 
     @PreDestroy
     void shutdown() {
-        if (queueConsumer != null) {
-            queueConsumer.run();
+        synchronized (subscriberLock) {
+            if (queueConsumer != null) {
+                queueConsumer.run();
+                queueConsumer = null;
+            }
         }
     }
-}
\ No newline at end of file
+}
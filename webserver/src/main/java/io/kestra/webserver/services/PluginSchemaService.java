@@ -0,0 +1,112 @@
+package io.kestra.webserver.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.kestra.core.docs.JsonSchemaGenerator;
+import io.kestra.core.docs.SchemaType;
+import io.kestra.core.models.dashboards.Dashboard;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.flows.PluginDefault;
+import io.kestra.core.models.tasks.Task;
+import io.kestra.core.models.templates.Template;
+import io.kestra.core.models.triggers.AbstractTrigger;
+import io.kestra.core.plugins.PluginRegistry;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.core.utils.Hashing;
+import io.kestra.webserver.annotation.WebServerEnabled;
+import io.micronaut.runtime.event.annotation.EventListener;
+import io.micronaut.runtime.server.event.ServerStartupEvent;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Computes the JSON schemas once per set of plugins, along with a strong ETag.
+ * <p>
+ * Schemas are generated in the background when the server starts, so the first UI load doesn't wait for them.
+ * They are dropped when the plugin registry changes, which is detected by a fingerprint of the registered plugins.
+ */
+@Singleton
+@WebServerEnabled
+@Slf4j
+public class PluginSchemaService {
+    private static final ObjectMapper MAPPER = JacksonMapper.ofJson();
+
+    @Inject
+    private JsonSchemaGenerator jsonSchemaGenerator;
+
+    @Inject
+    private PluginRegistry pluginRegistry;
+
+    private final Map<SchemaKey, PluginSchema> schemas = new ConcurrentHashMap<>();
+    private volatile String fingerprint;
+
+    @EventListener
+    public void onServerStartup(ServerStartupEvent event) {
+        Thread.ofVirtual().name("plugin-schemas-warmup").start(() -> {
+            long start = System.currentTimeMillis();
+            for (SchemaType type : SchemaType.values()) {
+                for (boolean arrayOf : new boolean[]{false, true}) {
+                    try {
+                        this.schema(type, arrayOf);
+                    } catch (IllegalArgumentException e) {
+                        // not all the types have a schema
+                    } catch (Exception e) {
+                        log.warn("Unable to generate the '{}' schema", type, e);
+                    }
+                }
+            }
+            log.debug("Generated plugin schemas in {}ms", System.currentTimeMillis() - start);
+        });
+    }
+
+    public PluginSchema schema(SchemaType type, boolean arrayOf) {
+        String current = this.fingerprint();
+        if (!current.equals(this.fingerprint)) {
+            this.schemas.clear();
+            this.fingerprint = current;
+        }
+
+        return this.schemas.computeIfAbsent(new SchemaKey(type, arrayOf), key -> {
+            Map<String, Object> schema = this.generate(key.type(), key.arrayOf());
+            try {
+                return new PluginSchema(schema, "\"" + Hashing.hashToString(MAPPER.writeValueAsString(schema)) + "\"");
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Unable to serialize the '" + key.type() + "' schema", e);
+            }
+        });
+    }
+
+    /**
+     * @return a value that changes when a plugin is added, removed or upgraded.
+     */
+    public String fingerprint() {
+        return Hashing.hashToString(this.pluginRegistry.plugins()
+            .stream()
+            .map(plugin -> plugin.path() + ":" + plugin.version() + ":" + plugin.allClass().size())
+            .sorted(Comparator.naturalOrder())
+            .collect(Collectors.joining(","))
+        );
+    }
+
+    private Map<String, Object> generate(SchemaType type, boolean arrayOf) {
+        return switch (type) {
+            case flow -> jsonSchemaGenerator.schemas(Flow.class, arrayOf);
+            case template -> jsonSchemaGenerator.schemas(Template.class, arrayOf);
+            case task -> jsonSchemaGenerator.schemas(Task.class, arrayOf);
+            case trigger -> jsonSchemaGenerator.schemas(AbstractTrigger.class, arrayOf);
+            case plugindefault -> jsonSchemaGenerator.schemas(PluginDefault.class, arrayOf);
+            case dashboard -> jsonSchemaGenerator.schemas(Dashboard.class, arrayOf);
+            default -> throw new IllegalArgumentException("Invalid type " + type);
+        };
+    }
+
+    public record PluginSchema(Map<String, Object> schema, String etag) {}
+
+    private record SchemaKey(SchemaType type, boolean arrayOf) {}
+}
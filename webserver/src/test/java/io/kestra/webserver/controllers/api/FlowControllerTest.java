@@ -32,9 +32,12 @@ import io.kestra.core.models.hierarchies.FlowGraph;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.Task;
 import io.kestra.core.models.validations.ValidateConstraintViolation;
+import io.kestra.core.queues.QueueFactoryInterface;
+import io.kestra.core.queues.QueueInterface;
 import io.kestra.core.repositories.LocalFlowRepositoryLoader;
 import io.kestra.core.serializers.JacksonMapper;
 import io.kestra.core.serializers.YamlParser;
+import io.kestra.core.utils.Await;
 import io.kestra.core.utils.IdUtils;
 import io.kestra.core.utils.TestsUtils;
 import io.kestra.jdbc.JdbcTestUtils;
@@ -56,6 +59,7 @@ import io.micronaut.http.client.multipart.MultipartBody;
 import io.micronaut.http.hateoas.JsonError;
 import io.micronaut.reactor.http.client.ReactorHttpClient;
 import jakarta.inject.Inject;
+import jakarta.inject.Named;
 import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
@@ -65,16 +69,20 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.ZipFile;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
 
 @KestraTest
 class FlowControllerTest {
@@ -91,6 +99,10 @@ class FlowControllerTest {
     @Inject
     protected LocalFlowRepositoryLoader repositoryLoader;
 
+    @Inject
+    @Named(QueueFactoryInterface.FLOW_NAMED)
+    protected QueueInterface<FlowWithSource> flowQueue;
+
     @BeforeAll
     public static void beforeAll() {
         Helpers.loadExternalPluginsFromClasspath();
@@ -299,6 +311,50 @@ class FlowControllerTest {
         client.toBlocking().exchange(DELETE("/api/v1/flows/io.kestra.updatenamespace/flow3"));
     }
 
+    @Test
+    void updateNamespaceUnchanged() throws TimeoutException {
+        String namespace = "io.kestra.reimport";
+        String flows = String.join("---\n", Arrays.asList(
+            generateFlowAsString("flow1", namespace, "a"),
+            generateFlowAsString("flow2", namespace, "a")
+        ));
+
+        AtomicInteger updates = new AtomicInteger();
+        AtomicInteger markers = new AtomicInteger();
+        Flux<FlowWithSource> receive = TestsUtils.receive(flowQueue, either -> {
+            if (either.getLeft().getNamespace().equals(namespace)) {
+                updates.incrementAndGet();
+            } else if (either.getLeft().getNamespace().equals("io.kestra.reimport.marker")) {
+                markers.incrementAndGet();
+            }
+        });
+
+        List<FlowWithSource> created = client.toBlocking().retrieve(
+            POST("/api/v1/flows/" + namespace, flows).contentType(MediaType.APPLICATION_YAML),
+            Argument.listOf(FlowWithSource.class)
+        );
+        assertThat(created.stream().map(FlowWithSource::getRevision).toList(), Matchers.contains(1, 1));
+        Await.until(() -> updates.get() == 2, Duration.ofMillis(10), Duration.ofSeconds(10));
+
+        // re-importing the same sources doesn't create revisions nor send updates
+        List<FlowWithSource> reimported = client.toBlocking().retrieve(
+            POST("/api/v1/flows/" + namespace, flows).contentType(MediaType.APPLICATION_YAML),
+            Argument.listOf(FlowWithSource.class)
+        );
+        assertThat(reimported.stream().map(FlowWithSource::getRevision).toList(), Matchers.contains(1, 1));
+        assertThat(parseFlow(client.toBlocking().retrieve(GET("/api/v1/flows/" + namespace + "/flow1"), String.class)).getRevision(), is(1));
+
+        // the queue is ordered, so an update sent after the re-import would be received before this one
+        client.toBlocking().retrieve(
+            POST("/api/v1/flows/io.kestra.reimport.marker", generateFlowAsString("marker", "io.kestra.reimport.marker", "a")).contentType(MediaType.APPLICATION_YAML),
+            Argument.listOf(FlowWithSource.class)
+        );
+        Await.until(() -> markers.get() == 1, Duration.ofMillis(10), Duration.ofSeconds(10));
+        assertThat(updates.get(), is(2));
+
+        receive.blockLast();
+    }
+
     @Test
     void createFlow() {
         Flow flow = generateFlow("io.kestra.unittest", "a");
@@ -9,7 +9,10 @@ import io.kestra.core.models.annotations.PluginSubGroup;
 import io.kestra.plugin.core.debug.Return;
 import io.kestra.plugin.core.log.Log;
 import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
 import io.micronaut.reactor.http.client.ReactorHttpClient;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -178,6 +181,27 @@ class PluginControllerTest {
         });
     }
 
+    @Test
+    void schemaNotModified() throws URISyntaxException {
+        Helpers.runApplicationContext((applicationContext, embeddedServer) -> {
+            ReactorHttpClient client = ReactorHttpClient.create(embeddedServer.getURL());
+            HttpResponse<Map<String, Object>> response = client.toBlocking().exchange(
+                HttpRequest.GET("/api/v1/plugins/schemas/flow"),
+                Argument.mapOf(String.class, Object.class)
+            );
+
+            String etag = response.header(HttpHeaders.ETAG);
+            assertThat(etag, notNullValue());
+
+            HttpResponse<Map<String, Object>> notModified = client.toBlocking().exchange(
+                HttpRequest.GET("/api/v1/plugins/schemas/flow").header(HttpHeaders.IF_NONE_MATCH, etag),
+                Argument.mapOf(String.class, Object.class)
+            );
+            assertThat(notModified.getStatus(), is(HttpStatus.NOT_MODIFIED));
+            assertThat(notModified.header(HttpHeaders.ETAG), is(etag));
+        });
+    }
+
     @Test
     void template() throws URISyntaxException {
         Helpers.runApplicationContext((applicationContext, embeddedServer) -> {
@@ -0,0 +1,78 @@
+package io.kestra.webserver.responses;
+
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.TaskRun;
+import io.kestra.core.models.flows.State;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class ExecutionDeltaTest {
+    @Test
+    void firstEventIsASnapshot() {
+        Execution execution = execution(new State(), List.of(taskRun("first", new State())));
+
+        ExecutionDelta delta = ExecutionDelta.of(null, execution);
+
+        assertThat(delta.getSnapshot(), is(execution));
+        assertThat(delta.getTaskRunList(), nullValue());
+    }
+
+    @Test
+    void onlyChangedFields() {
+        State running = new State().withState(State.Type.RUNNING);
+        TaskRun first = taskRun("first", running);
+        TaskRun second = taskRun("second", new State());
+        Execution previous = execution(running, List.of(first, second));
+
+        TaskRun secondUpdated = second.withState(State.Type.RUNNING);
+        TaskRun third = taskRun("third", new State());
+        Execution current = execution(running, List.of(first, secondUpdated, third));
+
+        ExecutionDelta delta = ExecutionDelta.of(previous, current);
+
+        assertThat(delta.getSnapshot(), nullValue());
+        assertThat(delta.getState(), nullValue());
+        assertThat(delta.getTaskRunList(), contains(secondUpdated, third));
+        assertThat(delta.getRemovedTaskRunIds(), nullValue());
+    }
+
+    @Test
+    void stateChangeAndRemovedTaskRuns() {
+        State running = new State().withState(State.Type.RUNNING);
+        TaskRun first = taskRun("first", running);
+        Execution previous = execution(running, List.of(first, taskRun("second", running)));
+        Execution current = execution(running.withState(State.Type.SUCCESS), List.of(first));
+
+        ExecutionDelta delta = ExecutionDelta.of(previous, current);
+
+        assertThat(delta.getState().getCurrent(), is(State.Type.SUCCESS));
+        assertThat(delta.getTaskRunList(), nullValue());
+        assertThat(delta.getRemovedTaskRunIds(), contains("second"));
+    }
+
+    private static Execution execution(State state, List<TaskRun> taskRuns) {
+        return Execution.builder()
+            .id("execution")
+            .namespace("io.kestra.tests")
+            .flowId("flow")
+            .flowRevision(1)
+            .state(state)
+            .taskRunList(taskRuns)
+            .build();
+    }
+
+    private static TaskRun taskRun(String id, State state) {
+        return TaskRun.builder()
+            .id(id)
+            .executionId("execution")
+            .namespace("io.kestra.tests")
+            .flowId("flow")
+            .taskId(id)
+            .state(state)
+            .build();
+    }
+}
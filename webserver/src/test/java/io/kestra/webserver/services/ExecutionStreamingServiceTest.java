@@ -0,0 +1,137 @@
+package io.kestra.webserver.services;
+
+import io.kestra.core.exceptions.DeserializationException;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.services.BoundedEventSink;
+import io.kestra.core.services.ConditionService;
+import io.kestra.core.utils.Either;
+import io.micronaut.http.sse.Event;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class ExecutionStreamingServiceTest {
+    @Test
+    void shouldStartAndStopConsumerOnDemand() {
+        FakeQueue queue = new FakeQueue();
+        ExecutionStreamingService service = new ExecutionStreamingService(queue, new ConditionService(), null);
+
+        service.registerSubscriber("first", "subscriber-1", emitter(new ArrayList<>()), null);
+        service.registerSubscriber("first", "subscriber-2", emitter(new ArrayList<>()), null);
+        service.registerSubscriber("second", "subscriber-3", emitter(new ArrayList<>()), null);
+        assertThat(queue.started.get(), is(1));
+        assertThat(queue.filter.get().test("first"), is(true));
+        assertThat(queue.filter.get().test("other"), is(false));
+
+        service.unregisterSubscriber("first", "subscriber-1");
+        service.unregisterSubscriber("first", "subscriber-2");
+        assertThat(queue.stopped.get(), is(0));
+        assertThat(queue.filter.get().test("first"), is(false));
+
+        service.unregisterSubscriber("second", "subscriber-3");
+        assertThat(queue.stopped.get(), is(1));
+
+        service.registerSubscriber("third", "subscriber-4", emitter(new ArrayList<>()), null);
+        assertThat(queue.started.get(), is(2));
+
+        service.shutdown();
+        assertThat(queue.stopped.get(), is(2));
+    }
+
+    @Test
+    void shouldHoldUpdatesUntilInitialState() {
+        FakeQueue queue = new FakeQueue();
+        ExecutionStreamingService service = new ExecutionStreamingService(queue, new ConditionService(), null);
+        List<String> received = new ArrayList<>();
+
+        BoundedEventSink<Execution> sink = service.registerHeldSubscriber("exec", "subscriber", emitter(received), null);
+        queue.consumer.get().accept(Either.left(execution("exec")));
+        assertThat(received, empty());
+
+        sink.release(Event.of(execution("exec")).id("initial"));
+        assertThat(received, contains("initial", "progress"));
+
+        service.unregisterSubscriber("exec", "subscriber");
+        assertThat(queue.stopped.get(), is(1));
+    }
+
+    private static Execution execution(String id) {
+        return Execution.builder()
+            .id(id)
+            .state(new State())
+            .build();
+    }
+
+    private static FluxSink<Event<Execution>> emitter(List<String> received) {
+        AtomicReference<FluxSink<Event<Execution>>> emitter = new AtomicReference<>();
+        Flux.<Event<Execution>>create(emitter::set, FluxSink.OverflowStrategy.BUFFER)
+            .subscribe(event -> received.add(event.getId()));
+
+        return emitter.get();
+    }
+
+    private static class FakeQueue implements QueueInterface<Execution> {
+        private final AtomicInteger started = new AtomicInteger();
+        private final AtomicInteger stopped = new AtomicInteger();
+        private final AtomicReference<Predicate<String>> filter = new AtomicReference<>();
+        private final AtomicReference<Consumer<Either<Execution, DeserializationException>>> consumer = new AtomicReference<>();
+
+        @Override
+        public Runnable receiveForExecutions(Predicate<String> executionIdFilter, Consumer<Either<Execution, DeserializationException>> consumer) {
+            started.incrementAndGet();
+            this.filter.set(executionIdFilter);
+            this.consumer.set(consumer);
+
+            return stopped::incrementAndGet;
+        }
+
+        @Override
+        public void emit(String consumerGroup, Execution message) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void emitAsync(String consumerGroup, Execution message) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void delete(String consumerGroup, Execution message) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Runnable receive(String consumerGroup, Consumer<Either<Execution, DeserializationException>> consumer, boolean forUpdate) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Runnable receive(String consumerGroup, Class<?> queueType, Consumer<Either<Execution, DeserializationException>> consumer, boolean forUpdate) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void pause() {
+        }
+
+        @Override
+        public void resume() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}